@@ -8,6 +8,7 @@ const paymentSuccessRate = new Rate('payment_success_rate');
 const pointShortageErrors = new Counter('point_shortage_errors');
 
 // 결제 처리 Load Test - 포인트 차감 정합성 및 장바구니 연동 검증 (DAU 500 기준)
+// 재고 차감 방식 A/B 비교: 서버를 stock.deduction.type=PESSIMISTIC_LOCK | CONDITIONAL_UPDATE | REDIS 로 각각 기동 후 실행
 export const options = {
     stages: [
         { duration: '2m', target: 100 },   // 2분 동안 100명까지 증가
@@ -0,0 +1,76 @@
+package com.example.ecommerceapi.common.lock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 키 추출 비용 벤치마크 (호출 1회당 평균 시간)
+ * - parsePerCall: 변경 전 방식 (호출마다 파라미터 이름 조회 + 표현식 파싱 + StandardEvaluationContext 생성)
+ * - cachedCompiled: LockKeyExpressionEvaluator (메서드별 파싱/컴파일 결과와 파라미터 이름 재사용)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=LockKeyExtractionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockKeyExtractionBenchmark {
+
+    // CouponService.issueCoupon 락 키와 같은 형태
+    private static final String KEY_EXPRESSION = "'coupon:' + #command.couponId";
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final LockKeyExpressionEvaluator keyEvaluator = new LockKeyExpressionEvaluator();
+
+    private Method method;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = LockedService.class.getMethod("issueCoupon", IssueCommand.class);
+        args = new Object[]{new IssueCommand(1, 42)};
+    }
+
+    @Benchmark
+    public String parsePerCall() {
+        String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < paramNames.length; i++) {
+            context.setVariable(paramNames[i], args[i]);
+        }
+        Object key = parser.parseExpression(KEY_EXPRESSION).getValue(context);
+        return key != null ? key.toString() : "null";
+    }
+
+    @Benchmark
+    public String cachedCompiled() {
+        return keyEvaluator.evaluate(KEY_EXPRESSION, method, args);
+    }
+
+    public record IssueCommand(Integer userId, Integer couponId) {
+    }
+
+    public static class LockedService {
+        public void issueCoupon(IssueCommand command) {
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.ecommerceapi.common.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @WithLock 노드 내 락 레지스트리입니다. (키별 참조 카운트)
+ * - 락을 기다리거나 보유 중인 스레드 수(참조 수)를 키별로 관리하고, 마지막 스레드가 해제하면 키를 제거
+ * - 참조 수 증감은 ConcurrentHashMap.compute로 키 단위 원자적으로 처리하여, 같은 키는 항상 같은 락을 공유
+ * 락 공정성은 lock.local.fair로 설정합니다. (기본값 true)
+ * 메트릭: lock.local.active.keys (참조 중인 키 수), lock.local.waiting.threads (대기 스레드 수), lock.local.contended (이미 잠긴 락 획득 시도 수)
+ */
+@Component
+public class LocalLockRegistry {
+
+    private final Map<Object, LockEntry> locks = new ConcurrentHashMap<>();
+    private final boolean fair;
+    private final Counter contended;
+
+    public LocalLockRegistry(@Value("${lock.local.fair:true}") boolean fair, MeterRegistry meterRegistry) {
+        this.fair = fair;
+        this.contended = Counter.builder("lock.local.contended")
+                .register(meterRegistry);
+        Gauge.builder("lock.local.active.keys", locks, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("lock.local.waiting.threads", this, LocalLockRegistry::waitingThreads)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 락 획득 시도 (ignoreIfLocked: 대기 없이 1회 시도)
+     *
+     * @return 획득 시 해제용 핸들, 실패 시 null
+     */
+    public Handle tryLock(Object key) {
+        LockEntry entry = retain(key);
+        recordContention(entry);
+        if (entry.lock.tryLock()) {
+            return new Handle(key, entry);
+        }
+        release(key, entry);
+        return null;
+    }
+
+    /**
+     * timeout까지 대기하며 락 획득 시도
+     *
+     * @return 획득 시 해제용 핸들, timeout 시 null
+     */
+    public Handle tryLock(Object key, long timeout, TimeUnit unit) throws InterruptedException {
+        LockEntry entry = retain(key);
+        boolean acquired = false;
+        try {
+            recordContention(entry);
+            acquired = entry.lock.tryLock(timeout, unit);
+        } finally {
+            if (!acquired) {
+                release(key, entry);
+            }
+        }
+        return acquired ? new Handle(key, entry) : null;
+    }
+
+    /**
+     * 참조 중인 키 수
+     */
+    public int activeKeys() {
+        return locks.size();
+    }
+
+    private LockEntry retain(Object key) {
+        return locks.compute(key, (k, entry) -> {
+            LockEntry target = entry != null ? entry : new LockEntry(fair);
+            target.references++;
+            return target;
+        });
+    }
+
+    private void release(Object key, LockEntry entry) {
+        locks.computeIfPresent(key, (k, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            return --current.references == 0 ? null : current;
+        });
+    }
+
+    private void recordContention(LockEntry entry) {
+        if (entry.lock.isLocked() && !entry.lock.isHeldByCurrentThread()) {
+            contended.increment();
+        }
+    }
+
+    private double waitingThreads() {
+        return locks.values().stream()
+                .mapToInt(entry -> entry.lock.getQueueLength())
+                .sum();
+    }
+
+    private static class LockEntry {
+        private final ReentrantLock lock;
+        // compute/computeIfPresent 안에서만 변경
+        private int references;
+
+        private LockEntry(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+    }
+
+    /**
+     * 획득한 락의 해제 핸들 (획득한 스레드에서 1회 호출)
+     */
+    public final class Handle {
+        private final Object key;
+        private final LockEntry entry;
+
+        private Handle(Object key, LockEntry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+
+        public void unlock() {
+            try {
+                entry.lock.unlock();
+            } finally {
+                release(key, entry);
+            }
+        }
+    }
+}
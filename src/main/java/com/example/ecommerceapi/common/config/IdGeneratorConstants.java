@@ -0,0 +1,19 @@
+package com.example.ecommerceapi.common.config;
+
+/**
+ * 테이블 기반 pooled ID 할당 상수
+ * - IDENTITY 전략은 insert 시점에 PK를 받아와야 하므로 Hibernate JDBC batch insert가 비활성화됨
+ * - id_sequence 테이블에서 ALLOCATION_SIZE 단위로 ID 블록을 미리 할당받아 메모리에서 발급
+ * - ALLOCATION_SIZE는 hibernate.jdbc.batch_size와 동일하게 유지
+ */
+public final class IdGeneratorConstants {
+
+    private IdGeneratorConstants() {
+        throw new AssertionError("Cannot instantiate constants class");
+    }
+
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 /**
  * 스케줄러 설정 클래스입니다.
  * 캐시 갱신, 조회수 동기화 등에 사용됩니다.
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size로 설정합니다. (작업마다 스레드 하나씩 사용할 수 있도록 작업 수 이상)
  */
 @Configuration
 @EnableScheduling
@@ -14,6 +14,8 @@ public enum ErrorCode {
     PRODUCT_NOT_VALID_STATISTIC("PD02", "지원하지 않는 상품 통계 타입입니다", 400),
     PRODUCT_STOCK_INSUFFICIENT("PD03", "상품 재고가 부족합니다.", 409),
     PRODUCT_INVALID_STOCK_INCREMENT("PD04", "상품 재고 증가는 0 이하일 수 없습니다.", 400),
+    PRODUCT_INVALID_RANKING_PERIOD("PD05", "랭킹 조회 기간은 1일 이상 30일 이하여야 합니다.", 400),
+    PRODUCT_STOCK_UNAVAILABLE("PD06", "상품 재고를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.", 503),
 
     /**
      * 주문/결제(OD__)
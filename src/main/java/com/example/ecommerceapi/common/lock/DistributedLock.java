@@ -13,7 +13,12 @@ import java.util.concurrent.TimeUnit;
  * 사용 예시:
  * {@code @DistributedLock(key = "'point:' + #userId", waitTime = 3, leaseTime = 5)}
  * {@code @DistributedLock(key = "#request.couponId", type = LockType.SPIN)}
+ * {@code @DistributedLock(key = "'coupon:' + #command.couponId", type = LockType.TIERED)}
  * {@code @DistributedLock(keys = {"'product:' + #productId", "'user:' + #userId"}, type = LockType.MULTI)}
+ * {@code @DistributedLock(key = "'order:' + #orderId", leaseMode = LeaseMode.WATCHDOG)}
+ *
+ * 단일 락 메서드에 FencingToken 타입 파라미터가 있으면, 락 획득 후 발급한 펜싱 토큰으로 채워 호출합니다.
+ * (호출 측은 null 전달)
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -52,6 +57,12 @@ public @interface DistributedLock {
      */
     long leaseTime() default 3L;
 
+    /**
+     * lease 방식 (기본값: FIXED)
+     * WATCHDOG이면 leaseTime을 무시하고 작업이 끝날 때까지 만료 시간을 자동 연장합니다.
+     */
+    LeaseMode leaseMode() default LeaseMode.FIXED;
+
     /**
      * 시간 단위 (기본값: 초)
      */
@@ -2,6 +2,8 @@ package com.example.ecommerceapi.common.lock;
 
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.LockException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -9,17 +11,23 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @DistributedLock 어노테이션이 적용된 메서드에 분산 락을 적용하는 Aspect입니다.
  * 트랜잭션보다 먼저 실행되어야 하므로 Order를 낮게 설정합니다.
+ * - leaseMode가 WATCHDOG이면 leaseTime 대신 -1을 전달하여 Redisson watchdog 갱신 사용
+ * - 단일 락 메서드에 FencingToken 파라미터가 있으면 락 획득 후 펜싱 토큰을 발급하여 전달
+ * 메트릭 (key: 락 키 SpEL 표현식, type: 락 타입)
+ * - lock.distributed.wait (key, type, result=acquired|timeout): 락 획득 대기 시간
+ * - lock.distributed.hold (key, type): 락 보유 시간 (waitTime/leaseTime 조정용 히스토그램)
  */
 @Slf4j
 @Aspect
@@ -28,8 +36,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DistributedLockAspect {
 
+    private static final long WATCHDOG_LEASE_TIME = -1L;
+
     private final LockStrategyFactory lockStrategyFactory;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final FencingTokenIssuer fencingTokenIssuer;
+    private final MeterRegistry meterRegistry;
+    private final LockKeyExpressionEvaluator keyEvaluator = new LockKeyExpressionEvaluator();
+    private final Map<Method, LockMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(distributedLock)")
     public Object around(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
@@ -48,17 +61,22 @@ public class DistributedLockAspect {
      * 단일 락 처리
      */
     private Object handleSingleLock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        LockMetadata metadata = getMetadata(joinPoint, distributedLock);
         String lockKey = extractLockKey(joinPoint, distributedLock.key());
         LockStrategy strategy = lockStrategyFactory.getStrategy(distributedLock.type());
 
         boolean acquired = false;
+        long waitStart = System.nanoTime();
+        long acquiredAt = 0L;
         try {
             acquired = strategy.tryLock(
                     lockKey,
                     distributedLock.waitTime(),
-                    distributedLock.leaseTime(),
+                    leaseTime(distributedLock),
                     distributedLock.timeUnit()
             );
+            acquiredAt = System.nanoTime();
+            (acquired ? metadata.acquiredWait() : metadata.timeoutWait()).record(acquiredAt - waitStart, TimeUnit.NANOSECONDS);
 
             if (!acquired) {
                 log.error("Failed to acquire distributed lock: key={}, type={}", lockKey, distributedLock.type());
@@ -66,10 +84,16 @@ public class DistributedLockAspect {
             }
 
             log.debug("Distributed lock acquired: key={}, type={}", lockKey, distributedLock.type());
-            return joinPoint.proceed();
+            if (metadata.fencingTokenIndex() < 0) {
+                return joinPoint.proceed();
+            }
+            Object[] args = joinPoint.getArgs().clone();
+            args[metadata.fencingTokenIndex()] = fencingTokenIssuer.issue(lockKey);
+            return joinPoint.proceed(args);
 
         } finally {
             if (acquired) {
+                metadata.hold().record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
                 try {
                     strategy.unlock(lockKey);
                     log.debug("Distributed lock released: key={}, type={}", lockKey, distributedLock.type());
@@ -84,75 +108,108 @@ public class DistributedLockAspect {
      * 멀티 락 처리
      */
     private Object handleMultiLock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
+        LockMetadata metadata = getMetadata(joinPoint, distributedLock);
         List<String> lockKeys = extractLockKeys(joinPoint, distributedLock.keys());
         MultiLockStrategy multiLockStrategy = (MultiLockStrategy) lockStrategyFactory.getStrategy(LockType.MULTI);
 
-        boolean acquired = false;
-        try {
-            acquired = multiLockStrategy.tryLockMultiple(
-                    lockKeys,
-                    distributedLock.waitTime(),
-                    distributedLock.leaseTime(),
-                    distributedLock.timeUnit()
-            );
-
-            if (!acquired) {
-                log.error("Failed to acquire multi lock: keys={}", lockKeys);
-                throw new LockException(ErrorCode.LOCK_TIMEOUT);
-            }
+        long waitStart = System.nanoTime();
+        MultiLockHandle handle = multiLockStrategy.tryLockMultiple(
+                lockKeys,
+                distributedLock.waitTime(),
+                leaseTime(distributedLock),
+                distributedLock.timeUnit()
+        );
+        long acquiredAt = System.nanoTime();
+        (handle != null ? metadata.acquiredWait() : metadata.timeoutWait()).record(acquiredAt - waitStart, TimeUnit.NANOSECONDS);
+
+        if (handle == null) {
+            log.error("Failed to acquire multi lock: keys={}", lockKeys);
+            throw new LockException(ErrorCode.LOCK_TIMEOUT);
+        }
 
-            log.debug("Multi lock acquired: keys={}", lockKeys);
+        try {
+            log.debug("Multi lock acquired: keys={}", handle.lockKeys());
             return joinPoint.proceed();
 
         } finally {
-            if (acquired) {
-                try {
-                    multiLockStrategy.unlockMultiple();
-                    log.debug("Multi lock released: keys={}", lockKeys);
-                } catch (Exception e) {
-                    log.warn("Failed to release multi lock: keys={}", lockKeys, e);
-                }
+            metadata.hold().record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            try {
+                handle.close();
+                log.debug("Multi lock released: keys={}", handle.lockKeys());
+            } catch (Exception e) {
+                log.warn("Failed to release multi lock: keys={}", handle.lockKeys(), e);
             }
         }
     }
 
     /**
-     * SpEL 표현식을 파싱하여 락 키를 추출합니다.
+     * SpEL 표현식을 평가하여 락 키를 추출합니다. (파싱/컴파일 결과는 메서드별로 재사용)
      */
     private String extractLockKey(ProceedingJoinPoint joinPoint, String keyExpression) {
-        StandardEvaluationContext context = createEvaluationContext(joinPoint);
-        Object key = parser.parseExpression(keyExpression).getValue(context);
-        return key != null ? key.toString() : "null";
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return keyEvaluator.evaluate(keyExpression, method, joinPoint.getArgs());
     }
 
     /**
-     * SpEL 표현식 배열을 파싱하여 여러 락 키를 추출합니다.
+     * SpEL 표현식 배열을 평가하여 여러 락 키를 추출합니다.
      */
     private List<String> extractLockKeys(ProceedingJoinPoint joinPoint, String[] keyExpressions) {
-        StandardEvaluationContext context = createEvaluationContext(joinPoint);
-        List<String> lockKeys = new ArrayList<>();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs();
+        List<String> lockKeys = new ArrayList<>(keyExpressions.length);
 
         for (String keyExpression : keyExpressions) {
-            Object key = parser.parseExpression(keyExpression).getValue(context);
-            lockKeys.add(key != null ? key.toString() : "null");
+            lockKeys.add(keyEvaluator.evaluate(keyExpression, method, args));
         }
 
         return lockKeys;
     }
 
+    private long leaseTime(DistributedLock distributedLock) {
+        return distributedLock.leaseMode() == LeaseMode.WATCHDOG ? WATCHDOG_LEASE_TIME : distributedLock.leaseTime();
+    }
+
     /**
-     * SpEL 평가 컨텍스트를 생성합니다.
+     * 메서드별 메타데이터 (FencingToken 파라미터 위치, 메트릭)
      */
-    private StandardEvaluationContext createEvaluationContext(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String[] paramNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
+    private LockMetadata getMetadata(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return metadataCache.computeIfAbsent(method, m -> {
+            String keyPattern = distributedLock.type() == LockType.MULTI
+                    ? String.join(",", distributedLock.keys())
+                    : distributedLock.key();
+            String type = distributedLock.type().name();
+            return new LockMetadata(
+                    fencingTokenIndex(m),
+                    waitTimer(keyPattern, type, "acquired"),
+                    waitTimer(keyPattern, type, "timeout"),
+                    Timer.builder("lock.distributed.hold")
+                            .tag("key", keyPattern)
+                            .tag("type", type)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+        });
+    }
+
+    private Timer waitTimer(String keyPattern, String type, String result) {
+        return Timer.builder("lock.distributed.wait")
+                .tag("key", keyPattern)
+                .tag("type", type)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
+    private static int fencingTokenIndex(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] == FencingToken.class) {
+                return i;
+            }
         }
+        return -1;
+    }
 
-        return context;
+    private record LockMetadata(int fencingTokenIndex, Timer acquiredWait, Timer timeoutWait, Timer hold) {
     }
 }
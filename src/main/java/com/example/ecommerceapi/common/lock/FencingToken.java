@@ -0,0 +1,12 @@
+package com.example.ecommerceapi.common.lock;
+
+/**
+ * 분산 락 획득 시 발급되는 펜싱 토큰입니다.
+ * 같은 락 키에 대해 획득 순서대로 단조 증가하므로, 저장소에서 더 작은 토큰의 쓰기를 거부하여
+ * lease가 만료된 이전 보유자의 지연된 쓰기를 막을 수 있습니다.
+ *
+ * @param key   락 키
+ * @param value 토큰 값
+ */
+public record FencingToken(String key, long value) {
+}
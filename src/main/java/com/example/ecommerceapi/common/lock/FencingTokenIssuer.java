@@ -0,0 +1,22 @@
+package com.example.ecommerceapi.common.lock;
+
+import com.example.ecommerceapi.common.redis.StorageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 키별 펜싱 토큰 발급기입니다.
+ * 락을 보유한 상태에서 Redis INCR로 발급하므로, 토큰 순서는 락 획득 순서와 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FencingTokenIssuer {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public FencingToken issue(String lockKey) {
+        Long value = redisTemplate.opsForValue().increment(StorageType.LOCK_FENCING_TOKEN.getKeyWithId(lockKey));
+        return new FencingToken(lockKey, value != null ? value : 0L);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ecommerceapi.common.lock;
+
+/**
+ * 분산 락 보유 시간(lease) 관리 방식을 정의합니다.
+ */
+public enum LeaseMode {
+
+    /**
+     * 고정 lease
+     * - leaseTime이 지나면 작업이 끝나지 않아도 락이 자동 해제
+     */
+    FIXED,
+
+    /**
+     * Redisson watchdog 갱신
+     * - leaseTime을 사용하지 않고, 락을 보유한 동안 watchdog이 만료 시간을 주기적으로 연장
+     * - 노드 장애 시 watchdog 타임아웃(기본 30초) 후 해제
+     */
+    WATCHDOG
+}
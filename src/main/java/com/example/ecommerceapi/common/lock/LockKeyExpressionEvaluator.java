@@ -0,0 +1,78 @@
+package com.example.ecommerceapi.common.lock;
+
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.context.expression.CachedExpressionEvaluator;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 락 키 SpEL 표현식 평가기입니다.
+ * - 표현식은 (메서드, 표현식)별로 한 번만 파싱하고, 바이트코드로 컴파일(SpelCompilerMode.IMMEDIATE)하여 재사용
+ * - 파라미터 이름은 메서드별로 한 번만 조회하여 재사용
+ * - 평가 컨텍스트는 MethodBasedEvaluationContext로 참조된 파라미터만 변수로 등록 (#파라미터명, #p0, #a0)
+ */
+public class LockKeyExpressionEvaluator extends CachedExpressionEvaluator {
+
+    private final Map<ExpressionKey, Expression> expressionCache = new ConcurrentHashMap<>(64);
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new CachingParameterNameDiscoverer();
+
+    public LockKeyExpressionEvaluator() {
+        super(new SpelExpressionParser(new SpelParserConfiguration(
+                SpelCompilerMode.IMMEDIATE, LockKeyExpressionEvaluator.class.getClassLoader())));
+    }
+
+    /**
+     * 메서드 인자로 락 키 표현식을 평가합니다.
+     *
+     * @return 평가 결과 문자열 (결과가 null이면 "null")
+     */
+    public String evaluate(String keyExpression, Method method, Object[] args) {
+        Object key = getValue(keyExpression, method, args);
+        return key != null ? key.toString() : "null";
+    }
+
+    /**
+     * 메서드 인자로 락 키 표현식을 평가합니다. (평가 결과 그대로 반환)
+     */
+    public Object getValue(String keyExpression, Method method, Object[] args) {
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer);
+        return getExpression(expressionCache, new AnnotatedElementKey(method, method.getDeclaringClass()), keyExpression)
+                .getValue(context);
+    }
+
+    /**
+     * 메서드별 파라미터 이름 캐시 (DefaultParameterNameDiscoverer 조회 결과 재사용)
+     */
+    private static class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+        private static final String[] NOT_DISCOVERED = new String[0];
+
+        private final ParameterNameDiscoverer delegate = new DefaultParameterNameDiscoverer();
+        private final Map<Method, String[]> parameterNames = new ConcurrentHashMap<>(64);
+
+        @Override
+        public String[] getParameterNames(Method method) {
+            String[] names = parameterNames.computeIfAbsent(method, m -> {
+                String[] discovered = delegate.getParameterNames(m);
+                return discovered != null ? discovered : NOT_DISCOVERED;
+            });
+            return names != NOT_DISCOVERED ? names : null;
+        }
+
+        @Override
+        public String[] getParameterNames(Constructor<?> ctor) {
+            return delegate.getParameterNames(ctor);
+        }
+    }
+}
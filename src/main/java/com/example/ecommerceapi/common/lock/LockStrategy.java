@@ -13,7 +13,7 @@ public interface LockStrategy {
      *
      * @param key       락 키
      * @param waitTime  락 획득 대기 시간
-     * @param leaseTime 락 보유 시간
+     * @param leaseTime 락 보유 시간 (-1이면 Redisson watchdog이 보유 중 만료 시간을 연장)
      * @param timeUnit  시간 단위
      * @return 락 획득 성공 여부
      * @throws InterruptedException 대기 중 인터럽트 발생 시
@@ -27,11 +27,19 @@ public enum LockType {
      */
     PUB_SUB,
 
+    /**
+     * 노드 내 락 + 분산 락 2단계 방식
+     * - 같은 노드의 대기 스레드는 로컬 공정 큐에서 대기, 큐의 선두만 Redis 락 획득 시도
+     * - 로컬 대기 스레드에 분산 락을 넘겨(hand-off) Redis 호출을 노드 내 동시성만큼 절감
+     * - 한 노드에 같은 키 요청이 몰릴 때 적합 (예: 선착순 쿠폰 발급)
+     */
+    TIERED,
+
     /**
      * Multi Lock 방식
      * - 여러 리소스에 대한 동시 락 획득
-     * - 모든 락을 획득해야 성공
-     * - 데드락 방지 메커니즘 포함
+     * - 모든 락을 획득해야 성공 (정렬한 키를 Lua 스크립트 1회로 전부 획득 또는 전부 실패)
+     * - 일부 키만 보유한 채 대기하지 않으므로 데드락 없음
      */
     MULTI
 }
@@ -0,0 +1,56 @@
+package com.example.ecommerceapi.common.lock;
+
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MultiLockStrategy로 획득한 멀티 락 핸들입니다.
+ * 락은 핸들(획득한 노드·스레드의 owner)이 소유하므로 획득한 스레드와 다른 스레드에서도 해제할 수 있습니다.
+ * 같은 스레드에서 중첩 획득한 핸들은 owner를 공유하며, 각 핸들의 close()가 보유 횟수를 하나씩 줄입니다.
+ * close()는 여러 번 호출해도 한 번만 해제합니다.
+ *
+ * 사용 예시:
+ * {@code try (MultiLockHandle handle = multiLockStrategy.tryLockMultiple(keys, 5, 3, TimeUnit.SECONDS)) { ... }}
+ */
+public final class MultiLockHandle implements AutoCloseable {
+
+    private final MultiLockStrategy strategy;
+    private final List<String> lockKeys;
+    private final String owner;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile ScheduledFuture<?> renewal;
+
+    MultiLockHandle(MultiLockStrategy strategy, List<String> lockKeys, String owner) {
+        this.strategy = strategy;
+        this.lockKeys = lockKeys;
+        this.owner = owner;
+    }
+
+    /**
+     * 정렬된 락 key 목록 (Redis key)
+     */
+    public List<String> lockKeys() {
+        return lockKeys;
+    }
+
+    String owner() {
+        return owner;
+    }
+
+    void setRenewal(ScheduledFuture<?> renewal) {
+        this.renewal = renewal;
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledFuture<?> scheduled = renewal;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        strategy.release(this);
+    }
+}
@@ -2,31 +2,101 @@ package com.example.ecommerceapi.common.lock;
 
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.LockException;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Multi Lock 방식의 분산 락 전략입니다.
- * Redisson의 MultiLock을 활용하여 여러 리소스에 대한 원자적 락 획득을 보장합니다.
- * 모든 락을 획득해야만 성공하며, 데드락 방지 메커니즘이 포함되어 있습니다.
+ * - 키를 중복 제거·정렬한 뒤 Lua 스크립트 1회로 모든 키를 획득하거나, 하나라도 다른 owner가 보유 중이면 아무것도 획득하지 않음
+ * - 획득 실패 시 지수 증가 + jitter 간격으로 waitTime까지 재시도 (일부 키만 보유한 채 대기하지 않으므로 데드락 없음)
+ * - 획득 결과는 MultiLockHandle로 반환하며, 락은 핸들(owner ID)이 소유 (ThreadLocal 미사용)
+ * - owner ID는 노드·스레드 단위이고 키마다 owner별 보유 횟수를 Hash로 기록하므로, 같은 스레드의 중첩 멀티 락은 키가 겹쳐도 재진입
+ *   (핸들을 닫으면 보유 횟수만 줄이고, 0이 되면 키 삭제)
+ * leaseTime이 0 이하(watchdog)이면 lock.multi.watchdog-timeout-ms를 lease로 사용하고, 보유 중 1/3 주기로 연장합니다.
+ * Lua 스크립트 1회로 처리하므로 모든 키가 같은 Redis 노드에 있어야 합니다. (Cluster 사용 시 hash tag 필요)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MultiLockStrategy implements LockStrategy {
 
     private static final String LOCK_PREFIX = "multi-lock:";
+    private static final long BACKOFF_BASE_MS = 5;
+    private static final long BACKOFF_MAX_MS = 100;
 
-    private final RedissonClient redissonClient;
+    /**
+     * KEYS: [락 key...], ARGV: [owner ID, lease(ms)]
+     * 다른 owner가 보유한 첫 key의 순번(1부터), 모두 획득하면 0
+     * 본인이 이미 보유한 key는 보유 횟수만 늘리고, lease는 남은 lease보다 길 때만 연장 (외부 핸들의 lease를 줄이지 않음)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key) == 1 and redis.call('HEXISTS', key, ARGV[1]) == 0 then
+                    return i
+                end
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('HINCRBY', key, ARGV[1], 1)
+                if redis.call('PTTL', key) < tonumber(ARGV[2]) then
+                    redis.call('PEXPIRE', key, ARGV[2])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: [락 key...], ARGV: [owner ID] - 본인이 보유한 key만 보유 횟수를 줄이고 0이 되면 삭제, 보유 중이던 key 수 반환
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('HEXISTS', key, ARGV[1]) == 1 then
+                    released = released + 1
+                    if redis.call('HINCRBY', key, ARGV[1], -1) <= 0 then
+                        redis.call('DEL', key)
+                    end
+                end
+            end
+            return released
+            """, Long.class);
 
-    // ThreadLocal을 사용하여 현재 스레드의 MultiLock 인스턴스를 저장
-    private final ThreadLocal<RLock> currentMultiLock = new ThreadLocal<>();
+    /**
+     * KEYS: [락 key...], ARGV: [owner ID, lease(ms)] - 본인이 보유한 key만 연장, 연장한 key 수 반환
+     */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            local renewed = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('HEXISTS', key, ARGV[1]) == 1 then
+                    renewed = renewed + redis.call('PEXPIRE', key, ARGV[2])
+                end
+            end
+            return renewed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long watchdogTimeoutMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "multi-lock-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MultiLockStrategy(RedisTemplate<String, String> redisTemplate,
+                             @Value("${lock.multi.watchdog-timeout-ms:30000}") long watchdogTimeoutMillis) {
+        this.redisTemplate = redisTemplate;
+        this.watchdogTimeoutMillis = watchdogTimeoutMillis;
+    }
 
     @Override
     public boolean tryLock(String key, long waitTime, long leaseTime, TimeUnit timeUnit) {
@@ -36,40 +106,51 @@ public class MultiLockStrategy implements LockStrategy {
     /**
      * 여러 키에 대한 락 획득을 시도합니다.
      * 모든 락을 원자적으로 획득하거나, 전부 실패합니다.
+     * 같은 스레드가 보유 중인 키는 재진입하며, 반환된 핸들을 닫을 때까지 보유 횟수가 유지됩니다.
      *
-     * @param keys      락 키 리스트
+     * @param keys      락 키 리스트 (순서 무관, 중복 제거 후 정렬)
      * @param waitTime  락 획득 대기 시간
-     * @param leaseTime 락 보유 시간
+     * @param leaseTime 락 보유 시간 (0 이하면 watchdog 연장)
      * @param timeUnit  시간 단위
-     * @return 락 획득 성공 여부
+     * @return 획득 시 해제용 핸들, 실패 시 null
      * @throws InterruptedException 대기 중 인터럽트 발생 시
      */
-    public boolean tryLockMultiple(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit)
+    public MultiLockHandle tryLockMultiple(List<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit)
             throws InterruptedException {
         if (keys == null || keys.isEmpty()) {
             log.warn("[MultiLock] No keys provided");
-            return false;
+            return null;
         }
 
-        // 각 키에 대한 RLock 생성
-        RLock[] locks = keys.stream()
-                .map(key -> redissonClient.getLock(LOCK_PREFIX + key))
-                .toArray(RLock[]::new);
-
-        // MultiLock 생성
-        RLock multiLock = redissonClient.getMultiLock(locks);
-
-        boolean acquired = multiLock.tryLock(waitTime, leaseTime, timeUnit);
+        List<String> lockKeys = keys.stream()
+                .distinct()
+                .sorted()
+                .map(key -> LOCK_PREFIX + key)
+                .toList();
+        boolean renewable = leaseTime <= 0;
+        long leaseMillis = renewable ? watchdogTimeoutMillis : timeUnit.toMillis(leaseTime);
+        MultiLockHandle handle = new MultiLockHandle(this, lockKeys, nodeId + ":" + Thread.currentThread().getId());
+
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        int attempt = 0;
+        while (true) {
+            Long conflict = redisTemplate.execute(ACQUIRE_SCRIPT, lockKeys, handle.owner(), String.valueOf(leaseMillis));
+            if (conflict != null && conflict == 0L) {
+                if (renewable) {
+                    scheduleRenewal(handle, leaseMillis);
+                }
+                log.debug("[MultiLock] Lock acquired for keys: {}", lockKeys);
+                return handle;
+            }
 
-        if (acquired) {
-            // ThreadLocal에 저장하여 unlock 시 사용
-            currentMultiLock.set(multiLock);
-            log.debug("[MultiLock] Lock acquired for keys: {}", keys);
-        } else {
-            log.debug("[MultiLock] Failed to acquire lock for keys: {}", keys);
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                log.debug("[MultiLock] Failed to acquire lock for keys: {}, busy key index: {}", lockKeys, conflict);
+                return null;
+            }
+            long backoff = Math.min(BACKOFF_MAX_MS, BACKOFF_BASE_MS << Math.min(attempt++, 5));
+            Thread.sleep(Math.min(remainingMillis, ThreadLocalRandom.current().nextLong(1, backoff + 1)));
         }
-
-        return acquired;
     }
 
     @Override
@@ -77,26 +158,40 @@ public class MultiLockStrategy implements LockStrategy {
         throw new LockException(ErrorCode.LOCK_NOT_SUPPORTED); // 단일 키로 호출되는 경우는 지원하지 않음
     }
 
+    @Override
+    public LockType getLockType() {
+        return LockType.MULTI;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
     /**
-     * 획득한 MultiLock을 해제합니다.
+     * 핸들이 보유한 락 해제 (MultiLockHandle.close()에서 호출)
      */
-    public void unlockMultiple() {
-        RLock multiLock = currentMultiLock.get();
+    void release(MultiLockHandle handle) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, handle.lockKeys(), handle.owner());
+        if (released == null || released < handle.lockKeys().size()) {
+            log.warn("[MultiLock] Some locks already expired before release: keys={}, released={}",
+                    handle.lockKeys(), released);
+        } else {
+            log.debug("[MultiLock] Lock released for keys: {}", handle.lockKeys());
+        }
+    }
 
-        if (multiLock != null) {
+    private void scheduleRenewal(MultiLockHandle handle, long leaseMillis) {
+        long interval = Math.max(1L, leaseMillis / 3);
+        handle.setRenewal(watchdog.scheduleAtFixedRate(() -> {
             try {
-                if (multiLock.isHeldByCurrentThread()) {
-                    multiLock.unlock();
-                    log.debug("[MultiLock] Lock released");
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, handle.lockKeys(), handle.owner(), String.valueOf(leaseMillis));
+                if (renewed == null || renewed < handle.lockKeys().size()) {
+                    log.warn("[MultiLock] Lost locks while held: keys={}, renewed={}", handle.lockKeys(), renewed);
                 }
-            } finally {
-                currentMultiLock.remove();
+            } catch (Exception e) {
+                log.warn("[MultiLock] Failed to renew locks: keys={}, error={}", handle.lockKeys(), e.getMessage());
             }
-        }
-    }
-
-    @Override
-    public LockType getLockType() {
-        return LockType.MULTI;
+        }, interval, interval, TimeUnit.MILLISECONDS));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,277 @@
+package com.example.ecommerceapi.common.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 내 락 + Redisson 분산 락 2단계 전략입니다.
+ * - 같은 키를 기다리는 노드 내 스레드는 공정(fair) 로컬 락에서 대기하고, 로컬 락을 얻은 스레드만 Redisson 락을 획득
+ * - 해제 시 로컬 대기 스레드가 있으면 분산 락을 해제하지 않고 다음 스레드에 넘김 (hand-off)
+ * 분산 락은 스레드가 아닌 노드 내 키 항목(ownerId) 소유로 획득하므로 다른 스레드가 이어서 보유하고 해제할 수 있습니다.
+ * hand-off는 남은 lease가 leaseTime의 절반 이상(watchdog 갱신 시 항상)이고 연속 hand-off가 lock.tiered.max-hand-offs 미만일 때만 사용하며,
+ * 그 외에는 분산 락을 다시 획득하여 다른 노드에도 획득 기회를 줍니다.
+ * 고정 lease로 hand-off 받으면 분산 락 lease를 새 보유 스레드의 leaseTime으로 다시 연장합니다.
+ * 메트릭: lock.tiered.acquisitions (source=redis|hand-off)
+ */
+@Slf4j
+@Component
+public class TieredLockStrategy implements LockStrategy {
+
+    private static final String LOCK_PREFIX = "tiered-lock:";
+
+    /**
+     * KEYS: [락 key], ARGV: [Redisson 락 owner 필드, lease(ms)]
+     * 본인이 보유한 락일 때만 lease를 연장하고 1, 아니면 0을 반환합니다.
+     */
+    private static final String RENEW_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final int maxHandOffs;
+    private final Map<String, LockEntry> locks = new ConcurrentHashMap<>();
+    private final AtomicLong ownerIds = new AtomicLong();
+    private final Counter redisAcquisitions;
+    private final Counter handOffAcquisitions;
+
+    public TieredLockStrategy(RedissonClient redissonClient,
+                              @Value("${lock.tiered.max-hand-offs:32}") int maxHandOffs,
+                              MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.maxHandOffs = maxHandOffs;
+        this.redisAcquisitions = Counter.builder("lock.tiered.acquisitions")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        this.handOffAcquisitions = Counter.builder("lock.tiered.acquisitions")
+                .tag("source", "hand-off")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryLock(String key, long waitTime, long leaseTime, TimeUnit timeUnit) throws InterruptedException {
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        LockEntry entry = retain(key);
+
+        boolean acquired = false;
+        try {
+            if (!entry.local.tryLock(waitTime, timeUnit)) {
+                log.debug("[TieredLock] Failed to acquire local lock: {}", key);
+                return false;
+            }
+            try {
+                acquired = entry.local.getHoldCount() > 1
+                        || acceptHandOff(key, entry, leaseTime, timeUnit)
+                        || acquireDistributed(key, entry, deadline, leaseTime, timeUnit);
+            } finally {
+                if (!acquired) {
+                    entry.local.unlock();
+                }
+            }
+            return acquired;
+        } finally {
+            if (!acquired) {
+                release(key, entry);
+            }
+        }
+    }
+
+    @Override
+    public void unlock(String key) {
+        LockEntry entry = locks.get(key);
+        if (entry == null || !entry.local.isHeldByCurrentThread()) {
+            return;
+        }
+        try {
+            if (entry.local.getHoldCount() == 1 && entry.distributedHeld) {
+                if (entry.references > 1 && entry.handOffs < maxHandOffs) {
+                    log.debug("[TieredLock] Lock handed off: {}", key);
+                } else {
+                    releaseDistributed(key, entry);
+                }
+            }
+        } finally {
+            entry.local.unlock();
+            release(key, entry);
+        }
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.TIERED;
+    }
+
+    /**
+     * 이전 로컬 보유 스레드가 넘긴 분산 락을 이어서 보유합니다.
+     * 남은 lease가 leaseTime의 절반 미만이면 분산 락을 해제하고 다시 획득하도록 false를 반환합니다.
+     * 고정 lease면 lease를 leaseTime으로 연장하고, 연장하지 못하면 (이미 만료된 경우) 다시 획득하도록 false를 반환합니다.
+     */
+    private boolean acceptHandOff(String key, LockEntry entry, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        if (!entry.distributedHeld) {
+            return false;
+        }
+        boolean watchdog = leaseTime <= 0;
+        if (!entry.watchdog && entry.leaseDeadline - System.nanoTime() < timeUnit.toNanos(leaseTime) / 2) {
+            releaseDistributed(key, entry);
+            return false;
+        }
+        if (entry.watchdog != watchdog) {
+            // lease 방식이 다르면 watchdog 갱신 여부가 달라지므로 다시 획득
+            releaseDistributed(key, entry);
+            return false;
+        }
+        if (!watchdog && !renewLease(key, entry, timeUnit.toNanos(leaseTime))) {
+            entry.distributedHeld = false;
+            log.debug("[TieredLock] Lock expired before hand-off: {}", key);
+            return false;
+        }
+        entry.handOffs++;
+        handOffAcquisitions.increment();
+        log.debug("[TieredLock] Lock acquired by hand-off: {}", key);
+        return true;
+    }
+
+    private boolean acquireDistributed(String key, LockEntry entry, long deadline, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        long remaining = Math.max(0L, deadline - System.nanoTime());
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + key);
+        boolean watchdog = leaseTime <= 0;
+        long leaseNanos = watchdog ? -1L : timeUnit.toNanos(leaseTime);
+        RFuture<Boolean> future = lock.tryLockAsync(remaining, leaseNanos, TimeUnit.NANOSECONDS, entry.ownerId);
+        boolean acquired;
+        try {
+            acquired = await(future);
+        } catch (InterruptedException e) {
+            // 인터럽트 이후 획득이 완료되면 바로 해제
+            future.thenAccept(locked -> {
+                if (Boolean.TRUE.equals(locked)) {
+                    lock.unlockAsync(entry.ownerId);
+                }
+            });
+            throw e;
+        }
+        if (!acquired) {
+            log.debug("[TieredLock] Failed to acquire lock: {}", key);
+            return false;
+        }
+        entry.distributedHeld = true;
+        entry.watchdog = watchdog;
+        entry.leaseDeadline = System.nanoTime() + leaseNanos;
+        entry.handOffs = 0;
+        redisAcquisitions.increment();
+        log.debug("[TieredLock] Lock acquired: {}", key);
+        return true;
+    }
+
+    /**
+     * 보유 중인 분산 락의 lease를 연장합니다. (로컬 락을 보유한 상태에서 호출)
+     *
+     * @return 연장 여부 (본인이 보유한 락이 아니면 false)
+     */
+    private boolean renewLease(String key, LockEntry entry, long leaseNanos) throws InterruptedException {
+        RFuture<Long> future = redissonClient.getScript(StringCodec.INSTANCE).evalAsync(
+                RScript.Mode.READ_WRITE,
+                RENEW_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(LOCK_PREFIX + key),
+                redissonClient.getId() + ":" + entry.ownerId,
+                String.valueOf(TimeUnit.NANOSECONDS.toMillis(leaseNanos)));
+        Long renewed = await(future);
+        if (renewed == null || renewed == 0L) {
+            return false;
+        }
+        entry.leaseDeadline = System.nanoTime() + leaseNanos;
+        return true;
+    }
+
+    /**
+     * 분산 락 해제 (로컬 락을 보유한 상태에서 호출)
+     */
+    private void releaseDistributed(String key, LockEntry entry) {
+        entry.distributedHeld = false;
+        try {
+            await(redissonClient.getLock(LOCK_PREFIX + key).unlockAsync(entry.ownerId));
+            log.debug("[TieredLock] Lock released: {}", key);
+        } catch (IllegalMonitorStateException e) {
+            // lease 만료로 이미 해제된 경우
+            log.debug("[TieredLock] Lock already expired: {}", key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[TieredLock] Interrupted while releasing lock: {}", key);
+        }
+    }
+
+    private LockEntry retain(String key) {
+        return locks.compute(key, (k, entry) -> {
+            LockEntry target = entry != null ? entry : new LockEntry(ownerIds.incrementAndGet());
+            target.references++;
+            return target;
+        });
+    }
+
+    /**
+     * 참조 해제 (로컬 락을 보유하지 않은 상태에서 호출)
+     * 마지막 참조였는데 분산 락이 남아 있으면 (hand-off 대상 스레드가 대기를 포기한 경우) 분산 락을 해제합니다.
+     */
+    private void release(String key, LockEntry entry) {
+        boolean removed = locks.computeIfPresent(key, (k, current) ->
+                current == entry && --current.references == 0 ? null : current) == null;
+        if (!removed) {
+            return;
+        }
+        entry.local.lock();
+        try {
+            if (entry.distributedHeld) {
+                releaseDistributed(key, entry);
+            }
+        } finally {
+            entry.local.unlock();
+        }
+    }
+
+    private static <T> T await(RFuture<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class LockEntry {
+        private final ReentrantLock local = new ReentrantLock(true);
+        private final long ownerId;
+        // compute/computeIfPresent 안에서만 변경
+        private volatile int references;
+        // 아래 필드는 로컬 락을 보유한 스레드만 변경
+        private boolean distributedHeld;
+        private boolean watchdog;
+        private long leaseDeadline;
+        private int handOffs;
+
+        private LockEntry(long ownerId) {
+            this.ownerId = ownerId;
+        }
+    }
+}
@@ -3,30 +3,66 @@ package com.example.ecommerceapi.common.redis;
 import lombok.Getter;
 
 import java.time.Duration;
+import java.util.Optional;
 
 /**
  * 캐시 타입 정의 Enum (Spring Cache 전용)
  * 각 캐시의 이름과 TTL(Time To Live)을 중앙에서 관리합니다.
+ * L1(노드 내 Caffeine)의 최대 항목 수와 TTL도 함께 관리하며, L1 TTL은 다른 노드의 변경이
+ * pub/sub 무효화 메시지 유실로 전달되지 않았을 때 허용하는 최대 지연 시간입니다.
+ * soft TTL이 지정된 캐시는 RefreshAheadCache를 통해 조회하며, soft TTL이 지나면 기존 값을 응답하면서
+ * 백그라운드에서 미리 갱신합니다. (ttl은 갱신이 멈춘 항목을 정리하는 hard TTL)
  */
 @Getter
 public enum CacheType implements RedisType {
 
     // Product 관련 캐시
-    PRODUCT(Names.PRODUCT, Duration.ofMinutes(30)),
-    POPULAR_PRODUCTS(Names.POPULAR_PRODUCTS, Duration.ofMinutes(5)),
+    PRODUCT(Names.PRODUCT, Duration.ofMinutes(30), 1_000, Duration.ofSeconds(30)),
+    // 인기 상품은 통계 타입별 region으로 분리 (판매량: 주문 시 top-N 진입하면 무효화, 조회수: DB 동기화 주기에 맞춰 갱신)
+    POPULAR_PRODUCTS_SALES(Names.POPULAR_PRODUCTS_SALES, Duration.ofMinutes(10), 100, Duration.ofSeconds(10), Duration.ofMinutes(4)),
+    POPULAR_PRODUCTS_VIEWS(Names.POPULAR_PRODUCTS_VIEWS, Duration.ofMinutes(30), 100, Duration.ofSeconds(30), Duration.ofMinutes(10)),
 
     // Order 관련 캐시
-    ORDER(Names.ORDER, Duration.ofMinutes(60)),
+    ORDER(Names.ORDER, Duration.ofMinutes(60), 1_000, Duration.ofSeconds(30)),
 
     // Coupon 관련 캐시
-    ALL_COUPONS(Names.ALL_COUPONS, Duration.ofMinutes(60));
+    ALL_COUPONS(Names.ALL_COUPONS, Duration.ofMinutes(60), 10, Duration.ofSeconds(10));
 
     private final String cacheName;
     private final Duration ttl;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Duration softTtl;
 
-    CacheType(String cacheName, Duration ttl) {
+    CacheType(String cacheName, Duration ttl, long localMaxSize, Duration localTtl) {
+        this(cacheName, ttl, localMaxSize, localTtl, Duration.ZERO);
+    }
+
+    CacheType(String cacheName, Duration ttl, long localMaxSize, Duration localTtl, Duration softTtl) {
         this.cacheName = cacheName;
         this.ttl = ttl;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.softTtl = softTtl;
+    }
+
+    /**
+     * Refresh-Ahead(soft TTL) 적용 여부
+     */
+    public boolean isRefreshAhead() {
+        return !softTtl.isZero();
+    }
+
+    /**
+     * 캐시 이름으로 CacheType 조회
+     */
+    public static Optional<CacheType> fromCacheName(String cacheName) {
+        for (CacheType cacheType : values()) {
+            if (cacheType.cacheName.equals(cacheName)) {
+                return Optional.of(cacheType);
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -39,7 +75,6 @@ public enum CacheType implements RedisType {
      */
     public static final class Names {
         public static final String PRODUCT = "product";
-        public static final String POPULAR_PRODUCTS = "product::popular";
         public static final String POPULAR_PRODUCTS_SALES = "product::popular::SALES";
         public static final String POPULAR_PRODUCTS_VIEWS = "product::popular::VIEWS";
         public static final String ORDER = "order";
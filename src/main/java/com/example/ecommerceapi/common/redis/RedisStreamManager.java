@@ -3,6 +3,7 @@ package com.example.ecommerceapi.common.redis;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -28,11 +29,13 @@ public class RedisStreamManager {
             boolean groupExists = checkConsumerGroupExists(streamKey, consumerGroup);
 
             if (!groupExists) {
-                redisTemplate.opsForStream().createGroup(
-                        streamKey,
+                // MKSTREAM: Stream이 아직 없어도 Group을 생성해야 XREADGROUP이 NOGROUP으로 실패하지 않음
+                redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                        redisTemplate.getStringSerializer().serialize(streamKey),
+                        consumerGroup,
                         ReadOffset.from("0"),  // 처음부터 읽기
-                        consumerGroup
-                );
+                        true
+                ));
                 log.info("Redis Stream Consumer Group created: stream={}, group={}",
                         streamKey, consumerGroup);
             } else {
@@ -41,7 +44,6 @@ public class RedisStreamManager {
             }
         } catch (Exception e) {
             log.warn("Failed to create Redis Stream Consumer Group: {}", e.getMessage());
-            // Stream이 없으면 첫 메시지 발행 시 자동 생성되므로 에러 무시
         }
     }
 
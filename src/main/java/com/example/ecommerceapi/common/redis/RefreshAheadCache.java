@@ -0,0 +1,228 @@
+package com.example.ecommerceapi.common.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Refresh-Ahead(stale-while-revalidate) 캐시입니다.
+ * - 조회: soft TTL이 지난 항목도 그대로 응답 (캐시 만료 시점에 요청이 원본 조회로 몰리지 않음)
+ * - 갱신: refreshStaleEntries()가 soft TTL이 지난 항목을 백그라운드에서 다시 적재
+ * - 원본 조회는 Redis 락(SET NX)으로 key별 하나의 노드만 수행 (갱신과 캐시 미스 모두)
+ * 갱신 대상은 이 노드에서 조회된 key이며, hard TTL 동안 조회되지 않은 key는 갱신 대상에서 제외합니다.
+ * 갱신 대상 수는 cache.refresh-ahead.max-registrations로 제한하며, 초과 시 오래 조회되지 않은 key부터 제외합니다.
+ */
+@Slf4j
+@Component
+public class RefreshAheadCache {
+
+    private static final long COLD_MISS_POLL_INTERVAL_MS = 50;
+
+    /**
+     * KEYS: [락 key], ARGV: [소유자 ID] - 본인이 획득한 락만 해제
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long coldMissWaitMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Registration> registrations;
+
+    public RefreshAheadCache(CacheManager cacheManager,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Value("${cache.refresh-ahead.cold-miss-wait-ms:3000}") long coldMissWaitMillis,
+                             @Value("${cache.refresh-ahead.max-registrations:10000}") long maxRegistrations) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.coldMissWaitMillis = coldMissWaitMillis;
+        this.registrations = Caffeine.newBuilder()
+                .maximumSize(maxRegistrations)
+                .<String, Registration>build()
+                .asMap();
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 적재)
+     * soft TTL이 지난 값도 그대로 반환하며, 갱신은 refreshStaleEntries()에서 수행합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(CacheType cacheType, String key, Supplier<T> loader) {
+        if (!cacheType.isRefreshAhead()) {
+            throw new IllegalArgumentException("Soft TTL is not configured: " + cacheType);
+        }
+        Cache cache = getCache(cacheType);
+        Registration registration = registrations.computeIfAbsent(
+                cacheType.getCacheName() + "::" + key,
+                registrationKey -> new Registration(cacheType, key, loader));
+        registration.lastAccessedAt = System.currentTimeMillis();
+
+        RefreshAheadEntry entry = cache.get(key, RefreshAheadEntry.class);
+        if (entry == null) {
+            // 동시 미스는 노드 구분 없이 Redis 락으로 직렬화
+            entry = loadOnMiss(cache, cacheType, key, loader);
+        }
+        return entry != null ? (T) entry.value() : null;
+    }
+
+    /**
+     * soft TTL이 지난 항목을 갱신합니다.
+     * 다른 노드가 갱신 중인 key(락 획득 실패)는 건너뛰고, 갱신 실패 시 기존 값을 유지합니다.
+     *
+     * @return 갱신한 항목 수
+     */
+    public int refreshStaleEntries() {
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+        for (Map.Entry<String, Registration> registered : registrations.entrySet()) {
+            Registration registration = registered.getValue();
+            CacheType cacheType = registration.cacheType;
+
+            // hard TTL 동안 조회되지 않은 key는 갱신 중단 (캐시는 hard TTL로 만료)
+            if (now - registration.lastAccessedAt > cacheType.getTtl().toMillis()) {
+                registrations.remove(registered.getKey());
+                continue;
+            }
+
+            Cache cache = getCache(cacheType);
+            RefreshAheadEntry entry = cache.get(registration.key, RefreshAheadEntry.class);
+            if (entry != null && !entry.isStale(now)) {
+                continue;
+            }
+
+            String lockKey = lockKeyOf(cacheType, registration.key);
+            if (!tryLock(lockKey)) {
+                continue;
+            }
+            try {
+                cache.put(registration.key, RefreshAheadEntry.of(registration.loader.get(), cacheType.getSoftTtl()));
+                refreshed++;
+            } catch (Exception e) {
+                log.error("Failed to refresh cache entry, keeping stale value: cache={}, key={}, error={}",
+                        cacheType.getCacheName(), registration.key, e.getMessage(), e);
+            } finally {
+                unlock(lockKey);
+            }
+        }
+        return refreshed;
+    }
+
+    /**
+     * 조건에 맞는 항목을 무효화합니다. (이벤트 기반 무효화용)
+     * 이 노드에서 조회된 key만 대상으로 하며, 무효화된 key는 다음 조회 시 다시 적재합니다.
+     *
+     * @param condition (key, 캐시 값) 무효화 여부
+     * @return 무효화한 항목 수
+     */
+    public int evictIf(CacheType cacheType, BiPredicate<String, Object> condition) {
+        Cache cache = getCache(cacheType);
+        int evicted = 0;
+        for (Registration registration : registrations.values()) {
+            if (registration.cacheType != cacheType) {
+                continue;
+            }
+            RefreshAheadEntry entry = cache.get(registration.key, RefreshAheadEntry.class);
+            if (entry != null && condition.test(registration.key, entry.value())) {
+                cache.evict(registration.key);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 캐시 미스 시 적재
+     * 다른 스레드(노드)가 적재 중이면 결과가 캐시에 저장될 때까지 대기하고, 대기 시간이 지나면 직접 조회합니다.
+     * 대기 중인 쪽이 원본을 다시 조회하지 않도록 락 해제 전에 캐시에 저장합니다.
+     */
+    private RefreshAheadEntry loadOnMiss(Cache cache, CacheType cacheType, String key, Supplier<?> loader) {
+        String lockKey = lockKeyOf(cacheType, key);
+        long deadline = System.currentTimeMillis() + coldMissWaitMillis;
+        boolean locked = tryLock(lockKey);
+        while (!locked && System.currentTimeMillis() < deadline) {
+            RefreshAheadEntry loaded = cache.get(key, RefreshAheadEntry.class);
+            if (loaded != null) {
+                return loaded;
+            }
+            try {
+                Thread.sleep(COLD_MISS_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            locked = tryLock(lockKey);
+        }
+
+        try {
+            // 락 대기 중 다른 쪽이 적재를 끝내고 락을 해제한 경우
+            if (locked) {
+                RefreshAheadEntry loaded = cache.get(key, RefreshAheadEntry.class);
+                if (loaded != null) {
+                    return loaded;
+                }
+            }
+            RefreshAheadEntry entry = RefreshAheadEntry.of(loader.get(), cacheType.getSoftTtl());
+            cache.put(key, entry);
+            return entry;
+        } finally {
+            if (locked) {
+                unlock(lockKey);
+            }
+        }
+    }
+
+    private boolean tryLock(String lockKey) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, nodeId, StorageType.CACHE_REFRESH_LOCK.getTtl()));
+    }
+
+    private void unlock(String lockKey) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), nodeId);
+        } catch (Exception e) {
+            // 해제 실패 시 락 TTL 이후 자동 해제
+            log.warn("Failed to release cache refresh lock: key={}, error={}", lockKey, e.getMessage());
+        }
+    }
+
+    private Cache getCache(CacheType cacheType) {
+        Cache cache = cacheManager.getCache(cacheType.getCacheName());
+        if (cache == null) {
+            throw new IllegalStateException("Cache not found: " + cacheType.getCacheName());
+        }
+        return cache;
+    }
+
+    private String lockKeyOf(CacheType cacheType, String key) {
+        return StorageType.CACHE_REFRESH_LOCK.getKeyWithId(cacheType.getCacheName() + "::" + key);
+    }
+
+    private static class Registration {
+        private final CacheType cacheType;
+        private final String key;
+        private final Supplier<?> loader;
+        private volatile long lastAccessedAt;
+
+        private Registration(CacheType cacheType, String key, Supplier<?> loader) {
+            this.cacheType = cacheType;
+            this.key = key;
+            this.loader = loader;
+        }
+    }
+}
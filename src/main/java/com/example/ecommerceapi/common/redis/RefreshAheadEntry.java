@@ -0,0 +1,22 @@
+package com.example.ecommerceapi.common.redis;
+
+import java.time.Duration;
+
+/**
+ * Refresh-Ahead 캐시 항목입니다.
+ * 캐시 TTL(hard TTL)과 별개로 soft TTL 시각(refreshAt)을 함께 저장하며,
+ * refreshAt이 지난 항목은 계속 응답에 사용하면서 백그라운드에서 갱신합니다.
+ *
+ * @param value     캐시 값
+ * @param refreshAt 갱신 시각 (epoch ms)
+ */
+public record RefreshAheadEntry(Object value, long refreshAt) {
+
+    public static RefreshAheadEntry of(Object value, Duration softTtl) {
+        return new RefreshAheadEntry(value, System.currentTimeMillis() + softTtl.toMillis());
+    }
+
+    public boolean isStale(long now) {
+        return now >= refreshAt;
+    }
+}
@@ -12,9 +12,31 @@ import java.time.LocalDate;
 @Getter
 public enum StorageType implements RedisType {
 
-    // Ranking Sorted Set
-    DAILY_SALES_RANKING("store:ranking:sales:daily", Duration.ofDays(2)),
-    WEEKLY_SALES_RANKING("store:ranking:sales:weekly", Duration.ofDays(8));
+    // Ranking Sorted Set (일간 랭킹만 기록하고, 롤링 최대 기간 30일 + 1일 보관)
+    DAILY_SALES_RANKING("store:ranking:sales:daily", Duration.ofDays(31)),
+    // 주간/롤링 랭킹 합산 결과 (일간 랭킹 ZUNIONSTORE 결과, 짧은 TTL로 재사용)
+    WEEKLY_SALES_RANKING("store:ranking:sales:weekly", Duration.ofSeconds(10)),
+    ROLLING_SALES_RANKING("store:ranking:sales:rolling", Duration.ofSeconds(10)),
+    // 조회수 랭킹 (score: DB 조회수 + 반영된 증가량, TTL 없음) 및 DB 조회수 적재 여부 marker
+    VIEW_RANKING("store:ranking:views", Duration.ZERO),
+    VIEW_RANKING_INITIALIZED("store:ranking:views-initialized", Duration.ZERO),
+
+    // 상품 재고 카운터 (Redis 재고 차감 전략, TTL 없음)
+    PRODUCT_STOCK("store:product:stock", Duration.ZERO),
+    // DB 미반영 재고 차감량 Hash (field: productId, value: 차감 수량)
+    PRODUCT_STOCK_PENDING("store:product:stock-pending", Duration.ZERO),
+    // 상품명 Hash (field: productId, value: 상품명), 랭킹 결과 변환용
+    PRODUCT_NAME("store:product:name", Duration.ZERO),
+
+    // 쿠폰 비동기 발급 입장 제어 (쿠폰 만료 시각에 만료)
+    COUPON_ISSUE_REMAINING("store:coupon:issue:remaining", Duration.ZERO),
+    COUPON_ISSUED_USERS("store:coupon:issue:users", Duration.ZERO),
+
+    // 분산 락 펜싱 토큰 카운터 (락 키별 단조 증가, TTL 없음)
+    LOCK_FENCING_TOKEN("store:lock:fencing-token", Duration.ZERO),
+
+    // Refresh-Ahead 캐시 갱신 락 (key별 하나의 노드만 원본 조회, 갱신 지연 시 TTL로 해제)
+    CACHE_REFRESH_LOCK("store:cache:refresh-lock", Duration.ofSeconds(30));
 
     private final String keyPrefix;
     private final Duration ttl;
@@ -37,6 +59,14 @@ public enum StorageType implements RedisType {
         return keyPrefix + ":" + date;
     }
 
+    /**
+     * ID 기반 key 생성
+     * 예: "store:product:stock:1"
+     */
+    public String getKeyWithId(Object id) {
+        return keyPrefix + ":" + id;
+    }
+
     /**
      * 주차 기반 key 생성 (주간 랭킹용)
      * 예: "store:ranking:sales:weekly:2025-W48"
@@ -0,0 +1,179 @@
+package com.example.ecommerceapi.common.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(노드 내 Caffeine) + L2(Redis) 2단계 캐시입니다.
+ * - 조회: L1 → L2 → 원본 메서드 순서로 조회하고, 하위 단계에서 찾은 값은 L1에 적재
+ * - 변경(put/evict/clear): L2와 L1을 함께 변경한 뒤 다른 노드의 L1 무효화 메시지를 발행
+ * L1 key는 Redis 캐시 key와 같은 기준이 되도록 문자열로 변환하여 사용합니다.
+ * 메트릭: cache.region.gets (region, level=local|remote, result=hit|miss), cache.region.hit.ratio (region, L1+L2 적중률)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache redisCache;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+
+    /**
+     * @param invalidationPublisher (캐시 이름, key) 무효화 메시지 발행 (key가 null이면 전체 삭제)
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache redisCache,
+                         BiConsumer<String, String> invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.remoteHits = counter(meterRegistry, "remote", "hit");
+        this.misses = counter(meterRegistry, "remote", "miss");
+        Gauge.builder("cache.region.hit.ratio", this, TwoLevelCache::hitRatio)
+                .tag("region", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            localCache.put(localKey, wrapper.get());
+        } else {
+            misses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return (T) value;
+        }
+
+        // sync = true 인 경우 L2(RedisCache)가 노드 내 동시 로딩을 직렬화
+        AtomicBoolean loadedFromSource = new AtomicBoolean();
+        T loaded = redisCache.get(key, () -> {
+            loadedFromSource.set(true);
+            return valueLoader.call();
+        });
+        (loadedFromSource.get() ? misses : remoteHits).increment();
+        if (loaded != null) {
+            localCache.put(localKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        String localKey = toLocalKey(key);
+        if (value != null) {
+            localCache.put(localKey, value);
+        } else {
+            localCache.invalidate(localKey);
+        }
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 L1만 삭제
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    com.github.benmanes.caffeine.cache.Cache<String, Object> getLocalCache() {
+        return localCache;
+    }
+
+    /**
+     * L1 + L2 적중률 (조회가 없으면 0)
+     */
+    double hitRatio() {
+        double hits = localHits.count() + remoteHits.count();
+        double total = hits + misses.count();
+        return total > 0 ? hits / total : 0.0;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.region.gets")
+                .tag("region", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ecommerceapi.common.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단계 CacheManager입니다.
+ * - 캐시별 L1 크기/TTL은 CacheType에서 관리 (CacheType에 없는 캐시는 L2만 사용)
+ * - 캐시 변경 시 Redis pub/sub 채널로 무효화 메시지를 발행하고, 다른 노드는 수신 시 L1만 삭제
+ * 메시지 형식: {nodeId}|{cacheName}|{key} (key가 비어 있으면 캐시 전체 삭제)
+ * 2단계 캐시는 region(캐시 이름)별 적중률 메트릭을 등록합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager redisCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager,
+                                RedisTemplate<String, String> redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, redisCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 이 노드의 L1 캐시를 모두 비웁니다. (L2는 유지)
+     */
+    public void clearLocalCaches() {
+        caches.values().forEach(cache -> {
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.clearLocal();
+            }
+        });
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        if (!(caches.get(parts[1]) instanceof TwoLevelCache cache)) {
+            return;
+        }
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    private Cache createCache(String name, Cache redisCache) {
+        return CacheType.fromCacheName(name)
+                .<Cache>map(cacheType -> new TwoLevelCache(
+                        name,
+                        Caffeine.newBuilder()
+                                .maximumSize(cacheType.getLocalMaxSize())
+                                .expireAfterWrite(cacheType.getLocalTtl())
+                                .build(),
+                        redisCache,
+                        this::publishInvalidation,
+                        meterRegistry))
+                .orElse(redisCache);
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ""));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1은 CacheType의 L1 TTL 이후 갱신
+            log.warn("Failed to publish cache invalidation: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+}
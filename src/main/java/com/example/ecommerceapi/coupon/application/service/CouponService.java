@@ -1,6 +1,7 @@
 package com.example.ecommerceapi.coupon.application.service;
 
 import com.example.ecommerceapi.common.lock.DistributedLock;
+import com.example.ecommerceapi.common.lock.LeaseMode;
 import com.example.ecommerceapi.common.lock.LockType;
 import com.example.ecommerceapi.common.redis.CacheType;
 import com.example.ecommerceapi.common.exception.CouponException;
@@ -19,13 +20,26 @@ import com.example.ecommerceapi.user.application.validator.UserValidator;
 import com.example.ecommerceapi.user.domain.entity.User;
 import com.example.ecommerceapi.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponService {
@@ -55,8 +69,9 @@ public class CouponService {
      * - 쿠폰이 만료되면 실패
      * - 분산 락을 통한 동시성 제어
      * - 즉시 발급 처리 후 결과 반환
+     * - 커밋 후 Redis 발급 상태(잔여 수량, 발급 사용자)에도 반영하여 비동기 입장 제어와 맞춤
      */
-    @DistributedLock(key = "'coupon:' + #command.couponId", type = LockType.PUB_SUB, waitTime = 5, leaseTime = 10)
+    @DistributedLock(key = "'coupon:' + #command.couponId", type = LockType.TIERED, waitTime = 5, leaseMode = LeaseMode.WATCHDOG)
     @Transactional
     public IssueCouponResult issueCoupon(IssueCouponCommand command) {
         // 1. 회원 존재 검증
@@ -86,7 +101,10 @@ public class CouponService {
         CouponUser couponUser = CouponUser.createIssuedCouponUser(coupon, user);
         CouponUser savedCouponUser = couponUserRepository.saveAndFlush(couponUser);
 
-        // 8. 발급 완료 응답 반환
+        // 8. 커밋 후 Redis 발급 상태 반영
+        afterCommit(() -> couponIssuePublisher.recordIssued(command.couponId(), command.userId()));
+
+        // 9. 발급 완료 응답 반환
         return IssueCouponResult.from(savedCouponUser);
     }
 
@@ -96,29 +114,21 @@ public class CouponService {
      * - 중복 발급 불가
      * - 발급 수량이 소진되면 실패
      * - 쿠폰이 만료되면 실패
-     * <Redis Stream 메시지 큐>
-     * - 쿠폰 발급 요청을 Redis Stream에 발행
-     * - 실제 발급 처리는 CouponEventConsumer에서 비동기로 수행
+     * <Redis 입장 제어 + Stream 메시지 큐>
+     * - Redis Lua 스크립트로 잔여 수량, 발급 사용자 Set을 검사하여 중복/소진 요청은 즉시 거절
+     * - 통과한 요청만 Redis Stream에 발행 (쿠폰 DB 조회 없음)
+     * - 쿠폰 발급 상태가 Redis에 없으면(최초 요청, 쿠폰 만료 후) DB에서 적재 후 재시도
+     * - 실제 발급 처리는 CouponEventBatchConsumer에서 비동기로 일괄 수행
      */
-    @Transactional
     public IssueCouponResult issueCouponAsync(IssueCouponCommand command) {
         // 1. 기본 검증: 회원 존재 여부
-        User user = userValidator.validateAndGetUser(command.userId());
-
-        // 2. 기본 검증: 쿠폰 존재 여부
-        Coupon coupon = couponRepository.findById(command.couponId())
-                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
-
-        // 3. 기본 검증: 쿠폰 발급 가능 여부 (쿠폰 만료 여부, 쿠폰 수량 확인)
-        coupon.validIssueCoupon();
+        userValidator.validateAndGetUser(command.userId());
 
-        // 4. 쿠폰 발급 이벤트 발행 (비동기 처리를 위해)
-        String eventId = couponIssuePublisher.publish(
-                command.couponId(),
-                command.userId()
-        );
+        // 2. Redis 입장 제어 후 쿠폰 발급 이벤트 발행
+        String eventId = couponIssuePublisher.publish(command.couponId(), command.userId())
+                .orElseGet(() -> loadIssueStateAndPublish(command));
 
-        // 5. 요청 접수 응답 반환 (실제 발급은 비동기 처리)
+        // 3. 요청 접수 응답 반환 (실제 발급은 비동기 처리)
         return IssueCouponResult.pending(
                 command.couponId(),
                 command.userId(),
@@ -126,6 +136,28 @@ public class CouponService {
         );
     }
 
+    /**
+     * DB 기준 쿠폰 발급 상태를 Redis에 적재한 뒤 다시 발행합니다.
+     */
+    private String loadIssueStateAndPublish(IssueCouponCommand command) {
+        // 1. 쿠폰 존재 및 만료 검증
+        Coupon coupon = couponRepository.findById(command.couponId())
+                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+        coupon.validateNotExpired();
+
+        // 2. 잔여 수량, 발급 사용자 적재 (소진된 쿠폰도 적재하여 이후 요청은 Redis에서 거절)
+        couponIssuePublisher.loadIssueState(
+                coupon.getCouponId(),
+                coupon.getRemainingQuantity(),
+                couponUserRepository.findIssuedUserIdsByCouponId(coupon.getCouponId()),
+                coupon.getExpiredAt()
+        );
+
+        // 3. 재발행
+        return couponIssuePublisher.publish(command.couponId(), command.userId())
+                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_AVAILABLE));
+    }
+
     /**
      * 쿠폰 사용 이력 조회
      */
@@ -145,38 +177,131 @@ public class CouponService {
     }
 
     /**
-     * 쿠폰 발급 이벤트 처리 (Consumer에서 호출)
-     * - Stream Consumer에서 비동기로 호출되는 실제 쿠폰 발급 로직
-     * - 트랜잭션 내에서 발급 수량 증가 및 발급 이력 생성
+     * 쿠폰 발급 이벤트 일괄 처리 (Consumer에서 호출)
+     * - Stream에서 한 번에 읽어온 발급 요청을 하나의 트랜잭션으로 처리 (group commit)
+     * - 쿠폰별로 쿠폰 row 락 1회, 발급 수량 UPDATE 1회, 중복 조회 1회, 발급 이력 batch insert 1회
+     * - 중복 발급, 수량 소진, 만료 등 비즈니스 실패 요청은 건너뛰고 나머지만 발급
+     * - 중복 발급을 제외한 건너뛴 요청은 커밋 후 Redis 입장을 취소 (발급 사용자 Set 제거, 잔여 수량 복원)
      *
-     * @param couponId 쿠폰 ID
-     * @param userId 사용자 ID
+     * @param commands Stream 수신 순서대로 정렬된 발급 요청 목록 (노드가 여러 개면 발행 순서와 다를 수 있음, 발급 대상은 Redis 입장 검사로 결정)
+     * @return 실제 발급된 쿠폰 수
      */
     @Transactional
-    public void processCouponIssue(Integer couponId, Integer userId) {
-        // 1. 회원 존재 검증
-        User user = userValidator.validateAndGetUser(userId);
+    public int processCouponIssueBatch(List<IssueCouponCommand> commands) {
+        // 1. 쿠폰별로 요청 사용자 그룹화 (사용자는 수신 순서 유지, 배치 내 중복 요청 제거)
+        //    여러 Consumer가 동시에 처리하므로 데드락 방지를 위해 쿠폰 ID 순서로 row 락 획득
+        Map<Integer, Set<Integer>> userIdsByCoupon = new TreeMap<>();
+        for (IssueCouponCommand command : commands) {
+            userIdsByCoupon.computeIfAbsent(command.couponId(), id -> new LinkedHashSet<>())
+                    .add(command.userId());
+        }
 
-        // 2. 쿠폰 존재 검증
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+        // 2. 요청 사용자 일괄 조회
+        Set<Integer> allUserIds = new HashSet<>();
+        userIdsByCoupon.values().forEach(allUserIds::addAll);
+        Map<Integer, User> users = userRepository.findAllById(allUserIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
 
-        // 3. 중복 발급 검증
-        Optional<CouponUser> existingCouponUser = couponUserRepository
-                .findByCouponIdAndUserId(couponId, userId);
-        if (existingCouponUser.isPresent()) {
-            throw new CouponException(ErrorCode.COUPON_ALREADY_ISSUED);
+        int issuedCount = 0;
+        for (Map.Entry<Integer, Set<Integer>> entry : userIdsByCoupon.entrySet()) {
+            issuedCount += issueCouponsInBatch(entry.getKey(), entry.getValue(), users);
         }
+        return issuedCount;
+    }
 
-        // 4. 쿠폰 발급 가능 여부 검증 및 발급 수량 증가
-        coupon.issueCoupon();
+    private int issueCouponsInBatch(Integer couponId, Set<Integer> userIds, Map<Integer, User> users) {
+        // 1. 쿠폰 조회 (비관적 락, 배치당 1회)
+        Optional<Coupon> optionalCoupon = couponRepository.findByIdWithPessimisticLock(couponId);
+        if (optionalCoupon.isEmpty()) {
+            log.warn("Coupon issue skipped (coupon not found): couponId={}, requests={}", couponId, userIds.size());
+            releaseAdmissionsAfterCommit(couponId, userIds);
+            return 0;
+        }
+        Coupon coupon = optionalCoupon.get();
+        if (coupon.isExpired()) {
+            log.warn("Coupon issue skipped (expired): couponId={}, requests={}", couponId, userIds.size());
+            releaseAdmissionsAfterCommit(couponId, userIds);
+            return 0;
+        }
+
+        // 2. 중복 발급 검증 (IN 쿼리 1회)
+        Set<Integer> issuedUserIds = new HashSet<>(couponUserRepository.findIssuedUserIds(couponId, userIds));
+
+        // 3. 잔여 수량만큼 선착순으로 발급 대상 선정 (회원 없음, 수량 초과 요청은 입장 취소 대상)
+        int remaining = coupon.getRemainingQuantity();
+        List<CouponUser> couponUsers = new ArrayList<>();
+        List<Integer> rejectedUserIds = new ArrayList<>();
+        for (Integer userId : userIds) {
+            if (issuedUserIds.contains(userId)) {
+                continue;
+            }
+            User user = users.get(userId);
+            if (user == null || couponUsers.size() >= remaining) {
+                rejectedUserIds.add(userId);
+                continue;
+            }
+            couponUsers.add(CouponUser.createIssuedCouponUser(coupon, user));
+        }
+        releaseAdmissionsAfterCommit(couponId, rejectedUserIds);
+
+        if (couponUsers.isEmpty()) {
+            log.info("No coupon issued in batch: couponId={}, requests={}", couponId, userIds.size());
+            return 0;
+        }
 
-        // 5. 쿠폰 업데이트
+        // 4. 발급 수량 증가 (쿠폰 UPDATE 1회) 및 발급 이력 batch insert
+        coupon.issueCoupons(couponUsers.size());
         couponRepository.save(coupon);
+        couponUserRepository.saveAll(couponUsers);
 
-        // 6. 쿠폰 발급 이력 생성
-        CouponUser couponUser = CouponUser.createIssuedCouponUser(coupon, user);
-        couponUserRepository.save(couponUser);
+        log.info("Coupons issued in batch: couponId={}, requests={}, issued={}",
+                couponId, userIds.size(), couponUsers.size());
+        return couponUsers.size();
+    }
+
+    /**
+     * Dead Letter로 이동한 발급 요청의 Redis 입장 취소
+     * 이미 발급된 요청이면 취소하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public void releaseIssueAdmission(Integer couponId, Integer userId) {
+        if (couponUserRepository.findByCouponIdAndUserId(couponId, userId).isPresent()) {
+            return;
+        }
+        couponIssuePublisher.releaseAdmissions(couponId, List.of(userId));
+    }
+
+    private void releaseAdmissionsAfterCommit(Integer couponId, Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Integer> releasedUserIds = List.copyOf(userIds);
+        afterCommit(() -> couponIssuePublisher.releaseAdmissions(couponId, releasedUserIds));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 Redis 발급 상태 변경 (롤백 시 재처리되므로 반영하지 않음)
+     * Redis 반영 실패는 발급 결과에 영향을 주지 않도록 로그만 남깁니다.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("쿠폰 발급 상태 Redis 반영 실패, 정합성 확인 필요: {}", e.getMessage(), e);
+        }
     }
 
     /**
@@ -186,5 +311,8 @@ public class CouponService {
     public void init() {
         couponRepository.init();
         couponUserRepository.init();
+
+        // Redis 발급 상태 초기화 (다음 요청 시 DB 기준으로 다시 적재)
+        afterCommit(couponIssuePublisher::clearIssueStates);
     }
 }
\ No newline at end of file
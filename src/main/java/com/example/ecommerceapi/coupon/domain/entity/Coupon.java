@@ -81,4 +81,16 @@ public class Coupon {
         }
         this.issuedQuantity += 1;
     }
+
+    /**
+     * 쿠폰을 한 번에 여러 장 발급합니다. (배치 발급)
+     * @param count 발급 수량
+     * @throws CouponException 잔여 수량이 부족한 경우
+     */
+    public void issueCoupons(int count) {
+        if (count > getRemainingQuantity()) {
+            throw new CouponException(ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+        this.issuedQuantity += count;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.coupon.domain.entity;
 
+import com.example.ecommerceapi.common.config.IdGeneratorConstants;
 import com.example.ecommerceapi.common.exception.CouponException;
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.user.domain.entity.User;
@@ -21,7 +22,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class CouponUser {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_user_id_generator")
+    @TableGenerator(
+            name = "coupon_user_id_generator",
+            table = IdGeneratorConstants.TABLE,
+            pkColumnName = IdGeneratorConstants.PK_COLUMN,
+            valueColumnName = IdGeneratorConstants.VALUE_COLUMN,
+            pkColumnValue = "coupon_user",
+            allocationSize = IdGeneratorConstants.ALLOCATION_SIZE
+    )
     @Column(name = "coupon_user_id")
     private Integer couponUserId;
 
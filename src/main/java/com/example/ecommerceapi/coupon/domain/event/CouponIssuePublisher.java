@@ -1,16 +1,58 @@
 package com.example.ecommerceapi.coupon.domain.event;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 쿠폰 발급 이벤트 발행 인터페이스
+ * - 발급 가능 여부(잔여 수량, 중복 발급)를 먼저 검사하고 통과한 요청만 발행
  */
 public interface CouponIssuePublisher {
 
     /**
      * 쿠폰 발급 요청 이벤트 발행
+     * 잔여 수량 차감, 발급 사용자 기록, 이벤트 발행을 원자적으로 수행합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 이벤트 ID, 쿠폰 발급 상태가 적재되지 않은 경우 Optional.empty()
+     * @throws com.example.ecommerceapi.common.exception.CouponException 이미 발급받았거나 수량이 소진된 경우
+     */
+    Optional<String> publish(Integer couponId, Integer userId);
+
+    /**
+     * 쿠폰 발급 상태(잔여 수량, 발급 사용자) 적재
+     * 이미 적재되어 있으면 무시합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param remainingQuantity 잔여 수량
+     * @param issuedUserIds 이미 발급받은 사용자 ID 목록
+     * @param expiredAt 쿠폰 만료 시각 (발급 상태도 이 시각에 만료, null이면 만료 없음)
+     */
+    void loadIssueState(Integer couponId, int remainingQuantity, List<Integer> issuedUserIds, LocalDateTime expiredAt);
+
+    /**
+     * 발행 후 발급하지 않은 요청의 입장 취소 (발급 사용자 Set에서 제거하고 잔여 수량 복원)
+     * 발급 사용자 Set에 없는 사용자는 무시합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 발급하지 않은 사용자 ID 목록
+     */
+    void releaseAdmissions(Integer couponId, Collection<Integer> userIds);
+
+    /**
+     * 발행을 거치지 않고 발급된 쿠폰 반영 (동기 발급)
+     * 발급 상태가 적재되어 있고 발급 사용자 Set에 없을 때만 사용자를 추가하고 잔여 수량을 차감합니다.
      *
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
-     * @return 이벤트 ID
      */
-    String publish(Integer couponId, Integer userId);
-}
\ No newline at end of file
+    void recordIssued(Integer couponId, Integer userId);
+
+    /**
+     * 모든 쿠폰의 발급 상태 삭제 (다음 요청 시 DB 기준으로 다시 적재)
+     */
+    void clearIssueStates();
+}
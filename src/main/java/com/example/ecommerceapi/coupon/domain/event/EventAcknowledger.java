@@ -2,6 +2,8 @@ package com.example.ecommerceapi.coupon.domain.event;
 
 import org.springframework.data.redis.connection.stream.RecordId;
 
+import java.util.List;
+
 /**
  * 이벤트 메시지 ACK 처리 인터페이스
  * - 이벤트 Consumer에서 메시지 처리 완료를 알리는 역할
@@ -11,7 +13,16 @@ public interface EventAcknowledger {
     /**
      * 메시지 ACK 처리
      *
+     * @param stream   메시지를 읽어온 Stream
      * @param recordId 처리 완료된 메시지 ID
      */
-    void acknowledge(RecordId recordId);
+    void acknowledge(String stream, RecordId recordId);
+
+    /**
+     * 같은 Stream의 여러 메시지를 한 번에 ACK 처리 (XACK 1회)
+     *
+     * @param stream    메시지를 읽어온 Stream
+     * @param recordIds 처리 완료된 메시지 ID 목록
+     */
+    void acknowledge(String stream, List<RecordId> recordIds);
 }
@@ -2,6 +2,7 @@ package com.example.ecommerceapi.coupon.domain.repository;
 
 import com.example.ecommerceapi.coupon.domain.entity.CouponUser;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,11 @@ public interface CouponUserRepository {
      */
     CouponUser save(CouponUser couponUser);
 
+    /**
+     * 쿠폰 발급 이력 일괄 저장 (batch insert)
+     */
+    List<CouponUser> saveAll(List<CouponUser> couponUsers);
+
     /**
      * 쿠폰 발급 이력 저장 flush
      */
@@ -36,6 +42,16 @@ public interface CouponUserRepository {
      */
     Optional<CouponUser> findByCouponIdAndUserId(Integer couponId, Integer userId);
 
+    /**
+     * 쿠폰을 발급받은 전체 사용자 ID 조회
+     */
+    List<Integer> findIssuedUserIdsByCouponId(Integer couponId);
+
+    /**
+     * 주어진 사용자 중 이미 해당 쿠폰을 발급받은 사용자 ID 조회 (IN 쿼리 1회)
+     */
+    List<Integer> findIssuedUserIds(Integer couponId, Collection<Integer> userIds);
+
     /**
      * 비관적 락을 사용하여 쿠폰 ID와 사용자 ID로 발급 이력 조회
      * 중복 발급 검증 시 동시성 제어를 위해 사용
@@ -11,7 +11,7 @@ public class CouponUserTableUtils {
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * CouponUser 테이블 데이터 초기화 + AUTO_INCREMENT 1로 초기화
+     * CouponUser 테이블 데이터 초기화 (ID는 id_sequence에서 블록 단위로 할당되므로 1로 초기화되지 않음)
      */
     public void resetCouponUserTable() {
         jdbcTemplate.execute("TRUNCATE TABLE coupon_user");
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,18 @@ public interface JpaCouponUserRepository extends JpaRepository<CouponUser, Integ
      */
     Optional<CouponUser> findByCoupon_CouponIdAndUser_UserId(Integer couponId, Integer userId);
 
+    /**
+     * 쿠폰을 발급받은 전체 사용자 ID 조회
+     */
+    @Query("SELECT cu.user.userId FROM CouponUser cu WHERE cu.coupon.couponId = :couponId")
+    List<Integer> findIssuedUserIdsByCouponId(@Param("couponId") Integer couponId);
+
+    /**
+     * 주어진 사용자 중 이미 해당 쿠폰을 발급받은 사용자 ID 조회
+     */
+    @Query("SELECT cu.user.userId FROM CouponUser cu WHERE cu.coupon.couponId = :couponId AND cu.user.userId IN :userIds")
+    List<Integer> findIssuedUserIds(@Param("couponId") Integer couponId, @Param("userIds") Collection<Integer> userIds);
+
     /**
      * 비관적 락을 사용하여 쿠폰 ID와 사용자 ID로 발급 이력 조회
      * 중복 발급 검증 시 동시성 제어를 위해 사용
@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,11 @@ public class JpaCouponUserRepositoryAdapter implements CouponUserRepository {
         return jpaCouponUserRepository.save(couponUser);
     }
 
+    @Override
+    public List<CouponUser> saveAll(List<CouponUser> couponUsers) {
+        return jpaCouponUserRepository.saveAll(couponUsers);
+    }
+
     @Override
     public CouponUser saveAndFlush(CouponUser couponUser) {
         return jpaCouponUserRepository.saveAndFlush(couponUser);
@@ -50,6 +56,16 @@ public class JpaCouponUserRepositoryAdapter implements CouponUserRepository {
         return jpaCouponUserRepository.findByCoupon_CouponIdAndUser_UserId(couponId, userId);
     }
 
+    @Override
+    public List<Integer> findIssuedUserIdsByCouponId(Integer couponId) {
+        return jpaCouponUserRepository.findIssuedUserIdsByCouponId(couponId);
+    }
+
+    @Override
+    public List<Integer> findIssuedUserIds(Integer couponId, Collection<Integer> userIds) {
+        return jpaCouponUserRepository.findIssuedUserIds(couponId, userIds);
+    }
+
     @Override
     public Optional<CouponUser> findByCouponIdAndUserIdWithPessimisticLock(Integer couponId, Integer userId) {
         return jpaCouponUserRepository.findByCouponIdAndUserIdWithPessimisticLock(couponId, userId);
@@ -72,7 +88,7 @@ public class JpaCouponUserRepositoryAdapter implements CouponUserRepository {
 
     @Override
     public void init() {
-        // 1. 테이블 초기화 (AUTO_INCREMENT 리셋)
+        // 1. 테이블 초기화
         couponUserTableUtils.resetCouponUserTable();
 
         // 2. 쿠폰 객체 생성
@@ -8,6 +8,8 @@ import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Redis Stream ACK 처리 구현체
  * - Redis Stream Consumer Group에서 메시지 처리 완료를 알림
@@ -20,16 +22,33 @@ public class RedisStreamAcknowledger implements EventAcknowledger {
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
-    public void acknowledge(RecordId recordId) {
+    public void acknowledge(String stream, RecordId recordId) {
         try {
             redisTemplate.opsForStream().acknowledge(
-                    CouponStreamConstants.COUPON_STREAM_KEY,
+                    stream,
                     CouponStreamConstants.COUPON_CONSUMER_GROUP,
                     recordId
             );
-            log.debug("Message acknowledged: recordId={}", recordId);
+            log.debug("Message acknowledged: stream={}, recordId={}", stream, recordId);
+        } catch (Exception e) {
+            log.error("Failed to acknowledge message: stream={}, recordId={}", stream, recordId, e);
+        }
+    }
+
+    @Override
+    public void acknowledge(String stream, List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().acknowledge(
+                    stream,
+                    CouponStreamConstants.COUPON_CONSUMER_GROUP,
+                    recordIds.toArray(new RecordId[0])
+            );
+            log.debug("Messages acknowledged: stream={}, count={}", stream, recordIds.size());
         } catch (Exception e) {
-            log.error("Failed to acknowledge message: recordId={}", recordId, e);
+            log.error("Failed to acknowledge messages: stream={}, count={}", stream, recordIds.size(), e);
         }
     }
 }
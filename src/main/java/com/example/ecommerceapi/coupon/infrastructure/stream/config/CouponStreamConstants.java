@@ -9,7 +9,12 @@ public final class CouponStreamConstants {
         throw new AssertionError("Cannot instantiate constants class");
     }
 
-    public static final String COUPON_STREAM_KEY = "stream:coupon:issue";
+    // 실제 Stream key: {prefix}{shard} (CouponStreamShards 참고)
+    public static final String COUPON_STREAM_KEY_PREFIX = "stream:coupon:issue:";
+    // 샤드 도입 이전 단일 Stream (CouponStreamPendingReclaimer가 남은 메시지를 소비)
+    public static final String LEGACY_COUPON_STREAM_KEY = "stream:coupon:issue";
+    public static final String COUPON_DEAD_LETTER_STREAM_KEY = "stream:coupon:issue:dead-letter";
     public static final String COUPON_CONSUMER_GROUP = "coupon-issue-group";
-    public static final String COUPON_CONSUMER_NAME = "coupon-issue-consumer";
+    // 실제 Consumer 이름: {prefix}-{인스턴스 ID}-{번호}
+    public static final String COUPON_CONSUMER_NAME_PREFIX = "coupon-issue-consumer";
 }
\ No newline at end of file
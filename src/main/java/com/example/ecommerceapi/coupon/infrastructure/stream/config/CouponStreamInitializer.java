@@ -1,39 +1,42 @@
 package com.example.ecommerceapi.coupon.infrastructure.stream.config;
 
 import com.example.ecommerceapi.common.redis.RedisStreamManager;
+import com.example.ecommerceapi.coupon.infrastructure.stream.consumer.CouponEventBatchConsumer;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
-import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * 쿠폰 Redis Stream 초기화
- * - 애플리케이션 시작 시 Consumer Group 생성 및 Container 시작
+ * - 애플리케이션 시작 시 Consumer Group 생성 및 배치 Consumer 시작
  * - ContextRefreshedEvent를 사용하여 모든 Bean 초기화 후 실행
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponStreamInitializer implements ApplicationListener<ContextRefreshedEvent> {
 
     private final RedisStreamManager redisStreamManager;
-    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponStreamShards couponStreamShards;
+    private final CouponEventBatchConsumer couponEventBatchConsumer;
 
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
-        // 1. Consumer Group 생성
-        redisStreamManager.createConsumerGroup(
-                CouponStreamConstants.COUPON_STREAM_KEY,
-                CouponStreamConstants.COUPON_CONSUMER_GROUP
-        );
+        // 1. 샤드 Stream별 Consumer Group 생성
+        couponStreamShards.streamKeys().forEach(streamKey ->
+                redisStreamManager.createConsumerGroup(streamKey, CouponStreamConstants.COUPON_CONSUMER_GROUP));
 
-        // 2. Container 시작
-        if (!container.isRunning()) {
-            container.start();
-            log.info("StreamMessageListenerContainer started");
+        // 샤드 도입 이전 Stream이 남아 있으면 소비할 수 있도록 Consumer Group 생성 (없으면 새로 만들지 않음)
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY))) {
+            redisStreamManager.createConsumerGroup(
+                    CouponStreamConstants.LEGACY_COUPON_STREAM_KEY, CouponStreamConstants.COUPON_CONSUMER_GROUP);
+        }
+
+        // 2. 쿠폰 발급 배치 Consumer 시작
+        if (!couponEventBatchConsumer.isRunning()) {
+            couponEventBatchConsumer.start();
         }
     }
 }
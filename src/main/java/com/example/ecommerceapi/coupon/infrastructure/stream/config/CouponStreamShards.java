@@ -0,0 +1,51 @@
+package com.example.ecommerceapi.coupon.infrastructure.stream.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 Stream 샤드 정보
+ * - couponId 해시로 샤드를 결정하므로 같은 쿠폰의 요청은 항상 같은 Stream에 발행 순서대로 쌓임
+ *   (처리 순서는 노드 내에서만 유지, CouponEventBatchConsumer 참고)
+ * - 서로 다른 쿠폰은 여러 Stream으로 분산되어 병렬 처리
+ * 샤드 수를 변경하면 쿠폰이 다른 Stream으로 이동하므로 기존 Stream이 모두 소비된 뒤 변경해야 합니다.
+ */
+@Component
+public class CouponStreamShards {
+
+    private final int shardCount;
+
+    public CouponStreamShards(@Value("${coupon.stream.shard-count:1}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("coupon.stream.shard-count must be positive: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Integer couponId) {
+        return Math.floorMod(couponId, shardCount);
+    }
+
+    public String streamKeyOf(Integer couponId) {
+        return streamKey(shardOf(couponId));
+    }
+
+    public String streamKey(int shard) {
+        return CouponStreamConstants.COUPON_STREAM_KEY_PREFIX + shard;
+    }
+
+    public List<String> streamKeys() {
+        List<String> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(streamKey(shard));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.ecommerceapi.coupon.infrastructure.stream.consumer;
+
+import com.example.ecommerceapi.coupon.application.dto.IssueCouponCommand;
+import com.example.ecommerceapi.coupon.application.service.CouponService;
+import com.example.ecommerceapi.coupon.domain.event.EventAcknowledger;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamConstants;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 발급 이벤트 배치 Consumer (Redis Stream 구현체)
+ * - XREADGROUP COUNT N 으로 한 번에 여러 메시지를 읽어 하나의 트랜잭션으로 발급 처리 (group commit)
+ * - 처리 완료된 메시지는 XACK 1회로 일괄 ACK
+ * - 노드마다 coupon.stream.concurrency 개의 Consumer를 실행하며, Consumer 이름은 인스턴스 단위로 구분
+ *   (Pod를 늘리면 Consumer Group 내 Consumer가 늘어나 처리량이 함께 증가)
+ * - 샤드 Stream은 노드 내에서 하나의 Consumer에만 배정되어 서로 다른 샤드는 병렬로 처리 (Consumer 수는 샤드 수를 넘지 않음)
+ * - 처리 순서는 노드 내에서만 유지됨: 노드가 여러 개면 모든 노드의 Consumer가 같은 Consumer Group에서 같은 샤드를 나눠 읽고,
+ *   Pending 회수 메시지도 나중에 처리되므로 같은 쿠폰의 요청이 DB에 발행 순서와 다르게 반영될 수 있음
+ *   (발급 여부는 발행 시 Redis 입장 검사(잔여 수량 차감, 발급 사용자 기록)로 이미 결정되고, DB 처리는 입장한 요청을 반영만 하므로 순서와 무관)
+ * - 종료 시 Pending 메시지가 없는 이 인스턴스의 Consumer는 Consumer Group에서 삭제 (XGROUP DELCONSUMER)
+ *   (Pending 메시지가 남은 Consumer는 유지하여 CouponStreamPendingReclaimer가 회수)
+ * - 비즈니스 로직은 CouponService에 위임
+ * - 시작은 CouponStreamInitializer에서 Consumer Group 생성 후 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponEventBatchConsumer implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final long ERROR_BACKOFF_MILLIS = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponService couponService;
+    private final EventAcknowledger eventAcknowledger;
+    private final CouponStreamShards couponStreamShards;
+
+    @Value("${coupon.stream.batch-size:100}")
+    private int batchSize;
+
+    @Value("${coupon.stream.concurrency:1}")
+    private int concurrency;
+
+    /**
+     * 인스턴스 ID (미지정 시 hostname-pid)
+     */
+    @Value("${coupon.stream.instance-id:}")
+    private String instanceId;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+    private Map<String, List<String>> streamKeysByConsumer = Map.of();
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        streamKeysByConsumer = assignShards();
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(streamKeysByConsumer.size(),
+                r -> new Thread(r, "coupon-stream-batch-consumer-" + threadIndex.incrementAndGet()));
+        streamKeysByConsumer.forEach((consumerName, streamKeys) ->
+                executor.submit(() -> pollLoop(consumerName, streamKeys)));
+        log.info("Coupon stream batch consumer started: group={}, assignments={}, batchSize={}",
+                CouponStreamConstants.COUPON_CONSUMER_GROUP,
+                streamKeysByConsumer,
+                batchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        streamKeysByConsumer.forEach(this::deleteConsumerIfIdle);
+        log.info("Coupon stream batch consumer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Consumer Group 생성 이후에 시작해야 하므로 자동 시작하지 않음
+     */
+    @Override
+    public boolean isAutoStartup() {
+        return false;
+    }
+
+    /**
+     * 샤드 Stream을 담당하는 이 인스턴스의 Consumer 이름
+     */
+    public String getConsumerName(String streamKey) {
+        return streamKeysByConsumer.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(streamKey))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No consumer assigned to stream: " + streamKey));
+    }
+
+    /**
+     * 샤드 Stream을 Consumer에 round-robin으로 배정합니다. (shard % consumerCount)
+     */
+    private Map<String, List<String>> assignShards() {
+        String resolvedInstanceId = instanceId.isBlank() ? resolveInstanceId() : instanceId;
+        int shardCount = couponStreamShards.getShardCount();
+        int consumerCount = Math.max(1, Math.min(concurrency, shardCount));
+
+        Map<String, List<String>> assignments = new LinkedHashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            String consumerName = CouponStreamConstants.COUPON_CONSUMER_NAME_PREFIX
+                    + "-" + resolvedInstanceId + "-" + (shard % consumerCount + 1);
+            assignments.computeIfAbsent(consumerName, name -> new ArrayList<>())
+                    .add(couponStreamShards.streamKey(shard));
+        }
+        return assignments;
+    }
+
+    /**
+     * 같은 호스트에서 여러 프로세스가 실행될 수 있으므로 hostname 뒤에 pid를 붙입니다.
+     */
+    private String resolveInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = UUID.randomUUID().toString().substring(0, 8);
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    /**
+     * 배정된 샤드 Stream마다 Pending 메시지가 없으면 Consumer를 삭제합니다.
+     * (인스턴스 ID에 pid가 포함되므로 삭제하지 않으면 재시작할 때마다 Consumer Group에 Consumer가 쌓임)
+     */
+    private void deleteConsumerIfIdle(String consumerName, List<String> streamKeys) {
+        for (String streamKey : streamKeys) {
+            try {
+                boolean hasPending = redisTemplate.opsForStream()
+                        .consumers(streamKey, CouponStreamConstants.COUPON_CONSUMER_GROUP)
+                        .stream()
+                        .anyMatch(consumer -> consumer.consumerName().equals(consumerName) && consumer.pendingCount() > 0);
+                if (hasPending) {
+                    log.info("Coupon stream consumer kept (pending messages): stream={}, consumer={}", streamKey, consumerName);
+                    continue;
+                }
+                redisTemplate.opsForStream().deleteConsumer(streamKey,
+                        Consumer.from(CouponStreamConstants.COUPON_CONSUMER_GROUP, consumerName));
+            } catch (Exception e) {
+                log.warn("Coupon stream consumer delete failed: stream={}, consumer={}, error={}",
+                        streamKey, consumerName, e.getMessage());
+            }
+        }
+    }
+
+    private void pollLoop(String consumerName, List<String> streamKeys) {
+        while (running) {
+            try {
+                pollOnce(consumerName, streamKeys);
+            } catch (Exception e) {
+                log.error("Error in coupon stream batch consumer: {}", e.getMessage(), e);
+                sleepQuietly(ERROR_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 배정된 샤드 Stream들에서 메시지를 최대 batchSize 만큼(Stream별) 읽어 일괄 처리합니다.
+     *
+     * @return 읽어온 메시지 수
+     */
+    @SuppressWarnings("unchecked")
+    int pollOnce(String consumerName, List<String> streamKeys) {
+        StreamOffset<String>[] offsets = streamKeys.stream()
+                .map(streamKey -> StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(CouponStreamConstants.COUPON_CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize).block(POLL_TIMEOUT),
+                offsets
+        );
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        handle(records);
+        return records.size();
+    }
+
+    /**
+     * 읽어온 메시지를 하나의 트랜잭션으로 발급 처리하고 일괄 ACK 합니다.
+     * 일괄 처리가 실패하면 메시지별 트랜잭션으로 다시 처리하여, 실패한 메시지만 Pending 상태로 남깁니다.
+     * CouponStreamPendingReclaimer가 회수한 메시지도 이 경로로 처리합니다.
+     */
+    void handle(List<MapRecord<String, Object, Object>> records) {
+        Map<String, List<RecordId>> ackRecordIdsByStream = new LinkedHashMap<>();
+        List<MapRecord<String, Object, Object>> validRecords = new ArrayList<>(records.size());
+        List<IssueCouponCommand> commands = new ArrayList<>(records.size());
+
+        // 1. 메시지 파싱 (형식이 잘못된 메시지는 재시도해도 실패하므로 ACK 대상에만 포함)
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                Integer couponId = Integer.valueOf(String.valueOf(record.getValue().get("couponId")));
+                Integer userId = Integer.valueOf(String.valueOf(record.getValue().get("userId")));
+                commands.add(new IssueCouponCommand(userId, couponId));
+                validRecords.add(record);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid coupon issue event skipped: recordId={}, value={}", record.getId(), record.getValue());
+                addAck(ackRecordIdsByStream, record);
+            }
+        }
+
+        try {
+            // 2. 쿠폰 일괄 발급 (트랜잭션 1회)
+            int issuedCount = commands.isEmpty() ? 0 : couponService.processCouponIssueBatch(commands);
+            validRecords.forEach(record -> addAck(ackRecordIdsByStream, record));
+
+            log.info("Coupon issue batch processed: received={}, issued={}", records.size(), issuedCount);
+
+        } catch (Exception e) {
+            log.warn("Coupon issue batch failed, falling back to per-record processing: received={}, firstRecordId={}, error={}",
+                    records.size(), records.get(0).getId(), e.getMessage());
+            handleIndividually(validRecords, commands, ackRecordIdsByStream);
+        }
+
+        // 3. 일괄 ACK (Stream별 XACK 1회)
+        ackRecordIdsByStream.forEach(eventAcknowledger::acknowledge);
+    }
+
+    /**
+     * 메시지를 하나씩 별도 트랜잭션으로 발급 처리합니다. (읽어온 순서대로 처리)
+     * 시스템 예외가 발생한 메시지는 ACK 하지 않음 (Pending 상태로 남아 재처리 가능)
+     */
+    private void handleIndividually(List<MapRecord<String, Object, Object>> records,
+                                    List<IssueCouponCommand> commands,
+                                    Map<String, List<RecordId>> ackRecordIdsByStream) {
+        int issuedCount = 0;
+        int failedCount = 0;
+        for (int i = 0; i < records.size(); i++) {
+            MapRecord<String, Object, Object> record = records.get(i);
+            try {
+                issuedCount += couponService.processCouponIssueBatch(List.of(commands.get(i)));
+                addAck(ackRecordIdsByStream, record);
+            } catch (Exception e) {
+                failedCount++;
+                log.error("Coupon issue failed (system error): recordId={}, value={}, error={}",
+                        record.getId(), record.getValue(), e.getMessage(), e);
+            }
+        }
+        log.info("Coupon issue records processed individually: received={}, issued={}, failed={}",
+                records.size(), issuedCount, failedCount);
+    }
+
+    private void addAck(Map<String, List<RecordId>> ackRecordIdsByStream, MapRecord<String, Object, Object> record) {
+        ackRecordIdsByStream.computeIfAbsent(record.getStream(), stream -> new ArrayList<>())
+                .add(record.getId());
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.ecommerceapi.coupon.infrastructure.stream.consumer;
+
+import com.example.ecommerceapi.coupon.application.service.CouponService;
+import com.example.ecommerceapi.coupon.domain.event.EventAcknowledger;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamConstants;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 발급 Stream의 Pending 메시지 회수 스케줄러
+ * - 샤드 Stream마다 XPENDING으로 일정 시간 이상 ACK 되지 않은 메시지를 조회 (Consumer 장애, Pod 종료 등)
+ * - 전달 횟수가 max-deliveries 미만이면 XCLAIM으로 이 인스턴스의 Consumer로 가져와 재처리
+ * - 전달 횟수가 max-deliveries 이상이면 Dead Letter Stream으로 옮기고 ACK (무한 재시도 방지),
+ *   발급되지 않은 요청은 Redis 입장을 취소하여 다시 요청할 수 있도록 함
+ * - Pending 메시지 없이 consumer-idle-ms 이상 유휴 상태인 다른 인스턴스의 Consumer는 삭제 (비정상 종료로 남은 Consumer 정리)
+ * - 샤드 도입 이전 단일 Stream(stream:coupon:issue)이 남아 있으면 새 메시지를 읽어 처리하고 Pending 메시지도 같은 방식으로 회수
+ *   (구 버전 노드가 모두 종료되고 Stream이 비면 운영자가 삭제)
+ * XCLAIM에 min-idle 조건을 함께 전달하므로 여러 인스턴스가 동시에 실행해도 한 곳에서만 회수됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponStreamPendingReclaimer {
+
+    private static final int LEGACY_DRAIN_MAX_BATCHES = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponEventBatchConsumer couponEventBatchConsumer;
+    private final EventAcknowledger eventAcknowledger;
+    private final CouponStreamShards couponStreamShards;
+    private final CouponService couponService;
+
+    @Value("${coupon.stream.batch-size:100}")
+    private int batchSize;
+
+    @Value("${coupon.stream.reclaim.min-idle-ms:30000}")
+    private long minIdleMillis;
+
+    @Value("${coupon.stream.reclaim.max-deliveries:5}")
+    private long maxDeliveries;
+
+    @Value("${coupon.stream.reclaim.consumer-idle-ms:600000}")
+    private long consumerIdleMillis;
+
+    /**
+     * Pending 메시지 회수 (5초마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${coupon.stream.reclaim.interval-ms:5000}")
+    public void reclaimPendingMessages() {
+        if (!couponEventBatchConsumer.isRunning()) {
+            return;
+        }
+        try {
+            drainLegacyStream();
+            reclaim();
+            pruneIdleConsumers();
+        } catch (Exception e) {
+            log.error("Coupon stream pending reclaim failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Pending 메시지가 없고 consumer-idle-ms 이상 읽기 요청이 없는 Consumer 삭제
+     * 실행 중인 Consumer는 계속 XREADGROUP을 호출하므로 유휴 시간이 짧고, 삭제되더라도 다음 읽기에서 다시 생성됩니다.
+     *
+     * @return 삭제한 Consumer 수
+     */
+    int pruneIdleConsumers() {
+        int pruned = 0;
+        for (String streamKey : reclaimStreamKeys()) {
+            String ownConsumerName = consumerNameOf(streamKey);
+            for (XInfoConsumer consumer : redisTemplate.opsForStream()
+                    .consumers(streamKey, CouponStreamConstants.COUPON_CONSUMER_GROUP)) {
+                if (consumer.consumerName().equals(ownConsumerName)
+                        || consumer.pendingCount() > 0
+                        || consumer.idleTimeMs() < consumerIdleMillis) {
+                    continue;
+                }
+                redisTemplate.opsForStream().deleteConsumer(streamKey,
+                        Consumer.from(CouponStreamConstants.COUPON_CONSUMER_GROUP, consumer.consumerName()));
+                pruned++;
+                log.info("Idle coupon stream consumer deleted: stream={}, consumer={}, idleMs={}",
+                        streamKey, consumer.consumerName(), consumer.idleTimeMs());
+            }
+        }
+        return pruned;
+    }
+
+    /**
+     * 샤드 도입 이전 Stream에 남은 새 메시지를 읽어 배치 Consumer와 같은 경로로 처리합니다.
+     * 한 번에 최대 LEGACY_DRAIN_MAX_BATCHES 배치까지 처리하고 나머지는 다음 주기에 처리합니다.
+     *
+     * @return 처리한 메시지 수
+     */
+    @SuppressWarnings("unchecked")
+    int drainLegacyStream() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY))) {
+            return 0;
+        }
+        Consumer consumer = Consumer.from(CouponStreamConstants.COUPON_CONSUMER_GROUP,
+                consumerNameOf(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY));
+
+        int drained = 0;
+        for (int batch = 0; batch < LEGACY_DRAIN_MAX_BATCHES; batch++) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    consumer,
+                    StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY, ReadOffset.lastConsumed())
+            );
+            if (records == null || records.isEmpty()) {
+                break;
+            }
+            couponEventBatchConsumer.handle(records);
+            drained += records.size();
+        }
+        if (drained > 0) {
+            log.info("Legacy coupon stream drained: stream={}, processed={}",
+                    CouponStreamConstants.LEGACY_COUPON_STREAM_KEY, drained);
+        }
+        return drained;
+    }
+
+    /**
+     * @return 재처리 또는 Dead Letter 처리한 메시지 수
+     */
+    int reclaim() {
+        int reclaimed = 0;
+        for (String streamKey : reclaimStreamKeys()) {
+            reclaimed += reclaim(streamKey);
+        }
+        return reclaimed;
+    }
+
+    private int reclaim(String streamKey) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(
+                streamKey,
+                CouponStreamConstants.COUPON_CONSUMER_GROUP,
+                Range.unbounded(),
+                batchSize
+        );
+        if (pendingMessages == null || pendingMessages.isEmpty()) {
+            return 0;
+        }
+
+        Duration minIdle = Duration.ofMillis(minIdleMillis);
+        List<RecordId> retryIds = new ArrayList<>();
+        Map<RecordId, Long> deadLetterIds = new LinkedHashMap<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (pendingMessage.getTotalDeliveryCount() >= maxDeliveries) {
+                deadLetterIds.put(pendingMessage.getId(), pendingMessage.getTotalDeliveryCount());
+            } else {
+                retryIds.add(pendingMessage.getId());
+            }
+        }
+
+        int deadLettered = moveToDeadLetter(streamKey, deadLetterIds, minIdle);
+        int retried = retry(streamKey, retryIds, minIdle);
+        if (deadLettered + retried > 0) {
+            log.info("Coupon stream pending reclaimed: stream={}, retried={}, deadLettered={}",
+                    streamKey, retried, deadLettered);
+        }
+        return deadLettered + retried;
+    }
+
+    /**
+     * XCLAIM으로 소유권을 가져온 메시지를 배치 Consumer와 같은 경로로 처리합니다.
+     * XCLAIM 시 전달 횟수가 증가하므로 계속 실패하는 메시지는 결국 Dead Letter로 이동합니다.
+     */
+    private int retry(String streamKey, List<RecordId> recordIds, Duration minIdle) {
+        if (recordIds.isEmpty()) {
+            return 0;
+        }
+        List<MapRecord<String, Object, Object>> claimed = claim(streamKey, recordIds, minIdle);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        couponEventBatchConsumer.handle(claimed);
+        return claimed.size();
+    }
+
+    private int moveToDeadLetter(String streamKey, Map<RecordId, Long> deliveryCounts, Duration minIdle) {
+        if (deliveryCounts.isEmpty()) {
+            return 0;
+        }
+        // 다른 인스턴스가 먼저 처리한 메시지를 중복으로 옮기지 않도록 XCLAIM 성공한 메시지만 이동
+        List<MapRecord<String, Object, Object>> claimed = claim(streamKey, List.copyOf(deliveryCounts.keySet()), minIdle);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<RecordId> movedIds = new ArrayList<>(claimed.size());
+        for (MapRecord<String, Object, Object> record : claimed) {
+            Map<String, String> value = new LinkedHashMap<>();
+            record.getValue().forEach((field, fieldValue) -> value.put(String.valueOf(field), String.valueOf(fieldValue)));
+            value.put("originalStream", streamKey);
+            value.put("originalId", record.getId().getValue());
+            value.put("deliveryCount", String.valueOf(deliveryCounts.get(record.getId())));
+
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(CouponStreamConstants.COUPON_DEAD_LETTER_STREAM_KEY)
+                    .ofMap(value));
+            movedIds.add(record.getId());
+            log.warn("Coupon issue event moved to dead letter: recordId={}, value={}", record.getId(), record.getValue());
+        }
+        eventAcknowledger.acknowledge(streamKey, movedIds);
+        claimed.forEach(this::releaseAdmission);
+        return movedIds.size();
+    }
+
+    private void releaseAdmission(MapRecord<String, Object, Object> record) {
+        try {
+            couponService.releaseIssueAdmission(
+                    Integer.valueOf(String.valueOf(record.getValue().get("couponId"))),
+                    Integer.valueOf(String.valueOf(record.getValue().get("userId"))));
+        } catch (NumberFormatException e) {
+            // 형식이 잘못된 메시지는 입장 제어를 거치지 않음
+        } catch (Exception e) {
+            log.error("Coupon issue admission release failed: recordId={}, error={}", record.getId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 샤드 Stream과 남아 있는 샤드 도입 이전 Stream
+     */
+    private List<String> reclaimStreamKeys() {
+        List<String> streamKeys = new ArrayList<>(couponStreamShards.streamKeys());
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY))) {
+            streamKeys.add(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY);
+        }
+        return streamKeys;
+    }
+
+    /**
+     * Stream을 처리할 이 인스턴스의 Consumer 이름 (샤드 도입 이전 Stream은 0번 샤드 Consumer가 처리)
+     */
+    private String consumerNameOf(String streamKey) {
+        if (CouponStreamConstants.LEGACY_COUPON_STREAM_KEY.equals(streamKey)) {
+            return couponEventBatchConsumer.getConsumerName(couponStreamShards.streamKey(0));
+        }
+        return couponEventBatchConsumer.getConsumerName(streamKey);
+    }
+
+    private List<MapRecord<String, Object, Object>> claim(String streamKey, List<RecordId> recordIds, Duration minIdle) {
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                streamKey,
+                CouponStreamConstants.COUPON_CONSUMER_GROUP,
+                consumerNameOf(streamKey),
+                XClaimOptions.minIdle(minIdle).ids(recordIds)
+        );
+        return claimed != null ? claimed : List.of();
+    }
+}
@@ -1,47 +1,230 @@
 package com.example.ecommerceapi.coupon.infrastructure.stream.publisher;
 
+import com.example.ecommerceapi.common.exception.CouponException;
+import com.example.ecommerceapi.common.exception.ErrorCode;
+import com.example.ecommerceapi.common.redis.StorageType;
 import com.example.ecommerceapi.coupon.domain.event.CouponIssuePublisher;
-import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamConstants;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamShards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 쿠폰 발급 이벤트 Publisher (Redis Stream 구현체)
- * Redis Stream에 쿠폰 발급 요청 이벤트를 발행
+ * Lua 스크립트로 잔여 수량과 발급 사용자 Set을 검사한 뒤 통과한 요청만 Redis Stream에 발행
+ * - 중복 발급, 수량 소진 요청은 Stream과 DB에 도달하기 전에 거절
+ * - 최종 정합성은 Consumer의 DB 검증(쿠폰 row 락, 중복 조회)이 보장
+ * - 이벤트는 couponId 해시로 결정된 샤드 Stream에 발행
+ * 다중 key Lua 스크립트를 사용하므로 단일 Redis 노드(또는 동일 hash slot) 환경을 전제로 합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponEventPublisher implements CouponIssuePublisher {
 
+    private static final String NOT_LOADED = "NOT_LOADED";
+    private static final String DUPLICATE = "DUPLICATE";
+    private static final String SOLD_OUT = "SOLD_OUT";
+    private static final int SCAN_COUNT = 500;
+
+    /**
+     * KEYS: [잔여 수량, 발급 사용자 Set, Stream], ARGV: [userId, couponId]
+     * 반환값: 발행된 이벤트 ID 또는 NOT_LOADED / DUPLICATE / SOLD_OUT
+     */
+    private static final DefaultRedisScript<String> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local remaining = redis.call('GET', KEYS[1])
+            if not remaining then
+                return 'NOT_LOADED'
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return 'DUPLICATE'
+            end
+            if tonumber(remaining) <= 0 then
+                return 'SOLD_OUT'
+            end
+            redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return redis.call('XADD', KEYS[3], '*', 'couponId', ARGV[2], 'userId', ARGV[1])
+            """, String.class);
+
+    /**
+     * KEYS: [잔여 수량, 발급 사용자 Set], ARGV: [잔여 수량, 만료 시각(epoch ms, 0이면 만료 없음), userId...]
+     */
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            for i = 3, #ARGV do
+                redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            if tonumber(ARGV[2]) > 0 then
+                redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+                redis.call('PEXPIREAT', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: [잔여 수량, 발급 사용자 Set], ARGV: [userId...]
+     * 발급 사용자 Set에서 제거된 사용자 수만큼 잔여 수량을 복원합니다. (적재되지 않은 경우 복원하지 않음)
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            for i = 1, #ARGV do
+                released = released + redis.call('SREM', KEYS[2], ARGV[i])
+            end
+            if released > 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCRBY', KEYS[1], released)
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * KEYS: [잔여 수량, 발급 사용자 Set], ARGV: [userId]
+     */
+    private static final DefaultRedisScript<Long> RECORD_ISSUED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('DECR', KEYS[1])
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final CouponStreamShards couponStreamShards;
 
     @Override
-    public String publish(Integer couponId, Integer userId) {
-        // 1. Map 형태로 이벤트 데이터 생성
-        Map<String, String> eventData = new HashMap<>();
-        eventData.put("couponId", String.valueOf(couponId));
-        eventData.put("userId", String.valueOf(userId));
-
-        // 2. MapRecord 생성
-        MapRecord<String, String, String> record = StreamRecords.newRecord()
-                .in(CouponStreamConstants.COUPON_STREAM_KEY)
-                .ofMap(eventData);
+    public Optional<String> publish(Integer couponId, Integer userId) {
+        String result = redisTemplate.execute(
+                ADMIT_SCRIPT,
+                List.of(
+                        StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(couponId),
+                        StorageType.COUPON_ISSUED_USERS.getKeyWithId(couponId),
+                        couponStreamShards.streamKeyOf(couponId)
+                ),
+                String.valueOf(userId),
+                String.valueOf(couponId)
+        );
 
-        // 3. Redis Stream에 발행
-        RecordId recordId = redisTemplate.opsForStream().add(record);
+        if (result == null || NOT_LOADED.equals(result)) {
+            return Optional.empty();
+        }
+        if (DUPLICATE.equals(result)) {
+            throw new CouponException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+        if (SOLD_OUT.equals(result)) {
+            throw new CouponException(ErrorCode.COUPON_NOT_AVAILABLE);
+        }
 
         log.info("쿠폰 발급 event published: couponId={}, userId={}, recordId={}",
-                couponId, userId, recordId);
+                couponId, userId, result);
+        return Optional.of(result);
+    }
+
+    @Override
+    public void loadIssueState(Integer couponId, int remainingQuantity, List<Integer> issuedUserIds, LocalDateTime expiredAt) {
+        List<Object> args = new ArrayList<>(issuedUserIds.size() + 2);
+        args.add(String.valueOf(Math.max(0, remainingQuantity)));
+        args.add(String.valueOf(expiredAt != null
+                ? expiredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L));
+        issuedUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long loaded = redisTemplate.execute(
+                LOAD_SCRIPT,
+                List.of(
+                        StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(couponId),
+                        StorageType.COUPON_ISSUED_USERS.getKeyWithId(couponId)
+                ),
+                args.toArray()
+        );
+
+        if (loaded != null && loaded == 1L) {
+            log.info("쿠폰 발급 상태 적재: couponId={}, remaining={}, issuedUsers={}",
+                    couponId, remainingQuantity, issuedUserIds.size());
+        }
+    }
+
+    @Override
+    public void releaseAdmissions(Integer couponId, Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Long released = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(
+                        StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(couponId),
+                        StorageType.COUPON_ISSUED_USERS.getKeyWithId(couponId)
+                ),
+                userIds.stream().map(String::valueOf).toArray()
+        );
+
+        if (released != null && released > 0) {
+            log.info("쿠폰 발급 입장 취소: couponId={}, released={}", couponId, released);
+        }
+    }
+
+    @Override
+    public void recordIssued(Integer couponId, Integer userId) {
+        redisTemplate.execute(
+                RECORD_ISSUED_SCRIPT,
+                List.of(
+                        StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(couponId),
+                        StorageType.COUPON_ISSUED_USERS.getKeyWithId(couponId)
+                ),
+                String.valueOf(userId)
+        );
+    }
+
+    @Override
+    public void clearIssueStates() {
+        int deleted = deleteByPattern(StorageType.COUPON_ISSUE_REMAINING.getKey() + ":*")
+                + deleteByPattern(StorageType.COUPON_ISSUED_USERS.getKey() + ":*");
+        log.info("쿠폰 발급 상태 삭제: {}건", deleted);
+    }
+
+    /**
+     * KEYS 대신 SCAN 커서로 순회하며 batch 단위로 삭제 (Redis 블로킹 방지)
+     */
+    private int deleteByPattern(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(SCAN_COUNT)
+                .build();
+
+        int deletedCount = 0;
+        List<String> keys = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    redisTemplate.delete(keys);
+                    deletedCount += keys.size();
+                    keys.clear();
+                }
+            }
+        }
 
-        return recordId.getValue();
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+            deletedCount += keys.size();
+        }
+        return deletedCount;
     }
 }
@@ -4,7 +4,6 @@ import com.example.ecommerceapi.cart.domain.entity.CartItem;
 import com.example.ecommerceapi.cart.domain.repository.CartItemRepository;
 import com.example.ecommerceapi.common.redis.CacheType;
 import com.example.ecommerceapi.common.exception.*;
-import com.example.ecommerceapi.common.lock.DistributedLock;
 import com.example.ecommerceapi.coupon.domain.entity.Coupon;
 import com.example.ecommerceapi.coupon.domain.entity.CouponUser;
 import com.example.ecommerceapi.coupon.domain.repository.CouponRepository;
@@ -21,8 +20,10 @@ import com.example.ecommerceapi.order.domain.repository.OrderItemRepository;
 import com.example.ecommerceapi.order.domain.repository.OrderRepository;
 import com.example.ecommerceapi.point.domain.entity.Point;
 import com.example.ecommerceapi.point.domain.repository.PointRepository;
+import com.example.ecommerceapi.product.application.stock.StockDeductionStrategyFactory;
 import com.example.ecommerceapi.product.application.validator.ProductValidator;
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import com.example.ecommerceapi.user.application.validator.UserValidator;
 import com.example.ecommerceapi.user.domain.entity.User;
@@ -36,8 +37,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -56,6 +57,7 @@ public class OrderService {
     private final UserRepository userRepository;
     private final PointRepository pointRepository;
     private final OrderEventPublisher orderEventPublisher;
+    private final StockDeductionStrategyFactory stockDeductionStrategyFactory;
 
 
     @Transactional
@@ -75,10 +77,13 @@ public class OrderService {
             throw new CartException(ErrorCode.CART_EMPTY);
         }
 
-        // 4. 각 상품의 재고 검증
+        // 4. 각 상품의 재고 검증 (IN 쿼리 1회로 일괄 조회 후 주문 항목 생성에 재사용)
+        List<Integer> productIds = cartItems.stream()
+                .map(CartItem::getProductId)
+                .toList();
+        Map<Integer, Product> productMap = productValidator.validateAndGetProducts(productIds);
         for (CartItem cartItem : cartItems) {
-            Product product = productValidator.validateAndGetProduct(cartItem.getProductId());
-            product.validateStock(cartItem.getQuantity());
+            productMap.get(cartItem.getProductId()).validateStock(cartItem.getQuantity());
         }
 
         // 5. 쿠폰 검증 (쿠폰 ID가 0이 아닌 경우에만)
@@ -125,18 +130,17 @@ public class OrderService {
         );
         order = orderRepository.save(order);
 
-        // 7. 주문 항목 생성
+        // 7. 주문 항목 생성 (saveAll 일괄 저장)
         List<OrderItem> orderItems = new ArrayList<>();
         for (CartItem cartItem : cartItems) {
-            Product product = productRepository.findById(cartItem.getProductId());
             OrderItem orderItem = OrderItem.createOrderItem(
                     order,
-                    product,
+                    productMap.get(cartItem.getProductId()),
                     cartItem.getQuantity()
             );
-            orderItem = orderItemRepository.save(orderItem);
             orderItems.add(orderItem);
         }
+        orderItemRepository.saveAll(orderItems);
 
         return CreateOrderResult.from(order);
     }
@@ -175,54 +179,44 @@ public class OrderService {
      * 결제 처리
      * 전체 결제 프로세스를 하나의 트랜잭션으로 처리하여 원자성 보장
      *
-     * <분산 락-SIMPLE>
-     * point:#userId     // 포인트 차감 동시성 제어
+     * <비관적 락>
+     * orderId           // 같은 주문 동시 결제 제어
+     * <조건부 UPDATE>
+     * userId            // 포인트 차감 동시성 제어 (point_balance >= ? 조건으로 원자적 차감)
      * <낙관적 락>
      * couponUser        // 쿠폰 중복 사용 제어
-     * <비관적 락>
-     * productId         // 재고 차감 동시성 제어
+     * <재고 차감 전략>
+     * productId         // 재고 차감 동시성 제어 (비관적 락, 조건부 UPDATE, Redis Lua 중 stock.deduction.type)
      */
     @CacheEvict(value = CacheType.Names.ORDER, key = "#orderId")
-    @DistributedLock(
-            key = "'point:' + #userId",
-            waitTime = 5,
-            leaseTime = 10
-    )
     @Transactional
     public PaymentResult processPayment(Integer orderId, Integer userId) {
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND));
         order.validatePaymentAvailable();
 
         try {
-            // 1. 포인트 차감 (분산 락 적용)
+            // 1. 포인트 차감 (조건부 UPDATE)
             Integer paymentAmount = order.getFinalPaymentAmount();
             User user = userRepository.findById(userId);
             if (user == null) {
                 throw new UserException(ErrorCode.USER_NOT_FOUND);
             }
-            user.usePoints(paymentAmount);
-            userRepository.save(user);
+            if (!userRepository.usePointsIfSufficient(userId, paymentAmount)) {
+                throw new PointException(ErrorCode.POINT_INSUFFICIENT_BALANCE);
+            }
 
             // 2. 포인트 사용 이력 저장
             Point point = Point.createUseHistory(user, paymentAmount);
             pointRepository.save(point);
 
-            // 3. 상품 재고 차감 (비관적 락 사용)
+            // 3. 상품 재고 차감 (stock.deduction.type 설정에 따른 전략 사용)
             List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
-
-            // 데드락 방지: ProductId 순서로 정렬하여 항상 같은 순서로 락 획득
-            items.sort(Comparator.comparing(item -> item.getProduct().getProductId()));
-
-            for (OrderItem item : items) {
-                Product product = productRepository.findByIdWithLock(item.getProduct().getProductId());
-                if (product == null) {
-                    throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
-                }
-                product.decreaseStock(item.getOrderQuantity());
-                productRepository.save(product);
-            }
+            List<ProductQuantity> stockItems = items.stream()
+                    .map(item -> ProductQuantity.of(item.getProduct().getProductId(), item.getOrderQuantity()))
+                    .toList();
+            stockDeductionStrategyFactory.getStrategy().decreaseStock(stockItems);
 
             // 4. 쿠폰 사용 처리 (낙관적 락 사용)
             if (order.hasCoupon()) {
@@ -239,7 +233,7 @@ public class OrderService {
             // 7. 주문 결제 완료 이벤트 발행
             orderEventPublisher.publishOrderPaidEvent(order, items);
 
-            return PaymentResult.from(order, user.getPointBalance());
+            return PaymentResult.from(order, userRepository.findBalanceById(userId));
         }
         catch (Exception e) {
             log.error("결제 처리 중 오류 발생. 주문ID: {}, 사용자ID: {}", orderId, userId, e);
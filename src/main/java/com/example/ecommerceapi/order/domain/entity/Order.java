@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.order.domain.entity;
 
+import com.example.ecommerceapi.common.config.IdGeneratorConstants;
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.OrderException;
 import com.example.ecommerceapi.coupon.domain.entity.Coupon;
@@ -12,7 +13,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "orders", indexes = {
     @Index(name = "idx_orders_user_id", columnList = "user_id"),
-    @Index(name = "idx_orders_status_createdat", columnList = "order_status, created_at")
+    @Index(name = "idx_orders_status_createdat", columnList = "order_status, created_at"),
+    @Index(name = "idx_orders_status_updatedat", columnList = "order_status, updated_at")
 })
 @Getter
 @Setter
@@ -21,7 +23,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_id_generator")
+    @TableGenerator(
+            name = "orders_id_generator",
+            table = IdGeneratorConstants.TABLE,
+            pkColumnName = IdGeneratorConstants.PK_COLUMN,
+            valueColumnName = IdGeneratorConstants.VALUE_COLUMN,
+            pkColumnValue = "orders",
+            allocationSize = IdGeneratorConstants.ALLOCATION_SIZE
+    )
     @Column(name = "order_id")
     private Integer orderId;
 
@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.order.domain.entity;
 
+import com.example.ecommerceapi.common.config.IdGeneratorConstants;
 import com.example.ecommerceapi.product.domain.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,15 @@ import lombok.*;
 @AllArgsConstructor
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_id_generator")
+    @TableGenerator(
+            name = "order_item_id_generator",
+            table = IdGeneratorConstants.TABLE,
+            pkColumnName = IdGeneratorConstants.PK_COLUMN,
+            valueColumnName = IdGeneratorConstants.VALUE_COLUMN,
+            pkColumnValue = "order_item",
+            allocationSize = IdGeneratorConstants.ALLOCATION_SIZE
+    )
     @Column(name = "order_item_id")
     private Integer orderItemId;
 
@@ -22,6 +22,11 @@ public interface OrderItemRepository {
      */
     OrderItem save(OrderItem orderItem);
 
+    /**
+     * 주문 항목 일괄 저장 (JDBC batch insert)
+     */
+    List<OrderItem> saveAll(List<OrderItem> orderItems);
+
     /**
      * ID로 주문 항목 조회
      */
@@ -22,6 +22,11 @@ public interface OrderRepository {
      */
     Optional<Order> findById(Integer orderId);
 
+    /**
+     * ID로 주문 조회 (비관적 락)
+     */
+    Optional<Order> findByIdWithLock(Integer orderId);
+
     /**
      * 사용자 ID로 주문 목록 조회
      */
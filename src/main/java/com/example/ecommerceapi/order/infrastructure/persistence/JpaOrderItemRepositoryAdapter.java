@@ -31,6 +31,11 @@ public class JpaOrderItemRepositoryAdapter implements OrderItemRepository {
         return jpaOrderItemRepository.save(orderItem);
     }
 
+    @Override
+    public List<OrderItem> saveAll(List<OrderItem> orderItems) {
+        return jpaOrderItemRepository.saveAll(orderItems);
+    }
+
     @Override
     public Optional<OrderItem> findById(Integer orderItemId) {
         return jpaOrderItemRepository.findById(orderItemId);
@@ -2,9 +2,12 @@ package com.example.ecommerceapi.order.infrastructure.persistence;
 
 import com.example.ecommerceapi.order.domain.entity.Order;
 import com.example.ecommerceapi.order.domain.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Order 도메인의 JPA Repository
@@ -20,4 +23,11 @@ public interface JpaOrderRepository extends JpaRepository<Order, Integer> {
      * 중복 주문 조회
      */
     boolean existsByUserUserIdAndOrderStatus(Integer userId, OrderStatus orderStatus);
+
+    /**
+     * ID로 주문 조회 (비관적 락 적용)
+     * 같은 주문에 대한 동시 결제를 주문 row 단위로 직렬화
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Order> findWithLockByOrderId(Integer orderId);
 }
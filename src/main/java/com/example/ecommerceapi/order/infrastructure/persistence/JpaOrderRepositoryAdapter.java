@@ -33,6 +33,11 @@ public class JpaOrderRepositoryAdapter implements OrderRepository {
         return jpaOrderRepository.findById(orderId);
     }
 
+    @Override
+    public Optional<Order> findByIdWithLock(Integer orderId) {
+        return jpaOrderRepository.findWithLockByOrderId(orderId);
+    }
+
     @Override
     public List<Order> findByUserId(Integer userId) {
         return jpaOrderRepository.findByUserUserId(userId);
@@ -11,7 +11,7 @@ public class OrderItemTableUtils {
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * OrderItem 테이블 데이터 초기화 + AUTO_INCREMENT 1로 초기화
+     * OrderItem 테이블 데이터 초기화 (ID는 id_sequence에서 블록 단위로 할당되므로 1로 초기화되지 않음)
      */
     public void resetOrderItemTable() {
         jdbcTemplate.execute("TRUNCATE TABLE order_item");
@@ -11,7 +11,7 @@ public class OrderTableUtils {
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Order 테이블 데이터 초기화 + AUTO_INCREMENT 1로 초기화
+     * Order 테이블 데이터 초기화 (ID는 id_sequence에서 블록 단위로 할당되므로 1로 초기화되지 않음)
      */
     public void resetOrderTable() {
         jdbcTemplate.execute("TRUNCATE TABLE orders");
@@ -2,8 +2,6 @@ package com.example.ecommerceapi.point.application.service;
 
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.UserException;
-import com.example.ecommerceapi.common.lock.DistributedLock;
-import com.example.ecommerceapi.common.lock.LockType;
 import com.example.ecommerceapi.point.application.dto.PointResult;
 import com.example.ecommerceapi.point.domain.entity.Point;
 import com.example.ecommerceapi.point.domain.repository.PointRepository;
@@ -48,10 +46,9 @@ public class PointService {
 
     /**
      * 포인트 충전
-     * <분산 락-PUB_SUB>
-     * point:#userId  // 포인트 충전 중복 제어
+     * <원자적 UPDATE>
+     * point_balance = point_balance + ?  // 락 없이 동시 충전 반영
      */
-    @DistributedLock(key = "'point:' + #userId", type = LockType.SIMPLE)
     @Transactional
     public PointResult chargePoint(Integer userId, Integer amount) {
 
@@ -65,15 +62,14 @@ public class PointService {
         }
 
         // 3. 잔여 포인트 반영
-        user.chargePoints(amount);
-        userRepository.save(user);
+        userRepository.chargePoints(userId, amount);
 
         // 4. Point 이력 저장
         Point point = Point.createChargeHistory(user, amount);
         Point savedPoint = pointRepository.save(point);
 
         // 5. DTO로 변환하여 반환
-        return PointResult.from(savedPoint, user.getPointBalance());
+        return PointResult.from(savedPoint, userRepository.findBalanceById(userId));
     }
 
     @Transactional
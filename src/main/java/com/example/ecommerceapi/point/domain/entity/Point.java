@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.point.domain.entity;
 
+import com.example.ecommerceapi.common.config.IdGeneratorConstants;
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.PointException;
 import com.example.ecommerceapi.user.domain.entity.User;
@@ -21,7 +22,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Point {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "point_id_generator")
+    @TableGenerator(
+            name = "point_id_generator",
+            table = IdGeneratorConstants.TABLE,
+            pkColumnName = IdGeneratorConstants.PK_COLUMN,
+            valueColumnName = IdGeneratorConstants.VALUE_COLUMN,
+            pkColumnValue = "point",
+            allocationSize = IdGeneratorConstants.ALLOCATION_SIZE
+    )
     @Column(name = "point_id")
     private Integer pointId;
 
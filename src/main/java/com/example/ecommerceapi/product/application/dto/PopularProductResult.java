@@ -1,6 +1,7 @@
 package com.example.ecommerceapi.product.application.dto;
 
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 
 import java.util.List;
 
@@ -21,6 +22,36 @@ public record PopularProductResult(
         );
     }
 
+    public static PopularProductResult fromWithSalesCount(Product product, Long salesCount) {
+        return new PopularProductResult(
+                product.getProductId(),
+                product.getProductName(),
+                product.getProductPrice(),
+                Math.toIntExact(salesCount),
+                product.getViewCount()
+        );
+    }
+
+    public static PopularProductResult from(ProductViewSummary summary) {
+        return new PopularProductResult(
+                summary.productId(),
+                summary.productName(),
+                summary.productPrice(),
+                null,
+                summary.viewCount()
+        );
+    }
+
+    public static PopularProductResult fromWithViewCount(ProductViewSummary summary, Long viewCount) {
+        return new PopularProductResult(
+                summary.productId(),
+                summary.productName(),
+                summary.productPrice(),
+                null,
+                Math.toIntExact(viewCount)
+        );
+    }
+
     public static List<PopularProductResult> fromWithSalesList(List<PopularProductBySailsResult> results) {
         return results.stream()
                 .map(result -> new PopularProductResult(
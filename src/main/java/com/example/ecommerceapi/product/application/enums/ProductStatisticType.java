@@ -2,14 +2,18 @@ package com.example.ecommerceapi.product.application.enums;
 
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.common.redis.CacheType;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
 public enum ProductStatisticType {
-    SALES,
-    VIEWS;
+    SALES(CacheType.POPULAR_PRODUCTS_SALES),
+    VIEWS(CacheType.POPULAR_PRODUCTS_VIEWS);
+
+    // 인기 상품 캐시 region
+    private final CacheType cacheType;
 
     public static ProductStatisticType from(String type) {
         try {
@@ -0,0 +1,49 @@
+package com.example.ecommerceapi.product.application.listener;
+
+import com.example.ecommerceapi.order.domain.event.OrderPaidEvent;
+import com.example.ecommerceapi.product.application.service.ProductSalesRollupService;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 주문 결제 완료 이벤트를 처리하여 상품 일별 판매량 집계를 갱신합니다.
+ * 주문 단위로 멱등하게 반영되므로 같은 이벤트가 다시 전달되어도 판매량이 중복 집계되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesRollupEventListener {
+
+    private final ProductSalesRollupService productSalesRollupService;
+
+    /**
+     * 주문 결제 완료 이벤트 처리
+     * 비동기로 실행되어 메인 결제 로직에 영향을 주지 않습니다.
+     *
+     * @param event 주문 결제 완료 이벤트
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOrderPaidEvent(OrderPaidEvent event) {
+        try {
+            List<ProductQuantity> items = event.orderItems().stream()
+                    .map(item -> ProductQuantity.of(item.productId(), item.orderQuantity()))
+                    .toList();
+
+            if (productSalesRollupService.recordOrderSales(event.orderId(), event.paidAt().toLocalDate(), items)) {
+                log.debug("Rolled up daily product sales for orderId: {}", event.orderId());
+            }
+        } catch (Exception e) {
+            // 집계 실패는 메인 결제 로직에 영향을 주지 않음
+            log.error("Failed to roll up daily product sales for orderId {}: {}",
+                    event.orderId(), e.getMessage(), e);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.ecommerceapi.product.application.listener;
 
 import com.example.ecommerceapi.order.domain.event.OrderPaidEvent;
-import com.example.ecommerceapi.product.application.service.RankingService;
+import com.example.ecommerceapi.product.application.service.SalesRankingBuffer;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -9,16 +10,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.LocalDate;
+import java.util.List;
 
 /**
- * 주문 결제 완료 이벤트를 처리하여 일간/주간 판매 랭킹을 업데이트합니다.
+ * 주문 결제 완료 이벤트를 처리하여 일간 판매 랭킹을 업데이트합니다. (SalesRankingBuffer로 주문 간 micro-batch)
+ * 인기 상품(판매량) 캐시 무효화는 일별 판매량 집계 반영 후 ProductSalesRollupService에서 수행합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SalesRankingEventListener {
-    private final RankingService rankingService;
+
+    private final SalesRankingBuffer salesRankingBuffer;
 
     /**
      * 주문 결제 완료 이벤트 처리
@@ -32,30 +35,14 @@ public class SalesRankingEventListener {
         log.info("Processing OrderPaidEvent for orderId: {}", event.orderId());
 
         try {
-            LocalDate paidDate = event.paidAt().toLocalDate();
-
-            // 주문의 모든 상품에 대해 일간/주간 판매량 증가
-            for (OrderPaidEvent.OrderItemDto item : event.orderItems()) {
-                // 일간 판매 랭킹 업데이트
-                rankingService.incrementDailySalesCount(
-                        item.productId(),
-                        item.orderQuantity(),
-                        paidDate
-                );
-
-                // 주간 판매 랭킹 업데이트
-                rankingService.incrementWeeklySalesCount(
-                        item.productId(),
-                        item.orderQuantity(),
-                        paidDate
-                );
-
-                log.debug("Updated sales rankings (daily/weekly) for product {} by {} units",
-                        item.productId(), item.orderQuantity());
-            }
-
-            log.info("Successfully updated sales rankings for {} products in orderId: {}",
-                    event.orderItems().size(), event.orderId());
+            // 주문의 모든 상품 판매량을 버퍼에 추가 (여러 주문을 모아 일간 랭킹에 pipeline으로 반영)
+            List<ProductQuantity> items = event.orderItems().stream()
+                    .map(item -> ProductQuantity.of(item.productId(), item.orderQuantity()))
+                    .toList();
+            salesRankingBuffer.add(items, event.paidAt().toLocalDate());
+
+            log.debug("Buffered daily sales rankings for {} products in orderId: {}",
+                    items.size(), event.orderId());
         } catch (Exception e) {
             // 랭킹 업데이트 실패는 메인 결제 로직에 영향을 주지 않음
             log.error("Failed to update sales rankings for orderId {}: {}",
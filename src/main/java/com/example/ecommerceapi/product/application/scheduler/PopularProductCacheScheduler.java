@@ -1,17 +1,16 @@
 package com.example.ecommerceapi.product.application.scheduler;
 
-import com.example.ecommerceapi.common.redis.CacheType;
+import com.example.ecommerceapi.common.redis.RefreshAheadCache;
 import com.example.ecommerceapi.product.application.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 인기 상품 캐시를 주기적으로 갱신하는 스케줄러입니다.
- * Spring Cache의 @CacheEvict를 사용하여 캐시를 무효화하고,
- * 다음 조회 시 @Cacheable에 의해 자동으로 캐시가 갱신됩니다.
+ * 캐시를 무효화하지 않고 soft TTL이 지난 항목만 미리 갱신하여 (Refresh-Ahead),
+ * 갱신 중에도 요청은 기존 캐시 값을 응답받습니다.
  */
 @Slf4j
 @Component
@@ -19,27 +18,25 @@ import org.springframework.stereotype.Component;
 public class PopularProductCacheScheduler {
 
     private final ProductService productService;
+    private final RefreshAheadCache refreshAheadCache;
 
     // 기본 파라미터
     private static final Integer DEFAULT_DAYS = 3;
     private static final Integer DEFAULT_LIMIT = 5;
 
     /**
-     * 판매량 기준 인기 상품 캐시 갱신 (5분마다 실행)
+     * soft TTL이 지난 인기 상품 캐시 갱신 (기본 10초마다 확인)
      */
-    @Scheduled(fixedRate = 300000) // 5분 = 300,000ms
-    @CacheEvict(value = CacheType.Names.POPULAR_PRODUCTS_SALES, allEntries = true)
-    public void evictSalesBasedPopularProductsCache() {
-        log.info("Evicted sales-based popular products cache");
-    }
-
-    /**
-     * 조회수 기준 인기 상품 캐시 갱신 (30분마다 실행)
-     */
-    @Scheduled(fixedRate = 1800000) // 30분 = 1,800,000ms
-    @CacheEvict(value = CacheType.Names.POPULAR_PRODUCTS_VIEWS, allEntries = true)
-    public void evictViewBasedPopularProductsCache() {
-        log.info("Evicted view-based popular products cache");
+    @Scheduled(fixedDelayString = "${cache.refresh-ahead.interval-ms:10000}")
+    public void refreshStalePopularProductsCache() {
+        try {
+            int refreshed = refreshAheadCache.refreshStaleEntries();
+            if (refreshed > 0) {
+                log.info("Refreshed stale popular products cache: {} entries", refreshed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh popular products cache: {}", e.getMessage(), e);
+        }
     }
 
     /**
@@ -0,0 +1,44 @@
+package com.example.ecommerceapi.product.application.scheduler;
+
+import com.example.ecommerceapi.product.application.service.ProductSalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 판매량 집계에서 누락된 결제 완료 주문을 주기적으로 다시 반영하는 스케줄러입니다.
+ * 결제 완료 이벤트 처리가 실패하거나 유실된 주문을 전날 00시부터 조회하며,
+ * 이벤트 처리 중인 주문과 겹치지 않도록 최근 1분 내 결제된 주문은 다음 주기에 반영합니다.
+ * 주문당 한 번만 반영되므로 여러 노드에서 동시에 실행되어도 중복 집계되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesRollupReconcileScheduler {
+
+    private static final long GRACE_SECONDS = 60;
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductSalesRollupService productSalesRollupService;
+
+    /**
+     * 누락된 주문 판매량 반영 (기본 1분마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${product.sales-rollup.reconcile-interval-ms:60000}")
+    public void reconcileOrderSales() {
+        try {
+            LocalDateTime from = LocalDate.now().minusDays(1).atStartOfDay();
+            LocalDateTime to = LocalDateTime.now().minusSeconds(GRACE_SECONDS);
+            int reconciled = productSalesRollupService.reconcile(from, to, BATCH_SIZE);
+            if (reconciled > 0) {
+                log.warn("Reconciled missing order sales rollups: {} orders", reconciled);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile order sales rollups, will retry: {}", e.getMessage(), e);
+        }
+    }
+}
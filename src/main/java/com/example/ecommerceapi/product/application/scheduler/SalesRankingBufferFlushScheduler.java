@@ -0,0 +1,33 @@
+package com.example.ecommerceapi.product.application.scheduler;
+
+import com.example.ecommerceapi.product.application.service.SalesRankingBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 내 판매 랭킹 버퍼를 짧은 주기로 Redis에 반영하는 스케줄러입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRankingBufferFlushScheduler {
+
+    private final SalesRankingBuffer salesRankingBuffer;
+
+    /**
+     * 판매 랭킹 버퍼 반영 (기본 20ms마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${product.sales-ranking.flush-interval-ms:20}")
+    public void flushSalesRankingBuffer() {
+        try {
+            int flushed = salesRankingBuffer.flush();
+            if (flushed > 0) {
+                log.debug("Flushed sales ranking buffer: {} products", flushed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush sales ranking buffer, will retry: {}", e.getMessage(), e);
+        }
+    }
+}
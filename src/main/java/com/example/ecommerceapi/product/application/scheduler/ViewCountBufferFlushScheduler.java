@@ -0,0 +1,33 @@
+package com.example.ecommerceapi.product.application.scheduler;
+
+import com.example.ecommerceapi.product.application.service.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 내 조회수 버퍼를 주기적으로 Redis에 반영하는 스케줄러입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBufferFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    /**
+     * 조회수 버퍼 반영 (기본 200ms마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:200}")
+    public void flushViewCountBuffer() {
+        try {
+            int flushed = viewCountBuffer.flush();
+            if (flushed > 0) {
+                log.debug("Flushed view count buffer: {} products", flushed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush view count buffer, will retry: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package com.example.ecommerceapi.product.application.scheduler;
 
 import com.example.ecommerceapi.product.application.service.ProductCacheService;
-import com.example.ecommerceapi.product.domain.entity.Product;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Redis에 저장된 조회수를 주기적으로 DB에 동기화하는 스케줄러입니다.
@@ -22,63 +23,74 @@ public class ViewCountSyncScheduler {
     private final ProductCacheService cacheService;
     private final ProductRepository productRepository;
 
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    /**
+     * dirty Set 도입 이전에 쌓인 조회수 key를 SCAN으로 찾아 동기화 대상에 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverDirtyProductIds() {
+        try {
+            int recovered = cacheService.recoverDirtyProductIds();
+            log.info("Recovered {} view count keys into dirty set", recovered);
+        } catch (Exception e) {
+            log.error("Failed to recover view count keys: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 조회수 랭킹이 비어 있으면 DB 조회수로 적재 (marker로 최초 1회만 적재)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeViewRanking() {
+        try {
+            if (cacheService.initializeViewRanking(productRepository.findAllViewSummaries())) {
+                log.info("Initialized view ranking from DB");
+            }
+        } catch (Exception e) {
+            log.error("Failed to initialize view ranking: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * 조회수 동기화 (5분마다 실행)
+     * 조회수가 변경된 상품 ID만 dirty Set에서 SPOP으로 꺼내 chunk 단위로 처리합니다.
+     * - chunk마다 Redis 조회수를 읽고 동시에 초기화(read-and-reset)
+     * - batch UPDATE 1회로 DB에 반영 (chunk마다 트랜잭션 분리)
+     * - DB 반영 실패 시 읽은 조회수를 Redis에 되돌리고 이번 주기를 종료 (다음 주기에 재시도)
      */
     @Scheduled(fixedRate = 300000) // 5분 = 300,000ms
-    @Transactional
     public void syncViewCountsToDatabase() {
         try {
             log.info("Starting to sync view counts from Redis to DB...");
 
-            List<String> viewCountKeys = cacheService.getAllViewCountKeys();
-
-            if (viewCountKeys.isEmpty()) {
-                log.info("No view count data to sync");
-                return;
-            }
-
             int syncedCount = 0;
-            for (String key : viewCountKeys) {
-                try {
-                    // 키에서 productId 추출 (product:viewcount:{productId})
-                    String productIdStr = key.split(":")[2];
-                    Integer productId = Integer.parseInt(productIdStr);
-
-                    // Redis에서 조회수 가져오기
-                    Long viewCount = cacheService.getViewCount(productId);
-
-                    if (viewCount == null || viewCount == 0) {
-                        continue;
-                    }
-
-                    // DB에서 상품 조회 및 업데이트
-                    Product product = productRepository.findById(productId);
-                    if (product != null) {
-                        // 현재 DB 조회수에 Redis 조회수 추가
-                        for (int i = 0; i < viewCount; i++) {
-                            product.incrementViewCount();
-                        }
-                        productRepository.save(product);
-
-                        // Redis 캐시 삭제 (동기화 완료)
-                        cacheService.deleteViewCount(productId);
-
-                        syncedCount++;
-                        log.debug("Synced view count for productId={}: +{}", productId, viewCount);
-                    } else {
-                        log.warn("Product not found for productId={}, skipping sync", productId);
-                    }
+            List<Integer> productIds;
+            while (!(productIds = cacheService.popDirtyProductIds(SYNC_BATCH_SIZE)).isEmpty()) {
+                Map<Integer, Long> viewCounts = cacheService.drainViewCounts(productIds);
+                if (viewCounts.isEmpty()) {
+                    continue;
+                }
 
+                try {
+                    productRepository.incrementViewCounts(viewCounts);
+                    syncedCount += viewCounts.size();
                 } catch (Exception e) {
-                    log.error("Failed to sync view count for key={}: {}", key, e.getMessage());
+                    cacheService.restoreViewCounts(viewCounts);
+                    log.error("Failed to sync view counts for {} products, restored to Redis: {}",
+                            viewCounts.size(), e.getMessage(), e);
+                    break;
                 }
             }
 
+            if (syncedCount == 0) {
+                log.info("No view count data to sync");
+                return;
+            }
             log.info("Successfully synced {} view counts to DB", syncedCount);
 
         } catch (Exception e) {
             log.error("Failed to sync view counts: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
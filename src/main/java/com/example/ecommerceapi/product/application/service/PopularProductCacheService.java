@@ -0,0 +1,108 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.common.redis.CacheType;
+import com.example.ecommerceapi.common.redis.RefreshAheadCache;
+import com.example.ecommerceapi.product.application.dto.PopularProductResult;
+import com.example.ecommerceapi.product.application.enums.ProductStatisticType;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 상품 캐시 서비스입니다.
+ * 통계 타입별 캐시 region(CacheType)에 Refresh-Ahead 방식으로 저장하며,
+ * 판매량 캐시는 결제된 상품이 캐시된 top-N에 새로 진입하면 해당 항목을 무효화합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularProductCacheService {
+
+    private static final String KEY_SEPARATOR = "::";
+
+    private final RefreshAheadCache refreshAheadCache;
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+
+    /**
+     * 인기 상품 캐시 조회 (없으면 loader로 적재)
+     */
+    public List<PopularProductResult> get(ProductStatisticType type, int days, int limit,
+                                          Supplier<List<PopularProductResult>> loader) {
+        return refreshAheadCache.get(type.getCacheType(), cacheKey(type, days, limit), loader);
+    }
+
+    /**
+     * 판매량 인기 상품 집계 시작일 (캐시 적재와 진입 판단이 같은 기간을 사용)
+     */
+    static LocalDate salesStartDate(int days) {
+        return LocalDate.now().minusDays(days);
+    }
+
+    /**
+     * 결제된 상품이 판매량 top-N에 진입한 캐시 항목을 무효화합니다.
+     * 캐시에 없는 상품의 기간 판매량(일별 판매량 집계 합계)이 캐시된 N위 판매량을 넘으면 진입으로 판단합니다.
+     * 캐시와 같은 집계 테이블, 같은 집계 시작일로 판단하므로 주문 판매량이 집계에 반영(커밋)된 뒤 호출해야 합니다.
+     * 판매일이 캐시 집계 기간 이전이면 (지난 주문 재반영) 해당 항목의 순위에 영향이 없으므로 무효화하지 않습니다.
+     *
+     * @return 무효화한 캐시 항목 수
+     */
+    @SuppressWarnings("unchecked")
+    public int evictSalesEntriesEnteredBy(Collection<Integer> productIds, LocalDate paidDate) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        int evicted = refreshAheadCache.evictIf(CacheType.POPULAR_PRODUCTS_SALES, (key, value) -> {
+            String[] params = key.split(KEY_SEPARATOR);
+            int days = Integer.parseInt(params[0]);
+            int limit = Integer.parseInt(params[1]);
+            LocalDate startDate = salesStartDate(days);
+            if (paidDate.isBefore(startDate)) {
+                return false;
+            }
+            List<PopularProductResult> cached = (List<PopularProductResult>) value;
+
+            Set<Integer> cachedIds = cached.stream()
+                    .map(PopularProductResult::productId)
+                    .collect(Collectors.toSet());
+            List<Integer> candidates = productIds.stream()
+                    .filter(productId -> !cachedIds.contains(productId))
+                    .distinct()
+                    .toList();
+            if (candidates.isEmpty()) {
+                return false;
+            }
+            if (cached.size() < limit) {
+                return true;
+            }
+
+            Integer lastSalesCount = cached.get(cached.size() - 1).salesCount();
+            long threshold = lastSalesCount != null ? lastSalesCount : 0L;
+            Map<Integer, Long> salesCounts = productSalesDailyRepository.sumSales(candidates, startDate);
+            return salesCounts.values().stream().anyMatch(salesCount -> salesCount > threshold);
+        });
+
+        if (evicted > 0) {
+            log.info("Evicted popular products (SALES) cache entries: {} entries, productIds={}", evicted, productIds);
+        }
+        return evicted;
+    }
+
+    /**
+     * 캐시 key (조회수 통계는 기간과 무관하므로 limit만 사용)
+     */
+    private String cacheKey(ProductStatisticType type, int days, int limit) {
+        return switch (type) {
+            case SALES -> days + KEY_SEPARATOR + limit;
+            case VIEWS -> String.valueOf(limit);
+        };
+    }
+}
@@ -1,16 +1,30 @@
 package com.example.ecommerceapi.product.application.service;
 
+import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * 상품 조회수 관련 캐싱 서비스입니다.
- * Redis INCR를 사용한 Write-Behind 패턴을 구현합니다.
+ * Redis INCRBY를 사용한 Write-Behind 패턴을 구현합니다. (요청 경로의 증가는 ViewCountBuffer에서 모아 반영)
+ * 조회수가 변경된 상품 ID는 dirty Set에 기록하여, 동기화 시 전체 keyspace 대신 변경된 상품만 처리합니다.
+ * 조회수 랭킹 ZSET(score: DB 조회수 + 반영된 증가량)을 같은 pipeline에서 갱신하여, 조회수 top-N을 ZREVRANGE로 조회합니다.
  */
 @Slf4j
 @Service
@@ -21,16 +35,122 @@ public class ProductCacheService {
 
     // 캐시 키 상수
     private static final String VIEW_COUNT_KEY_PREFIX = "product:viewcount:";
+    // 조회수 key 패턴(product:viewcount:*)에 포함되지 않도록 별도 prefix 사용
+    static final String VIEW_COUNT_DIRTY_KEY = "product:viewcount-dirty";
+
+    private static final int SCAN_COUNT = 1000;
+    private static final int RANKING_INIT_BATCH_SIZE = 1000;
 
     /**
-     * 조회수 증가 (Redis INCR)
-     * @return 증가 후 조회수
+     * KEYS: [조회수 key...], 반환값: key별 조회수 (없으면 false)
      */
-    public Long incrementViewCount(Integer productId) {
-        String key = VIEW_COUNT_KEY_PREFIX + productId;
-        Long count = redisTemplate.opsForValue().increment(key);
-        log.debug("Product view count incremented: productId={}, count={}", productId, count);
-        return count;
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local values = {}
+            for i = 1, #KEYS do
+                values[i] = redis.call('GET', KEYS[i])
+                if values[i] then
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            return values
+            """, List.class);
+
+    /**
+     * KEYS: [조회수 key..., dirty Set], ARGV: [조회수..., productId...]
+     */
+    private static final DefaultRedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                redis.call('INCRBY', KEYS[i], ARGV[i])
+                redis.call('SADD', KEYS[#KEYS], ARGV[n + i])
+            end
+            return n
+            """, Long.class);
+
+    /**
+     * 상품별 조회수 증가량을 한 번에 반영 (INCRBY + 랭킹 ZINCRBY + dirty Set SADD, pipeline 1회)
+     * ViewCountBuffer에서 주기적으로 호출합니다.
+     *
+     * @return 상품 ID별 증가 후 조회수
+     */
+    public Map<Integer, Long> incrementViewCounts(Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> productIds = new ArrayList<>(deltas.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Integer productId : productIds) {
+                connection.stringCommands().incrBy(serialize(VIEW_COUNT_KEY_PREFIX + productId), deltas.get(productId));
+            }
+            byte[] rankingKey = serialize(StorageType.VIEW_RANKING.getKey());
+            for (Integer productId : productIds) {
+                connection.zSetCommands().zIncrBy(rankingKey, deltas.get(productId), serialize(String.valueOf(productId)));
+            }
+            connection.setCommands().sAdd(serialize(VIEW_COUNT_DIRTY_KEY), productIds.stream()
+                    .map(productId -> serialize(String.valueOf(productId)))
+                    .toArray(byte[][]::new));
+            return null;
+        });
+
+        Map<Integer, Long> viewCounts = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            viewCounts.put(productIds.get(i), ((Number) results.get(i)).longValue());
+        }
+        log.debug("Product view counts incremented: {}", deltas);
+        return viewCounts;
+    }
+
+    /**
+     * DB 조회수로 조회수 랭킹을 적재합니다. (marker SET NX로 최초 1회만 적재)
+     * 적재 전에 반영된 증가량은 ZINCRBY로 더해지므로, 적재 순서와 무관하게 score는 DB 조회수 + 증가량이 됩니다.
+     *
+     * @return 적재 여부 (이미 적재된 경우 false)
+     */
+    public boolean initializeViewRanking(List<ProductViewSummary> summaries) {
+        Boolean marked = redisTemplate.opsForValue()
+                .setIfAbsent(StorageType.VIEW_RANKING_INITIALIZED.getKey(), String.valueOf(System.currentTimeMillis()));
+        if (!Boolean.TRUE.equals(marked)) {
+            return false;
+        }
+
+        byte[] rankingKey = serialize(StorageType.VIEW_RANKING.getKey());
+        for (int from = 0; from < summaries.size(); from += RANKING_INIT_BATCH_SIZE) {
+            List<ProductViewSummary> chunk = summaries.subList(from, Math.min(from + RANKING_INIT_BATCH_SIZE, summaries.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ProductViewSummary summary : chunk) {
+                    long viewCount = summary.viewCount() != null ? summary.viewCount() : 0L;
+                    connection.zSetCommands().zIncrBy(rankingKey, viewCount, serialize(String.valueOf(summary.productId())));
+                }
+                return null;
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 조회수 상위 N개 상품 조회 (ZREVRANGE WITHSCORES)
+     *
+     * @return 상품 ID별 조회수 (조회수 내림차순, 랭킹이 비어 있으면 빈 Map)
+     */
+    public Map<Integer, Long> findTopViewCounts(int limit) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(StorageType.VIEW_RANKING.getKey(), 0, limit - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, Long> viewCounts = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                viewCounts.put(Integer.valueOf(tuple.getValue().toString()), tuple.getScore().longValue());
+            }
+        }
+        return viewCounts;
+    }
+
+    private byte[] serialize(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
     /**
@@ -43,21 +163,105 @@ public class ProductCacheService {
     }
 
     /**
-     * 조회수 초기화 (DB 동기화 후)
+     * 상품들의 조회수를 읽고 동시에 삭제합니다. (Lua 1회 호출로 GET + DEL, read-and-reset)
+     * 읽은 뒤 들어온 조회수 증가는 새 key에 쌓이므로 유실되거나 중복 반영되지 않습니다.
+     *
+     * @return 상품 ID별 조회수 (0보다 큰 값만 포함)
      */
-    public void deleteViewCount(Integer productId) {
-        String key = VIEW_COUNT_KEY_PREFIX + productId;
-        redisTemplate.delete(key);
+    public Map<Integer, Long> drainViewCounts(List<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = productIds.stream()
+                .map(productId -> VIEW_COUNT_KEY_PREFIX + productId)
+                .toList();
+        List<?> values = redisTemplate.execute(DRAIN_SCRIPT, keys);
+
+        Map<Integer, Long> viewCounts = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Object value = values != null && i < values.size() ? values.get(i) : null;
+            long viewCount = value != null ? Long.parseLong(value.toString()) : 0L;
+            if (viewCount > 0) {
+                viewCounts.put(productIds.get(i), viewCount);
+            }
+        }
+        return viewCounts;
+    }
+
+    /**
+     * DB 반영에 실패한 조회수를 Redis에 되돌리고 dirty Set에 다시 기록합니다.
+     */
+    public void restoreViewCounts(Map<Integer, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(viewCounts.size() + 1);
+        List<String> args = new ArrayList<>(viewCounts.size() * 2);
+        viewCounts.forEach((productId, viewCount) -> {
+            keys.add(VIEW_COUNT_KEY_PREFIX + productId);
+            args.add(String.valueOf(viewCount));
+        });
+        keys.add(VIEW_COUNT_DIRTY_KEY);
+        args.addAll(viewCounts.keySet().stream().map(String::valueOf).toList());
+
+        redisTemplate.execute(RESTORE_SCRIPT, keys, args.toArray());
     }
 
     /**
-     * 모든 조회수 키 패턴 조회
+     * 조회수가 변경된 상품 ID를 최대 count개 꺼냅니다. (SPOP count)
+     * 꺼낸 이후의 조회수 증가는 dirty Set에 다시 기록되므로 다음 동기화에서 처리됩니다.
      */
-    public List<String> getAllViewCountKeys() {
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
-        if (keys == null) {
+    public List<Integer> popDirtyProductIds(int count) {
+        List<Object> members = redisTemplate.opsForSet().pop(VIEW_COUNT_DIRTY_KEY, count);
+        if (members == null || members.isEmpty()) {
             return List.of();
         }
-        return keys.stream().toList();
+        return members.stream()
+                .map(member -> Integer.valueOf(member.toString()))
+                .toList();
+    }
+
+    /**
+     * 동기화에 실패한 상품 ID를 dirty Set에 다시 기록합니다.
+     */
+    public void markDirty(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(VIEW_COUNT_DIRTY_KEY, productIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * dirty Set에 기록되지 않은 조회수 key를 SCAN으로 찾아 dirty Set에 등록합니다.
+     * (dirty Set 도입 이전에 쌓인 조회수 복구용, 애플리케이션 시작 시 1회 실행)
+     *
+     * @return 등록한 상품 수
+     */
+    public int recoverDirtyProductIds() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(VIEW_COUNT_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        int recovered = 0;
+        List<Integer> productIds = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String productId = cursor.next().substring(VIEW_COUNT_KEY_PREFIX.length());
+                try {
+                    productIds.add(Integer.valueOf(productId));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid view count key skipped: {}{}", VIEW_COUNT_KEY_PREFIX, productId);
+                }
+                if (productIds.size() == SCAN_COUNT) {
+                    markDirty(productIds);
+                    recovered += productIds.size();
+                    productIds.clear();
+                }
+            }
+        }
+
+        markDirty(productIds);
+        return recovered + productIds.size();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품명 캐시입니다. (Redis Hash, field: productId)
+ * 랭킹 결과 변환 시 상품명을 HMGET 1회로 조회하고, Hash에 없는 상품만 DB에서 조회하여 채웁니다.
+ * 상품 데이터를 초기화하면 clear()로 비우고, 이후 조회 시 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductNameCache {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+
+    /**
+     * 상품명 조회
+     *
+     * @return 상품 ID별 상품명 (존재하지 않는 상품은 제외)
+     */
+    public Map<Integer, String> getNames(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(productIds));
+        String key = StorageType.PRODUCT_NAME.getKey();
+
+        Map<Integer, String> names = new HashMap<>();
+        List<Integer> missingIds = new ArrayList<>();
+        List<Object> values = multiGet(key, ids);
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values != null && i < values.size() ? values.get(i) : null;
+            if (value != null) {
+                names.put(ids.get(i), value.toString());
+            } else {
+                missingIds.add(ids.get(i));
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return names;
+        }
+
+        Map<String, String> loaded = new HashMap<>();
+        for (ProductViewSummary summary : productRepository.findViewSummariesByIds(missingIds)) {
+            names.put(summary.productId(), summary.productName());
+            loaded.put(String.valueOf(summary.productId()), summary.productName());
+        }
+        if (!loaded.isEmpty()) {
+            try {
+                redisTemplate.opsForHash().putAll(key, loaded);
+            } catch (Exception e) {
+                log.warn("Failed to cache product names: {}", e.getMessage());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 상품명 캐시 전체 삭제 (상품 데이터 초기화 시)
+     */
+    public void clear() {
+        redisTemplate.delete(StorageType.PRODUCT_NAME.getKey());
+    }
+
+    private List<Object> multiGet(String key, List<Integer> ids) {
+        try {
+            return redisTemplate.opsForHash().multiGet(key, ids.stream().<Object>map(String::valueOf).toList());
+        } catch (Exception e) {
+            // Redis 장애 시 DB에서 조회
+            log.warn("Failed to read product names from cache, falling back to DB: {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
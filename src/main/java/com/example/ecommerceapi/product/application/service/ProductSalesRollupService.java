@@ -0,0 +1,77 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.product.domain.entity.OrderSales;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 일별 판매량 집계(product_sales_daily) 서비스
+ * 결제 완료된 주문의 판매 수량을 주문당 한 번만 일별 판매량에 반영합니다.
+ * 반영이 커밋된 뒤 판매량 top-N에 새로 진입한 상품이 있으면 인기 상품(판매량) 캐시를 무효화합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSalesRollupService {
+
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+    private final PopularProductCacheService popularProductCacheService;
+
+    /**
+     * 주문 판매 수량 반영
+     *
+     * @return 반영 여부 (이미 반영된 주문이거나 주문 항목이 없으면 false)
+     */
+    public boolean recordOrderSales(Integer orderId, LocalDate salesDate, List<ProductQuantity> items) {
+        if (items.isEmpty()) {
+            return false;
+        }
+
+        boolean applied = productSalesDailyRepository.applyOrder(orderId, salesDate, items);
+        if (!applied) {
+            log.info("Order sales already rolled up, skipped: orderId={}", orderId);
+            return false;
+        }
+
+        evictPopularProducts(orderId, salesDate, items);
+        return true;
+    }
+
+    /**
+     * 결제 완료되었으나 반영되지 않은 주문 재반영 (이벤트 처리 실패 보정)
+     *
+     * @param from 결제 시각 시작 (포함)
+     * @param to 결제 시각 끝 (미포함)
+     * @param limit 한 번에 반영할 최대 주문 수
+     * @return 반영한 주문 수
+     */
+    public int reconcile(LocalDateTime from, LocalDateTime to, int limit) {
+        int reconciled = 0;
+        for (OrderSales orderSales : productSalesDailyRepository.findUnappliedPaidOrders(from, to, limit)) {
+            if (recordOrderSales(orderSales.orderId(), orderSales.salesDate(), orderSales.items())) {
+                reconciled++;
+                log.info("Reconciled missing order sales rollup: orderId={}", orderSales.orderId());
+            }
+        }
+        return reconciled;
+    }
+
+    private void evictPopularProducts(Integer orderId, LocalDate salesDate, List<ProductQuantity> items) {
+        try {
+            List<Integer> productIds = items.stream()
+                    .map(ProductQuantity::productId)
+                    .toList();
+            popularProductCacheService.evictSalesEntriesEnteredBy(productIds, salesDate);
+        } catch (Exception e) {
+            // 무효화 실패 시 soft TTL 갱신으로 반영
+            log.error("Failed to evict popular products cache for orderId {}: {}", orderId, e.getMessage(), e);
+        }
+    }
+}
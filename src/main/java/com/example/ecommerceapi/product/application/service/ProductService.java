@@ -1,26 +1,28 @@
 package com.example.ecommerceapi.product.application.service;
 
 import com.example.ecommerceapi.common.redis.CacheType;
-import com.example.ecommerceapi.common.exception.ErrorCode;
-import com.example.ecommerceapi.common.exception.ProductException;
-import com.example.ecommerceapi.order.domain.entity.OrderStatus;
-import com.example.ecommerceapi.order.domain.repository.OrderItemRepository;
 import com.example.ecommerceapi.product.application.dto.*;
 import com.example.ecommerceapi.product.application.enums.ProductStatisticType;
 import com.example.ecommerceapi.product.application.validator.ProductValidator;
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductSalesCount;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
 import com.example.ecommerceapi.product.infrastructure.persistence.ProductTableUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
@@ -28,8 +30,11 @@ public class ProductService {
     private final ProductValidator productValidator;
     private final ProductRepository productRepository;
     private final ProductTableUtils productTableUtils;
-    private final OrderItemRepository orderItemRepository;
-    private final ProductCacheService cacheService;
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ProductCacheService productCacheService;
+    private final ProductNameCache productNameCache;
+    private final PopularProductCacheService popularProductCacheService;
 
 
     @Cacheable(value = CacheType.Names.PRODUCT, key = "'all'")
@@ -53,52 +58,83 @@ public class ProductService {
         return ProductStockResult.from(product);
     }
 
-    @Cacheable(
-        value = CacheType.Names.POPULAR_PRODUCTS,
-        key = "#type + '::' + #days + '::' + #limit",
-        sync = true
-    )
-    @Transactional(readOnly = true)
+    /**
+     * 인기 상품 조회 (통계 타입별 Refresh-Ahead 캐시)
+     * soft TTL이 지난 결과도 그대로 응답하고, 집계 쿼리는 백그라운드 갱신 시 하나의 노드에서만 실행합니다.
+     */
     public List<PopularProductResult> getPopularProducts(String type, Integer days, Integer limit) {
-
         ProductStatisticType typeEnum = ProductStatisticType.from(type);
-        List<PopularProductResult> popularProducts;
-
-        switch (typeEnum) {
-            case SALES:
-                popularProducts = getSalesStatistics(days, limit);
-                break;
-            case VIEWS:
-                popularProducts = getViewStatistics(limit);
-                break;
-            default:
-                throw new ProductException(ErrorCode.PRODUCT_NOT_VALID_STATISTIC);
-        }
+        return popularProductCacheService.get(typeEnum, days, limit,
+                () -> loadPopularProducts(typeEnum, days, limit));
+    }
 
-        return popularProducts;
+    private List<PopularProductResult> loadPopularProducts(ProductStatisticType type, Integer days, Integer limit) {
+        return switch (type) {
+            case SALES -> getSalesStatistics(days, limit);
+            case VIEWS -> getViewStatistics(limit);
+        };
     }
 
+    /**
+     * 판매량 기준 인기 상품 (일별 판매량 집계 테이블 기준, 시작일 00시부터 집계)
+     */
     private List<PopularProductResult> getSalesStatistics(int days, int limit) {
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        PageRequest pageRequest = PageRequest.of(0, limit);
-        List<PopularProductBySailsResult> popularProducts = orderItemRepository.findAllOrderByOrderQuantityDesc(OrderStatus.PAID, startDate, pageRequest);
+        LocalDate startDate = PopularProductCacheService.salesStartDate(days);
+        List<ProductSalesCount> salesCounts = productSalesDailyRepository.findTopSales(startDate, limit);
+        if (salesCounts.isEmpty()) {
+            return List.of();
+        }
 
-        return PopularProductResult.fromWithSalesList(popularProducts);
+        List<Integer> productIds = salesCounts.stream()
+                .map(ProductSalesCount::productId)
+                .toList();
+        Map<Integer, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        // 판매량 순서 유지, 삭제된 상품은 제외
+        return salesCounts.stream()
+                .filter(salesCount -> productMap.containsKey(salesCount.productId()))
+                .map(salesCount -> PopularProductResult.fromWithSalesCount(
+                        productMap.get(salesCount.productId()), salesCount.salesCount()))
+                .toList();
     }
 
+    /**
+     * 조회수 기준 인기 상품 (Redis 조회수 랭킹 top-N 조회 후 상품 요약으로 변환)
+     * 랭킹이 비어 있거나 Redis 조회에 실패하면 DB 조회수 인덱스로 상위 N개를 조회합니다.
+     */
     private List<PopularProductResult> getViewStatistics(Integer limit) {
-        List<Product> popularProducts = productRepository.findPopularProductsByView(limit);
-        return PopularProductResult.fromList(popularProducts);
+        Map<Integer, Long> topViewCounts;
+        try {
+            topViewCounts = productCacheService.findTopViewCounts(limit);
+        } catch (Exception e) {
+            log.warn("Failed to read view ranking, falling back to DB: {}", e.getMessage());
+            topViewCounts = Map.of();
+        }
+        if (topViewCounts.isEmpty()) {
+            return productRepository.findPopularProductsByView(limit).stream()
+                    .map(PopularProductResult::from)
+                    .toList();
+        }
+
+        Map<Integer, ProductViewSummary> summaryMap = productRepository.findViewSummariesByIds(topViewCounts.keySet()).stream()
+                .collect(Collectors.toMap(ProductViewSummary::productId, Function.identity()));
+
+        // 랭킹 순서 유지, 삭제된 상품은 제외
+        return topViewCounts.entrySet().stream()
+                .filter(entry -> summaryMap.containsKey(entry.getKey()))
+                .map(entry -> PopularProductResult.fromWithViewCount(summaryMap.get(entry.getKey()), entry.getValue()))
+                .toList();
     }
 
     public IncrementProductViewResult incrementProductViewCount(Integer productId) {
-        // 상품 존재 여부만 검증
-        productValidator.validateAndGetProduct(productId);
+        // 상품 존재 여부만 검증 (노드 내 캐시)
+        productValidator.validateProductExists(productId);
 
-        // Redis INCR로 조회수 증가 (Write-Behind 패턴)
-        Long newViewCount = cacheService.incrementViewCount(productId);
+        // 노드 내 버퍼에 조회수 증가 (주기적으로 Redis INCRBY 반영, Write-Behind 패턴)
+        long newViewCount = viewCountBuffer.increment(productId);
 
-        return IncrementProductViewResult.of(newViewCount.intValue());
+        return IncrementProductViewResult.of((int) newViewCount);
     }
 
     /**
@@ -111,6 +147,9 @@ public class ProductService {
 
         // 2. 샘플 데이터 삽입
         productRepository.init();
+
+        // 3. 상품명 캐시 초기화 (조회 시 다시 적재)
+        productNameCache.clear();
     }
 
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package com.example.ecommerceapi.product.application.service;
 
+import com.example.ecommerceapi.common.exception.ErrorCode;
+import com.example.ecommerceapi.common.exception.ProductException;
 import com.example.ecommerceapi.product.application.dto.SalesRankingResult;
-import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import com.example.ecommerceapi.product.domain.entity.ProductSalesScore;
-import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import com.example.ecommerceapi.product.domain.repository.RankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 판매 랭킹 애플리케이션 서비스
@@ -21,8 +21,11 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class RankingService {
+    // 일간 랭킹 보관 기간(StorageType.DAILY_SALES_RANKING) 이내
+    private static final int MAX_ROLLING_DAYS = 30;
+
     private final RankingRepository rankingRepository;
-    private final ProductRepository productRepository;
+    private final ProductNameCache productNameCache;
 
     /**
      * 일간 판매량 증가
@@ -36,14 +39,13 @@ public class RankingService {
     }
 
     /**
-     * 주간 판매량 증가
+     * 여러 상품의 일간 판매량을 한 번에 증가 (pipeline 1회, 주간/롤링 랭킹은 조회 시 합산)
      *
-     * @param productId 상품 ID
-     * @param quantity 판매 수량
+     * @param items 상품별 판매 수량
      * @param date 판매 날짜
      */
-    public void incrementWeeklySalesCount(Integer productId, Integer quantity, LocalDate date) {
-        rankingRepository.incrementWeeklySales(productId, quantity, date);
+    public void incrementSalesCounts(List<ProductQuantity> items, LocalDate date) {
+        rankingRepository.incrementSales(items, date);
     }
 
     /**
@@ -70,6 +72,21 @@ public class RankingService {
         return convertToSalesRankingResults(scores);
     }
 
+    /**
+     * 최근 N일 판매 랭킹 조회 (오늘 포함, 상위 K개)
+     *
+     * @param days 집계 일수 (1 ~ 30)
+     * @param limit 조회할 상품 개수
+     * @return 판매 랭킹 결과 리스트
+     */
+    public List<SalesRankingResult> getRollingSalesRankings(int days, int limit) {
+        if (days < 1 || days > MAX_ROLLING_DAYS) {
+            throw new ProductException(ErrorCode.PRODUCT_INVALID_RANKING_PERIOD);
+        }
+        List<ProductSalesScore> scores = rankingRepository.findTopRollingSales(LocalDate.now(), days, limit);
+        return convertToSalesRankingResults(scores);
+    }
+
     /**
      * ProductSalesScore를 SalesRankingResult로 변환
      */
@@ -78,15 +95,10 @@ public class RankingService {
             return Collections.emptyList();
         }
 
-        // Product ID 추출
-        List<Integer> productIds = scores.stream()
+        // 상품명 조회 (Redis 상품명 캐시, 캐시에 없는 상품만 DB 조회)
+        Map<Integer, String> productNames = productNameCache.getNames(scores.stream()
                 .map(ProductSalesScore::productId)
-                .toList();
-
-        // Product 정보 조회
-        Map<Integer, Product> productMap = productRepository.findAllById(productIds)
-                .stream()
-                .collect(Collectors.toMap(Product::getProductId, p -> p));
+                .toList());
 
         // 결과 변환
         List<SalesRankingResult> results = new ArrayList<>();
@@ -96,8 +108,7 @@ public class RankingService {
             Integer productId = score.productId();
             Long salesCount = score.salesCount();
 
-            Product product = productMap.get(productId);
-            String productName = product != null ? product.getProductName() : "Unknown Product";
+            String productName = productNames.getOrDefault(productId, "Unknown Product");
 
             results.add(new SalesRankingResult(productId, productName, salesCount, rank++));
         }
@@ -114,15 +125,6 @@ public class RankingService {
         rankingRepository.deleteDailyRanking(date);
     }
 
-    /**
-     * 특정 주의 주간 판매 랭킹 데이터 삭제 (관리용)
-     *
-     * @param date 삭제할 주가 포함된 날짜
-     */
-    public void deleteWeeklyRanking(LocalDate date) {
-        rankingRepository.deleteWeeklyRanking(date);
-    }
-
     /**
      * 모든 랭킹 데이터 초기화 (테스트/관리용)
      */
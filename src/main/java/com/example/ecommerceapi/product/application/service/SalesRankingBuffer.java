@@ -0,0 +1,97 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 노드 내 판매 랭킹 버퍼입니다. (micro-batch)
+ * - 결제 이벤트마다 Redis를 호출하지 않고 날짜별·상품별 판매 수량만 합산
+ * - SalesRankingBufferFlushScheduler가 짧은 주기로 날짜별 pipeline 1회씩 일간 랭킹에 반영
+ * 반영에 실패한 날짜의 수량은 버퍼에 되돌려 다음 주기에 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRankingBuffer {
+
+    private final RankingService rankingService;
+
+    private final Object flushLock = new Object();
+    private Map<LocalDate, Map<Integer, Integer>> pending = new TreeMap<>();
+
+    /**
+     * 판매 수량 추가 (버퍼에만 기록)
+     */
+    public synchronized void add(List<ProductQuantity> items, LocalDate date) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> quantities = pending.computeIfAbsent(date, d -> new TreeMap<>());
+        items.forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+    }
+
+    /**
+     * 누적된 판매 수량을 랭킹에 반영합니다.
+     * 실패 시 남은 날짜를 버퍼에 되돌린 뒤 예외를 던집니다.
+     *
+     * @return 반영한 (날짜, 상품) 수
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            Map<LocalDate, Map<Integer, Integer>> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                batch = pending;
+                pending = new TreeMap<>();
+            }
+
+            int flushed = 0;
+            try {
+                Iterator<Map.Entry<LocalDate, Map<Integer, Integer>>> iterator = batch.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<LocalDate, Map<Integer, Integer>> entry = iterator.next();
+                    List<ProductQuantity> items = entry.getValue().entrySet().stream()
+                            .map(quantity -> ProductQuantity.of(quantity.getKey(), quantity.getValue()))
+                            .toList();
+                    rankingService.incrementSalesCounts(items, entry.getKey());
+                    flushed += items.size();
+                    iterator.remove();
+                }
+            } catch (Exception e) {
+                restore(batch);
+                throw e;
+            }
+            return flushed;
+        }
+    }
+
+    /**
+     * 종료 시 남은 판매 수량 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush sales ranking buffer on shutdown: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized void restore(Map<LocalDate, Map<Integer, Integer>> batch) {
+        batch.forEach((date, quantities) -> {
+            Map<Integer, Integer> target = pending.computeIfAbsent(date, d -> new TreeMap<>());
+            quantities.forEach((productId, quantity) -> target.merge(productId, quantity, Integer::sum));
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ecommerceapi.product.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 내 상품 조회수 버퍼입니다.
+ * - 요청 경로에서는 상품별 LongAdder만 증가시키고 (네트워크 I/O 없음)
+ * - ViewCountBufferFlushScheduler가 주기적으로 누적 증가량을 Redis INCRBY로 한 번에 반영 (pipeline)
+ * 버퍼 항목은 존재가 확인된 상품에만 생성되므로 상품 수 이상으로 늘어나지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final ProductCacheService cacheService;
+
+    private final Map<Integer, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 증가 (버퍼에만 기록)
+     * @return 근사 조회수 (마지막으로 확인한 Redis 조회수 + 아직 반영되지 않은 증가량)
+     */
+    public long increment(Integer productId) {
+        Counter counter = counters.computeIfAbsent(productId, id -> new Counter());
+        counter.pending.increment();
+        return counter.estimate();
+    }
+
+    /**
+     * 누적된 증가량을 Redis에 반영합니다.
+     * 반영에 실패한 증가량은 버퍼에 되돌려 다음 주기에 재시도합니다.
+     *
+     * @return 반영한 상품 수
+     */
+    public synchronized int flush() {
+        Map<Integer, Long> deltas = new LinkedHashMap<>();
+        counters.forEach((productId, counter) -> {
+            long delta = counter.pending.sumThenReset();
+            if (delta > 0) {
+                counter.inFlight.addAndGet(delta);
+                deltas.put(productId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Map<Integer, Long> viewCounts = cacheService.incrementViewCounts(deltas);
+            deltas.forEach((productId, delta) -> {
+                Counter counter = counters.get(productId);
+                Long viewCount = viewCounts.get(productId);
+                if (viewCount != null) {
+                    counter.flushed = viewCount;
+                }
+                counter.inFlight.addAndGet(-delta);
+            });
+            return deltas.size();
+        } catch (Exception e) {
+            deltas.forEach((productId, delta) -> {
+                Counter counter = counters.get(productId);
+                counter.pending.add(delta);
+                counter.inFlight.addAndGet(-delta);
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * 종료 시 남은 증가량 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush view count buffer on shutdown: {}", e.getMessage(), e);
+        }
+    }
+
+    private static class Counter {
+        private final LongAdder pending = new LongAdder();
+        private final AtomicLong inFlight = new AtomicLong();
+        private volatile long flushed;
+
+        private long estimate() {
+            return flushed + inFlight.get() + pending.sum();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.ecommerceapi.product.application.stock;
+
+import com.example.ecommerceapi.common.exception.ErrorCode;
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 조건부 UPDATE 기반 재고 차감 전략입니다.
+ * 상품 엔티티를 조회하지 않고 quantity >= ? 조건을 건 UPDATE를 batch로 실행합니다.
+ * 하나라도 차감되지 않으면 예외를 던져 호출 트랜잭션 전체를 롤백합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decreaseStock(List<ProductQuantity> items) {
+        // 같은 상품은 합산하고, 데드락 방지를 위해 ProductId 순서로 UPDATE
+        List<Integer> failedProductIds = productRepository.decreaseStockIfAvailable(ProductQuantity.merge(items));
+        if (failedProductIds.isEmpty()) {
+            return;
+        }
+
+        log.debug("[ConditionalUpdate] 재고 차감 실패 상품: {}", failedProductIds);
+        boolean notFound = failedProductIds.stream()
+                .anyMatch(productId -> productRepository.findById(productId) == null);
+        throw new ProductException(notFound ? ErrorCode.PRODUCT_NOT_FOUND : ErrorCode.PRODUCT_STOCK_INSUFFICIENT);
+    }
+
+    @Override
+    public StockDeductionType getType() {
+        return StockDeductionType.CONDITIONAL_UPDATE;
+    }
+}
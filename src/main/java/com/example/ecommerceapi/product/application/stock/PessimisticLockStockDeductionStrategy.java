@@ -0,0 +1,47 @@
+package com.example.ecommerceapi.product.application.stock;
+
+import com.example.ecommerceapi.common.exception.ErrorCode;
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 비관적 락(PESSIMISTIC_WRITE) 기반 재고 차감 전략입니다.
+ * 상품 row를 SELECT ... FOR UPDATE로 잠근 뒤 엔티티에서 재고를 차감합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decreaseStock(List<ProductQuantity> items) {
+        // 데드락 방지: ProductId 순서로 정렬하여 항상 같은 순서로 락 획득
+        List<ProductQuantity> sortedItems = items.stream()
+                .sorted(Comparator.comparing(ProductQuantity::productId))
+                .toList();
+
+        for (ProductQuantity item : sortedItems) {
+            Product product = productRepository.findByIdWithLock(item.productId());
+            if (product == null) {
+                throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            product.decreaseStock(item.quantity());
+            productRepository.save(product);
+        }
+    }
+
+    @Override
+    public StockDeductionType getType() {
+        return StockDeductionType.PESSIMISTIC_LOCK;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ecommerceapi.product.application.stock;
+
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+
+import java.util.List;
+
+/**
+ * 재고 차감 전략 인터페이스입니다.
+ * 결제 시 주문 상품 전체의 재고 차감 방식을 통일된 인터페이스로 제공합니다.
+ */
+public interface StockDeductionStrategy {
+
+    /**
+     * 주문 상품 전체의 재고를 차감합니다.
+     * 하나라도 재고가 부족하면 예외가 발생하며, 진행 중인 트랜잭션이 롤백되면 차감도 함께 원복됩니다.
+     *
+     * @param items 차감할 상품 ID와 수량 목록
+     * @throws com.example.ecommerceapi.common.exception.ProductException 상품이 없거나 재고가 부족한 경우
+     */
+    void decreaseStock(List<ProductQuantity> items);
+
+    /**
+     * 지원하는 재고 차감 타입을 반환합니다.
+     *
+     * @return 재고 차감 타입
+     */
+    StockDeductionType getType();
+}
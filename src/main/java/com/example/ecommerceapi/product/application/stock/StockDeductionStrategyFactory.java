@@ -0,0 +1,55 @@
+package com.example.ecommerceapi.product.application.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 차감 타입에 따른 전략을 제공하는 팩토리입니다.
+ * stock.deduction.type 설정값으로 결제 시 사용할 전략을 선택합니다.
+ */
+@Component
+public class StockDeductionStrategyFactory {
+
+    private final Map<StockDeductionType, StockDeductionStrategy> strategyMap;
+    private final StockDeductionType activeType;
+
+    public StockDeductionStrategyFactory(List<StockDeductionStrategy> strategies,
+                                         @Value("${stock.deduction.type:PESSIMISTIC_LOCK}") StockDeductionType activeType) {
+        this.strategyMap = new EnumMap<>(StockDeductionType.class);
+        for (StockDeductionStrategy strategy : strategies) {
+            strategyMap.put(strategy.getType(), strategy);
+        }
+        this.activeType = activeType;
+
+        // 설정된 전략이 등록되지 않은 경우 기동 시점에 실패
+        getStrategy(activeType);
+    }
+
+    /**
+     * 설정(stock.deduction.type)으로 선택된 전략을 반환합니다.
+     *
+     * @return 재고 차감 전략
+     */
+    public StockDeductionStrategy getStrategy() {
+        return getStrategy(activeType);
+    }
+
+    /**
+     * 재고 차감 타입에 해당하는 전략을 반환합니다.
+     *
+     * @param type 재고 차감 타입
+     * @return 재고 차감 전략
+     * @throws IllegalArgumentException 등록되지 않은 타입인 경우
+     */
+    public StockDeductionStrategy getStrategy(StockDeductionType type) {
+        StockDeductionStrategy strategy = strategyMap.get(type);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unsupported stock deduction type: " + type);
+        }
+        return strategy;
+    }
+}
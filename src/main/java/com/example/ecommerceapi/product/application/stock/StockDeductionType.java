@@ -0,0 +1,31 @@
+package com.example.ecommerceapi.product.application.stock;
+
+/**
+ * 결제 시 재고 차감 방식을 정의합니다.
+ * application.properties의 stock.deduction.type 으로 선택합니다.
+ */
+public enum StockDeductionType {
+
+    /**
+     * 비관적 락(SELECT ... FOR UPDATE) 방식
+     * - 상품 row 락 획득 후 엔티티에서 재고 차감
+     * - 같은 상품을 구매하는 모든 요청이 하나의 row 락에서 직렬화됨
+     */
+    PESSIMISTIC_LOCK,
+
+    /**
+     * 조건부 UPDATE 방식
+     * - UPDATE ... SET quantity = quantity - ? WHERE product_id = ? AND quantity >= ? 를 batch로 실행
+     * - 엔티티 조회(SELECT ... FOR UPDATE) 없이 단일 statement로 검증과 차감을 동시에 수행
+     * - row 락 보유 시간이 UPDATE 한 번으로 줄어듦
+     */
+    CONDITIONAL_UPDATE,
+
+    /**
+     * Redis Lua 스크립트 방식
+     * - Redis 재고 카운터를 주문 상품 전체에 대해 원자적으로 차감 (All-or-Nothing)
+     * - DB product.quantity 반영은 Write-Behind로 비동기 처리
+     * - 선착순/플래시 세일 상품처럼 row 락 경합이 심한 경우에 적합
+     */
+    REDIS
+}
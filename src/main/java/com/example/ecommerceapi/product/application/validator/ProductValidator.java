@@ -8,11 +8,22 @@ import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class ProductValidator {
 
+    // 존재가 확인된 상품 캐시 (productId -> 만료 시각 nanoTime), 존재하지 않는 상품은 캐싱하지 않음
+    private static final long EXISTS_CACHE_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final ProductRepository productRepository;
+    private final Map<Integer, Long> existingProductIds = new ConcurrentHashMap<>();
 
     /**
      * 상품 존재 여부를 검증하고 Product 엔티티를 반환합니다.
@@ -27,4 +38,34 @@ public class ProductValidator {
         }
         return product;
     }
+
+    /**
+     * 상품 존재 여부를 검증합니다. 존재가 확인된 상품은 1분간 DB 조회 없이 통과합니다.
+     * (조회수 증가처럼 엔티티가 필요 없고 호출이 잦은 경로에서 사용)
+     * @throws ProductException 상품이 존재하지 않을 경우
+     */
+    public void validateProductExists(Integer productId) {
+        Long expiresAt = existingProductIds.get(productId);
+        if (expiresAt != null && expiresAt - System.nanoTime() > 0) {
+            return;
+        }
+        validateAndGetProduct(productId);
+        existingProductIds.put(productId, System.nanoTime() + EXISTS_CACHE_TTL_NANOS);
+    }
+
+    /**
+     * 여러 상품의 존재 여부를 한 번의 IN 쿼리로 검증하고 productId 기준 Map으로 반환합니다.
+     * @param productIds 검증할 product ID 목록 (중복 허용)
+     * @return productId -> Product 엔티티 Map
+     * @throws ProductException 하나라도 존재하지 않는 상품이 있을 경우
+     */
+    public Map<Integer, Product> validateAndGetProducts(List<Integer> productIds) {
+        List<Integer> distinctIds = productIds.stream().distinct().toList();
+        Map<Integer, Product> productMap = productRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        if (productMap.size() != distinctIds.size()) {
+            throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return productMap;
+    }
 }
@@ -0,0 +1,14 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 판매량 집계 대상 주문의 판매 수량
+ */
+public record OrderSales(
+        Integer orderId,
+        LocalDate salesDate,
+        List<ProductQuantity> items
+) {
+}
@@ -0,0 +1,33 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 ID와 수량 쌍을 표현하는 값 객체
+ * 재고 차감, 판매량 집계 등 여러 상품을 한 번에 처리할 때 사용
+ */
+public record ProductQuantity(
+        Integer productId,
+        Integer quantity
+) {
+    public static ProductQuantity of(Integer productId, Integer quantity) {
+        return new ProductQuantity(productId, quantity);
+    }
+
+    /**
+     * 같은 상품의 수량을 합산하고 productId 오름차순으로 정렬합니다.
+     * 항상 같은 순서로 row/key에 접근하도록 하여 데드락을 방지합니다.
+     */
+    public static List<ProductQuantity> merge(List<ProductQuantity> items) {
+        Map<Integer, Integer> quantities = new TreeMap<>();
+        for (ProductQuantity item : items) {
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        List<ProductQuantity> merged = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> merged.add(of(productId, quantity)));
+        return merged;
+    }
+}
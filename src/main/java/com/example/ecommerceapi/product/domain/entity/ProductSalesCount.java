@@ -0,0 +1,10 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+/**
+ * 기간 내 상품 판매량 합계
+ */
+public record ProductSalesCount(
+        Integer productId,
+        Long salesCount
+) {
+}
@@ -0,0 +1,51 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 상품 일별 판매량 집계 엔티티
+ * 주문 결제 완료 이벤트로 증분 갱신되며, 판매량 기준 인기 상품 조회는 주문 이력 대신 이 테이블을 집계합니다.
+ * (조회 비용: 상품 수 x 기간 일수, 주문 수와 무관)
+ */
+@Entity
+@IdClass(ProductSalesDaily.Key.class)
+@Table(name = "product_sales_daily", indexes = {
+    @Index(name = "idx_product_sales_daily_date", columnList = "sales_date, product_id, quantity")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSalesDaily {
+
+    @Id
+    @Column(name = "product_id")
+    private Integer productId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    /**
+     * 복합 키 (product_id, sales_date)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Integer productId;
+        private LocalDate salesDate;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일별 판매량 집계에 반영된 주문 기록
+ * 같은 주문의 결제 완료 이벤트가 중복 처리되어도 판매량이 한 번만 반영되도록 합니다.
+ */
+@Entity
+@Table(name = "product_sales_rollup_order")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSalesRollupOrder {
+
+    @Id
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -17,7 +17,8 @@ public record ProductSalesScore(
      */
     public enum PeriodType {
         DAILY,   // 일간
-        WEEKLY   // 주간
+        WEEKLY,  // 주간
+        ROLLING  // 최근 N일
     }
 
     /**
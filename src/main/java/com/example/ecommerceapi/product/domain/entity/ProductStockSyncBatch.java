@@ -0,0 +1,32 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB에 반영된 Redis 재고 차감량 batch 기록
+ * 같은 batch를 다시 반영해도 재고가 한 번만 차감되도록 재고 차감과 같은 트랜잭션에서 기록합니다.
+ * 보존 기간(stock.sync-batch.retention-hours)이 지난 기록은 RedisStockWriteBehindScheduler가 삭제합니다.
+ */
+@Entity
+@Table(name = "product_stock_sync_batch", indexes = {
+        @Index(name = "idx_stock_sync_batch_appliedat", columnList = "applied_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockSyncBatch {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
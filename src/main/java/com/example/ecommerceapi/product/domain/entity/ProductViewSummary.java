@@ -0,0 +1,12 @@
+package com.example.ecommerceapi.product.domain.entity;
+
+/**
+ * 조회수 기준 인기 상품 조회용 상품 요약 (엔티티를 로딩하지 않는 projection)
+ */
+public record ProductViewSummary(
+        Integer productId,
+        String productName,
+        Integer productPrice,
+        Integer viewCount
+) {
+}
@@ -1,7 +1,11 @@
 package com.example.ecommerceapi.product.domain.repository;
 
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -33,9 +37,52 @@ public interface ProductRepository {
     Product findByIdWithLock(Integer productId);
 
     /**
-     * 조회수 기준 인기 상품 조회
+     * 재고 일괄 차감 (재고 검증 없이 quantity - ? 반영, batch당 1회)
+     * Redis 재고 차감 전략의 Write-Behind 동기화에 사용
+     *
+     * @param batchId 차감량 batch ID
+     * @return 반영 여부 (이미 반영된 batch면 false)
      */
-    List<Product> findPopularProductsByView(int limit);
+    boolean decreaseStocks(String batchId, List<ProductQuantity> items);
+
+    /**
+     * 기준 시각 이전에 반영된 재고 차감량 batch 기록 삭제 (최대 limit 건)
+     *
+     * @return 삭제한 기록 수
+     */
+    int deleteStockSyncBatchesAppliedBefore(LocalDateTime appliedBefore, int limit);
+
+    /**
+     * 재고가 충분한 경우에만 재고 일괄 차감 (조건부 UPDATE, batch 실행)
+     * UPDATE product SET quantity = quantity - ? WHERE product_id = ? AND quantity >= ?
+     *
+     * @return 재고 부족 또는 미존재로 차감되지 않은 상품 ID 목록
+     */
+    List<Integer> decreaseStockIfAvailable(List<ProductQuantity> items);
+
+    /**
+     * 조회수 일괄 증가 (batch 실행, 호출 1회 = 트랜잭션 1회)
+     * UPDATE product SET view_count = view_count + ? WHERE product_id = ?
+     * 조회수 Write-Behind 동기화에 사용
+     *
+     * @param viewCountDeltas 상품 ID별 증가량
+     */
+    void incrementViewCounts(Map<Integer, Long> viewCountDeltas);
+
+    /**
+     * 조회수 기준 인기 상품 조회 (상위 N개, 인덱스 LIMIT 조회)
+     */
+    List<ProductViewSummary> findPopularProductsByView(int limit);
+
+    /**
+     * 여러 ID로 상품 요약 조회
+     */
+    List<ProductViewSummary> findViewSummariesByIds(Collection<Integer> productIds);
+
+    /**
+     * 전체 상품 요약 조회 (조회수 랭킹 초기화용)
+     */
+    List<ProductViewSummary> findAllViewSummaries();
 
     /**
      * 상품 저장
@@ -0,0 +1,55 @@
+package com.example.ecommerceapi.product.domain.repository;
+
+import com.example.ecommerceapi.product.domain.entity.OrderSales;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.entity.ProductSalesCount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 일별 판매량 집계 저장소 인터페이스
+ */
+public interface ProductSalesDailyRepository {
+
+    /**
+     * 주문의 판매 수량을 일별 판매량에 반영 (주문당 1회)
+     *
+     * @param orderId 주문 ID
+     * @param salesDate 판매 날짜
+     * @param items 상품별 판매 수량
+     * @return 반영 여부 (이미 반영된 주문이면 false)
+     */
+    boolean applyOrder(Integer orderId, LocalDate salesDate, List<ProductQuantity> items);
+
+    /**
+     * 기간 내 판매량 상위 상품 조회
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param limit 조회할 상품 개수
+     * @return 판매량 내림차순 상품별 판매량 합계
+     */
+    List<ProductSalesCount> findTopSales(LocalDate startDate, int limit);
+
+    /**
+     * 기간 내 상품별 판매량 합계
+     *
+     * @param productIds 상품 ID 목록
+     * @param startDate 시작 날짜 (포함)
+     * @return 상품 ID별 판매량 합계 (판매 기록이 없는 상품은 제외)
+     */
+    Map<Integer, Long> sumSales(Collection<Integer> productIds, LocalDate startDate);
+
+    /**
+     * 결제 완료되었으나 일별 판매량에 반영되지 않은 주문 조회 (결제 시각 오름차순)
+     *
+     * @param from 결제 시각 시작 (포함)
+     * @param to 결제 시각 끝 (미포함)
+     * @param limit 조회할 주문 수
+     * @return 주문별 판매 수량
+     */
+    List<OrderSales> findUnappliedPaidOrders(LocalDateTime from, LocalDateTime to, int limit);
+}
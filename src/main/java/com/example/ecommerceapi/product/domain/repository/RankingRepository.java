@@ -1,9 +1,12 @@
 package com.example.ecommerceapi.product.domain.repository;
 
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import com.example.ecommerceapi.product.domain.entity.ProductSalesScore;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 랭킹 저장소 인터페이스
@@ -21,13 +24,13 @@ public interface RankingRepository {
     void incrementDailySales(Integer productId, Integer quantity, LocalDate date);
 
     /**
-     * 주간 판매량 증가
+     * 여러 상품의 일간 판매량을 한 번에 증가 (같은 상품은 수량 합산)
+     * 실패 시 예외를 던지므로 호출 측에서 재시도합니다.
      *
-     * @param productId 상품 ID
-     * @param quantity 판매 수량
+     * @param items 상품별 판매 수량
      * @param date 판매 날짜
      */
-    void incrementWeeklySales(Integer productId, Integer quantity, LocalDate date);
+    void incrementSales(List<ProductQuantity> items, LocalDate date);
 
     /**
      * 일간 상위 판매 점수 조회
@@ -39,7 +42,7 @@ public interface RankingRepository {
     List<ProductSalesScore> findTopDailySales(LocalDate date, int limit);
 
     /**
-     * 주간 상위 판매 점수 조회
+     * 주간 상위 판매 점수 조회 (해당 주 일간 판매량 합산)
      *
      * @param date 조회할 주가 포함된 날짜
      * @param limit 조회할 상품 개수
@@ -48,18 +51,31 @@ public interface RankingRepository {
     List<ProductSalesScore> findTopWeeklySales(LocalDate date, int limit);
 
     /**
-     * 일간 랭킹 데이터 삭제 (관리용)
+     * 최근 N일 상위 판매 점수 조회 (일간 판매량 합산)
      *
-     * @param date 삭제할 날짜
+     * @param endDate 종료 날짜 (포함)
+     * @param days 집계 일수 (종료 날짜 포함)
+     * @param limit 조회할 상품 개수
+     * @return 상위 판매 점수 리스트
      */
-    void deleteDailyRanking(LocalDate date);
+    List<ProductSalesScore> findTopRollingSales(LocalDate endDate, int days, int limit);
 
     /**
-     * 주간 랭킹 데이터 삭제 (관리용)
+     * 기간 내 상품별 일간 판매량 합계 조회
      *
-     * @param date 삭제할 주가 포함된 날짜
+     * @param productIds 상품 ID 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 상품 ID별 판매량 합계 (판매 기록이 없으면 0)
      */
-    void deleteWeeklyRanking(LocalDate date);
+    Map<Integer, Long> sumDailySales(Collection<Integer> productIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 일간 랭킹 데이터 삭제 (관리용)
+     *
+     * @param date 삭제할 날짜
+     */
+    void deleteDailyRanking(LocalDate date);
 
     /**
      * 모든 랭킹 데이터 초기화 (테스트/관리용)
@@ -0,0 +1,149 @@
+package com.example.ecommerceapi.product.infrastructure.persistence;
+
+import com.example.ecommerceapi.product.domain.entity.OrderSales;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.entity.ProductSalesCount;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductSalesDailyRepository의 JDBC 구현체
+ * 증분 반영은 upsert(ON DUPLICATE KEY UPDATE) batch로, 주문 중복 반영 방지는 주문 기록 INSERT IGNORE로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProductSalesDailyRepository implements ProductSalesDailyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public boolean applyOrder(Integer orderId, LocalDate salesDate, List<ProductQuantity> items) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO product_sales_rollup_order (order_id, applied_at) VALUES (?, NOW())",
+                orderId
+        );
+        if (inserted == 0) {
+            return false;
+        }
+
+        // productId 오름차순으로 반영하여 동시 반영 시 데드락 방지
+        List<ProductQuantity> merged = ProductQuantity.merge(items);
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT INTO product_sales_daily (product_id, sales_date, quantity) VALUES (?, ?, ?)
+                ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)
+                """,
+                merged,
+                merged.size(),
+                (ps, item) -> {
+                    ps.setInt(1, item.productId());
+                    ps.setDate(2, Date.valueOf(salesDate));
+                    ps.setLong(3, item.quantity());
+                }
+        );
+        return true;
+    }
+
+    /**
+     * index: idx_product_sales_daily_date(sales_date, product_id, quantity) - 커버링 인덱스 범위 스캔
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSalesCount> findTopSales(LocalDate startDate, int limit) {
+        return jdbcTemplate.query(
+                """
+                SELECT product_id, SUM(quantity) AS sales_count
+                FROM product_sales_daily
+                WHERE sales_date >= ?
+                GROUP BY product_id
+                ORDER BY sales_count DESC, product_id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new ProductSalesCount(rs.getInt("product_id"), rs.getLong("sales_count")),
+                Date.valueOf(startDate),
+                limit
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> sumSales(Collection<Integer> productIds, LocalDate startDate) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> args = new ArrayList<>(productIds);
+        args.add(Date.valueOf(startDate));
+
+        Map<Integer, Long> salesCounts = new HashMap<>();
+        jdbcTemplate.query(
+                """
+                SELECT product_id, SUM(quantity) AS sales_count
+                FROM product_sales_daily
+                WHERE product_id IN (%s) AND sales_date >= ?
+                GROUP BY product_id
+                """.formatted(String.join(", ", Collections.nCopies(productIds.size(), "?"))),
+                rs -> {
+                    salesCounts.put(rs.getInt("product_id"), rs.getLong("sales_count"));
+                },
+                args.toArray()
+        );
+        return salesCounts;
+    }
+
+    /**
+     * index: idx_orders_status_updatedat(order_status, updated_at) - PAID 주문 결제 시각 범위 스캔
+     * 결제 시각은 주문 결제 완료 이벤트와 같이 orders.updated_at을 사용합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSales> findUnappliedPaidOrders(LocalDateTime from, LocalDateTime to, int limit) {
+        Map<Integer, LocalDate> salesDates = new LinkedHashMap<>();
+        Map<Integer, List<ProductQuantity>> itemsByOrder = new HashMap<>();
+        jdbcTemplate.query(
+                """
+                SELECT o.order_id, o.updated_at, oi.product_id, oi.order_quantity
+                FROM (
+                    SELECT order_id, updated_at
+                    FROM orders
+                    WHERE order_status = 'PAID' AND updated_at >= ? AND updated_at < ?
+                      AND NOT EXISTS (
+                          SELECT 1 FROM product_sales_rollup_order r WHERE r.order_id = orders.order_id
+                      )
+                    ORDER BY updated_at
+                    LIMIT ?
+                ) o
+                JOIN order_item oi ON oi.order_id = o.order_id
+                ORDER BY o.updated_at, o.order_id
+                """,
+                rs -> {
+                    int orderId = rs.getInt("order_id");
+                    salesDates.putIfAbsent(orderId, rs.getTimestamp("updated_at").toLocalDateTime().toLocalDate());
+                    itemsByOrder.computeIfAbsent(orderId, id -> new ArrayList<>())
+                            .add(ProductQuantity.of(rs.getInt("product_id"), rs.getInt("order_quantity")));
+                },
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to),
+                limit
+        );
+
+        return salesDates.entrySet().stream()
+                .map(entry -> new OrderSales(entry.getKey(), entry.getValue(), itemsByOrder.get(entry.getKey())))
+                .toList();
+    }
+}
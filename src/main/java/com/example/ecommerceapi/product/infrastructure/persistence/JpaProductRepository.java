@@ -1,12 +1,15 @@
 package com.example.ecommerceapi.product.infrastructure.persistence;
 
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,11 +20,37 @@ import java.util.Optional;
 public interface JpaProductRepository extends JpaRepository<Product, Integer> {
 
     /**
-     * 조회수 기준 인기 상품 조회 (상위 N개)
-     * idx_product_view_count 인덱스 사용
+     * 조회수 기준 인기 상품 조회 (상위 N개, Pageable로 LIMIT 적용)
+     * idx_product_view_count 인덱스를 역순으로 N건만 스캔하며, 엔티티 대신 요약 projection으로 조회
      */
-    @Query("SELECT p FROM Product p ORDER BY p.viewCount DESC")
-    List<Product> findAllOrderByViewCountDesc();
+    @Query("""
+        SELECT new com.example.ecommerceapi.product.domain.entity.ProductViewSummary(
+                p.productId, p.productName, p.productPrice, p.viewCount)
+        FROM Product p
+        ORDER BY p.viewCount DESC
+        """)
+    List<ProductViewSummary> findTopByViewCount(Pageable pageable);
+
+    /**
+     * 상품 요약 조회 (ID 목록)
+     */
+    @Query("""
+        SELECT new com.example.ecommerceapi.product.domain.entity.ProductViewSummary(
+                p.productId, p.productName, p.productPrice, p.viewCount)
+        FROM Product p
+        WHERE p.productId IN :productIds
+        """)
+    List<ProductViewSummary> findViewSummariesByIds(@Param("productIds") Collection<Integer> productIds);
+
+    /**
+     * 전체 상품 요약 조회 (조회수 랭킹 초기화용)
+     */
+    @Query("""
+        SELECT new com.example.ecommerceapi.product.domain.entity.ProductViewSummary(
+                p.productId, p.productName, p.productPrice, p.viewCount)
+        FROM Product p
+        """)
+    List<ProductViewSummary> findAllViewSummaries();
 
     /**
      * ID로 상품 조회 (비관적 락 - PESSIMISTIC_WRITE)
@@ -1,14 +1,22 @@
 package com.example.ecommerceapi.product.infrastructure.persistence;
 
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ProductRepository의 JPA 구현체
@@ -21,6 +29,7 @@ public class JpaProductRepositoryAdapter implements ProductRepository {
 
     private final JpaProductRepository jpaProductRepository;
     private final ProductTableUtils productTableUtils;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -46,13 +55,100 @@ public class JpaProductRepositoryAdapter implements ProductRepository {
         return jpaProductRepository.findByIdWithLock(productId).orElse(null);
     }
 
+    @Override
+    @Transactional
+    public boolean decreaseStocks(String batchId, List<ProductQuantity> items) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO product_stock_sync_batch (batch_id, applied_at) VALUES (?, NOW())",
+                batchId
+        );
+        if (inserted == 0) {
+            return false;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE product SET quantity = quantity - ? WHERE product_id = ?",
+                items,
+                items.size(),
+                (ps, item) -> {
+                    ps.setInt(1, item.quantity());
+                    ps.setInt(2, item.productId());
+                }
+        );
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int deleteStockSyncBatchesAppliedBefore(LocalDateTime appliedBefore, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM product_stock_sync_batch WHERE applied_at < ? LIMIT ?",
+                appliedBefore,
+                limit
+        );
+    }
+
+    @Override
+    @Transactional
+    public List<Integer> decreaseStockIfAvailable(List<ProductQuantity> items) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(
+                "UPDATE product SET quantity = quantity - ? WHERE product_id = ? AND quantity >= ?",
+                items,
+                items.size(),
+                (ps, item) -> {
+                    ps.setInt(1, item.quantity());
+                    ps.setInt(2, item.productId());
+                    ps.setInt(3, item.quantity());
+                }
+        );
+
+        List<Integer> failedProductIds = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    failedProductIds.add(items.get(index).productId());
+                }
+                index++;
+            }
+        }
+        return failedProductIds;
+    }
+
+    @Override
+    @Transactional
+    public void incrementViewCounts(Map<Integer, Long> viewCountDeltas) {
+        List<Map.Entry<Integer, Long>> entries = new ArrayList<>(viewCountDeltas.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE product SET view_count = view_count + ? WHERE product_id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setInt(2, entry.getKey());
+                }
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductViewSummary> findPopularProductsByView(int limit) {
+        return jpaProductRepository.findTopByViewCount(PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductViewSummary> findViewSummariesByIds(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaProductRepository.findViewSummariesByIds(productIds);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<Product> findPopularProductsByView(int limit) {
-        List<Product> products = jpaProductRepository.findAllOrderByViewCountDesc();
-        return products.stream()
-                .limit(limit)
-                .toList();
+    public List<ProductViewSummary> findAllViewSummaries() {
+        return jpaProductRepository.findAllViewSummaries();
     }
 
     @Override
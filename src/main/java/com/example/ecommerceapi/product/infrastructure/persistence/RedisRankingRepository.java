@@ -1,17 +1,29 @@
 package com.example.ecommerceapi.product.infrastructure.persistence;
 
 import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import com.example.ecommerceapi.product.domain.entity.ProductSalesScore;
 import com.example.ecommerceapi.product.domain.repository.RankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.stream.Collectors;
@@ -25,6 +37,27 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RedisRankingRepository implements RankingRepository {
 
+    private static final int SCAN_COUNT = 1000;
+
+    /**
+     * KEYS: [결과 key, 일간 랭킹 key...], ARGV: [결과 TTL(ms), limit]
+     * 결과 key가 없으면 일간 랭킹을 ZUNIONSTORE로 합산하여 저장한 뒤 상위 limit개 반환 (WITHSCORES)
+     * TTL이 없는 결과 key(주간 ZINCRBY 기록 방식의 기존 key)도 다시 합산하여 덮어씁니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> UNION_TOP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                local sources = {}
+                for i = 2, #KEYS do
+                    sources[#sources + 1] = KEYS[i]
+                end
+                if redis.call('ZUNIONSTORE', KEYS[1], #sources, unpack(sources)) > 0 then
+                    redis.call('PEXPIRE', KEYS[1], ARGV[1])
+                end
+            end
+            return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1, 'WITHSCORES')
+            """, List.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
@@ -47,21 +80,24 @@ public class RedisRankingRepository implements RankingRepository {
     }
 
     @Override
-    public void incrementWeeklySales(Integer productId, Integer quantity, LocalDate date) {
-        String weekKey = getWeekKey(date);
-        String key = StorageType.WEEKLY_SALES_RANKING.getKeyWithWeek(weekKey);
+    public void incrementSales(List<ProductQuantity> items, LocalDate date) {
+        if (items.isEmpty()) {
+            return;
+        }
+        byte[] dailyKey = StorageType.DAILY_SALES_RANKING.getKeyWithDate(date).getBytes(StandardCharsets.UTF_8);
+        List<ProductQuantity> merged = ProductQuantity.merge(items);
 
-        try {
-            /**
-             * TTL은 RankingKeyInitScheduler에서 관리
-             */
-            redisTemplate.opsForZSet()
-                    .incrementScore(key, String.valueOf(productId), quantity);
+        // 일간 ZINCRBY + 보관 기간(EXPIRE)을 pipeline 1회로 반영 (주간/롤링 랭킹은 조회 시 일간 랭킹을 합산)
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductQuantity item : merged) {
+                byte[] member = String.valueOf(item.productId()).getBytes(StandardCharsets.UTF_8);
+                connection.zSetCommands().zIncrBy(dailyKey, item.quantity(), member);
+            }
+            connection.keyCommands().expire(dailyKey, StorageType.DAILY_SALES_RANKING.getTtl().toSeconds());
+            return null;
+        });
 
-            log.debug("Incremented weekly sales count for product {} by {} for week {}", productId, quantity, weekKey);
-        } catch (Exception e) {
-            log.error("Failed to increment weekly sales count for product {}: {}", productId, e.getMessage(), e);
-        }
+        log.debug("Incremented daily sales counts for {} products on {}", merged.size(), date);
     }
 
     @Override
@@ -82,21 +118,63 @@ public class RedisRankingRepository implements RankingRepository {
 
     @Override
     public List<ProductSalesScore> findTopWeeklySales(LocalDate date, int limit) {
-        String weekKey = getWeekKey(date);
-        String key = StorageType.WEEKLY_SALES_RANKING.getKeyWithWeek(weekKey);
+        // ISO 주의 월요일 ~ 일요일 일간 랭킹 합산
+        LocalDate monday = date.with(DayOfWeek.MONDAY);
+        String resultKey = StorageType.WEEKLY_SALES_RANKING.getKeyWithWeek(getWeekKey(date));
 
         try {
-            Set<ZSetOperations.TypedTuple<String>> results =
-                    redisTemplate.opsForZSet()
-                            .reverseRangeWithScores(key, 0, limit - 1);
-
-            return convertToProductSalesScores(results, date, ProductSalesScore.PeriodType.WEEKLY);
+            return findTopUnionSales(resultKey, StorageType.WEEKLY_SALES_RANKING.getTtl(), monday, 7, limit,
+                    date, ProductSalesScore.PeriodType.WEEKLY);
         } catch (Exception e) {
             log.error("Failed to get weekly sales rankings: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
     }
 
+    @Override
+    public List<ProductSalesScore> findTopRollingSales(LocalDate endDate, int days, int limit) {
+        LocalDate startDate = endDate.minusDays(days - 1L);
+        String resultKey = StorageType.ROLLING_SALES_RANKING.getKeyWithId(endDate + ":" + days);
+
+        try {
+            return findTopUnionSales(resultKey, StorageType.ROLLING_SALES_RANKING.getTtl(), startDate, days, limit,
+                    endDate, ProductSalesScore.PeriodType.ROLLING);
+        } catch (Exception e) {
+            log.error("Failed to get rolling sales rankings: {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public Map<Integer, Long> sumDailySales(Collection<Integer> productIds, LocalDate startDate, LocalDate endDate) {
+        Map<Integer, Long> salesCounts = new LinkedHashMap<>();
+        productIds.forEach(productId -> salesCounts.put(productId, 0L));
+        if (productIds.isEmpty() || endDate.isBefore(startDate)) {
+            return salesCounts;
+        }
+
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+        List<Integer> ids = new ArrayList<>(salesCounts.keySet());
+
+        // 날짜 x 상품 ZSCORE를 pipeline 1회로 조회
+        List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (LocalDate date : dates) {
+                byte[] key = StorageType.DAILY_SALES_RANKING.getKeyWithDate(date).getBytes(StandardCharsets.UTF_8);
+                for (Integer productId : ids) {
+                    connection.zSetCommands().zScore(key, String.valueOf(productId).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        });
+
+        for (int i = 0; i < scores.size(); i++) {
+            if (scores.get(i) instanceof Number score) {
+                salesCounts.merge(ids.get(i % ids.size()), score.longValue(), Long::sum);
+            }
+        }
+        return salesCounts;
+    }
+
     @Override
     public void deleteDailyRanking(LocalDate date) {
         String key = StorageType.DAILY_SALES_RANKING.getKeyWithDate(date);
@@ -105,31 +183,71 @@ public class RedisRankingRepository implements RankingRepository {
     }
 
     @Override
-    public void deleteWeeklyRanking(LocalDate date) {
-        String weekKey = getWeekKey(date);
-        String key = StorageType.WEEKLY_SALES_RANKING.getKeyWithWeek(weekKey);
-        redisTemplate.delete(key);
-        log.info("Deleted weekly ranking for week: {}", weekKey);
+    public void clearAllRankings() {
+        int deletedCount = deleteByPattern(StorageType.DAILY_SALES_RANKING.getKey() + ":*")
+                + deleteByPattern(StorageType.WEEKLY_SALES_RANKING.getKey() + ":*")
+                + deleteByPattern(StorageType.ROLLING_SALES_RANKING.getKey() + ":*");
+        // 조회수 랭킹은 marker와 함께 삭제하여 다음 시작 시 DB 조회수로 다시 적재
+        Long deletedViewRanking = redisTemplate.delete(List.of(
+                StorageType.VIEW_RANKING.getKey(), StorageType.VIEW_RANKING_INITIALIZED.getKey()));
+        deletedCount += deletedViewRanking != null ? deletedViewRanking.intValue() : 0;
+
+        log.info("Cleared {} ranking keys", deletedCount);
     }
 
-    @Override
-    public void clearAllRankings() {
-        Set<String> dailyKeys = redisTemplate.keys(StorageType.DAILY_SALES_RANKING.getKey() + ":*");
-        Set<String> weeklyKeys = redisTemplate.keys(StorageType.WEEKLY_SALES_RANKING.getKey() + ":*");
+    /**
+     * startDate부터 days일간의 일간 랭킹 합계 상위 limit개 조회 (Lua 1회 호출)
+     * 합산 결과는 resultKey에 짧은 TTL로 저장하여, TTL 동안의 조회는 ZUNIONSTORE 없이 결과 key만 읽습니다.
+     */
+    private List<ProductSalesScore> findTopUnionSales(String resultKey, Duration resultTtl,
+                                                      LocalDate startDate, int days, int limit,
+                                                      LocalDate date, ProductSalesScore.PeriodType periodType) {
+        List<String> keys = new ArrayList<>(days + 1);
+        keys.add(resultKey);
+        startDate.datesUntil(startDate.plusDays(days))
+                .map(StorageType.DAILY_SALES_RANKING::getKeyWithDate)
+                .forEach(keys::add);
 
-        int deletedCount = 0;
+        List<?> results = redisTemplate.execute(UNION_TOP_SCRIPT, keys,
+                String.valueOf(resultTtl.toMillis()), String.valueOf(limit));
+        if (results == null || results.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        if (dailyKeys != null && !dailyKeys.isEmpty()) {
-            redisTemplate.delete(dailyKeys);
-            deletedCount += dailyKeys.size();
+        // [member, score, member, score, ...]
+        List<ProductSalesScore> scores = new ArrayList<>(results.size() / 2);
+        for (int i = 0; i + 1 < results.size(); i += 2) {
+            Integer productId = Integer.valueOf(results.get(i).toString());
+            long salesCount = (long) Double.parseDouble(results.get(i + 1).toString());
+            scores.add(ProductSalesScore.of(productId, salesCount, date, periodType));
         }
+        return scores;
+    }
 
-        if (weeklyKeys != null && !weeklyKeys.isEmpty()) {
-            redisTemplate.delete(weeklyKeys);
-            deletedCount += weeklyKeys.size();
+    /**
+     * KEYS 대신 SCAN 커서로 순회하며 batch 단위로 삭제 (Redis 블로킹 방지)
+     */
+    private int deleteByPattern(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+
+        int deletedCount = 0;
+        List<String> keys = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    redisTemplate.delete(keys);
+                    deletedCount += keys.size();
+                    keys.clear();
+                }
+            }
         }
 
-        log.info("Cleared {} ranking keys", deletedCount);
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+            deletedCount += keys.size();
+        }
+        return deletedCount;
     }
 
     /**
@@ -0,0 +1,173 @@
+package com.example.ecommerceapi.product.infrastructure.stock;
+
+import com.example.ecommerceapi.common.exception.ErrorCode;
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.product.application.stock.StockDeductionStrategy;
+import com.example.ecommerceapi.product.application.stock.StockDeductionType;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Redis Lua 스크립트 기반 재고 차감 전략입니다.
+ * - 주문 상품 전체의 재고 카운터를 하나의 Lua 스크립트로 검사 후 차감 (All-or-Nothing)
+ * - 트랜잭션 커밋 시 차감량을 pending Hash에 기록하고, RedisStockWriteBehindScheduler가 DB에 일괄 반영
+ * - 트랜잭션 롤백 시 차감한 재고를 Redis에 원복
+ * 다중 key Lua 스크립트를 사용하므로 단일 Redis 노드(또는 동일 hash slot) 환경을 전제로 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.deduction.type", havingValue = "REDIS")
+public class RedisStockDeductionStrategy implements StockDeductionStrategy {
+
+    /**
+     * 반환값: 0 = 성공, -i = i번째 재고 key 없음, i = i번째 상품 재고 부족
+     */
+    private static final DefaultRedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                local stock = redis.call('GET', KEYS[i])
+                if not stock then
+                    return -i
+                end
+                if tonumber(stock) < tonumber(ARGV[i]) then
+                    return i
+                end
+            end
+            for i = 1, #KEYS do
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                end
+            end
+            return #KEYS
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RECORD_PENDING_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return #ARGV / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decreaseStock(List<ProductQuantity> items) {
+        List<ProductQuantity> merged = ProductQuantity.merge(items);
+        List<String> keys = merged.stream()
+                .map(item -> StorageType.PRODUCT_STOCK.getKeyWithId(item.productId()))
+                .toList();
+        Object[] args = merged.stream()
+                .map(item -> String.valueOf(item.quantity()))
+                .toArray();
+
+        long result = executeDecrease(keys, args);
+        for (int loads = 0; result < 0; loads++) {
+            // 재고 key가 없는 상품은 DB에서 적재 후 재시도 (상품 수만큼만 반복)
+            // 적재한 key가 계속 사라지면 (카운터 삭제 등) 결제 트랜잭션 안에서 반복하지 않고 실패
+            if (loads >= merged.size()) {
+                log.warn("[RedisStock] 재고 key 적재 후에도 key가 없어 차감 실패: {}", merged);
+                throw new ProductException(ErrorCode.PRODUCT_STOCK_UNAVAILABLE);
+            }
+            loadStock(merged.get((int) (-result) - 1).productId());
+            result = executeDecrease(keys, args);
+        }
+        if (result > 0) {
+            throw new ProductException(ErrorCode.PRODUCT_STOCK_INSUFFICIENT);
+        }
+
+        registerSynchronization(keys, args, merged);
+    }
+
+    @Override
+    public StockDeductionType getType() {
+        return StockDeductionType.REDIS;
+    }
+
+    private long executeDecrease(List<String> keys, Object[] args) {
+        Long result = redisTemplate.execute(DECREASE_SCRIPT, keys, args);
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * DB 재고에서 아직 DB에 반영되지 않은 차감량(pending, processing)을 뺀 값으로 재고 key를 초기화합니다.
+     * pending을 먼저 읽고 DB를 나중에 읽으므로, 동기화와 겹치면 재고가 적게 잡힐 수는 있어도 초과 판매되지는 않습니다.
+     */
+    private void loadStock(Integer productId) {
+        String field = String.valueOf(productId);
+        long pending = parseLong(redisTemplate.opsForHash()
+                .get(StorageType.PRODUCT_STOCK_PENDING.getKey(), field));
+        long processing = parseLong(redisTemplate.opsForHash()
+                .get(RedisStockWriteBehindScheduler.PROCESSING_KEY, field));
+
+        Product product = productRepository.findById(productId);
+        if (product == null) {
+            throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        long stock = Math.max(0, product.getQuantity() - pending - processing);
+        Boolean loaded = redisTemplate.opsForValue()
+                .setIfAbsent(StorageType.PRODUCT_STOCK.getKeyWithId(productId), String.valueOf(stock));
+        if (Boolean.TRUE.equals(loaded)) {
+            log.info("[RedisStock] 재고 적재: productId={}, stock={}", productId, stock);
+        }
+    }
+
+    private void registerSynchronization(List<String> keys, Object[] args, List<ProductQuantity> merged) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordPending(merged);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    recordPending(merged);
+                } else if (status == STATUS_ROLLED_BACK) {
+                    redisTemplate.execute(RESTORE_SCRIPT, keys, args);
+                    log.info("[RedisStock] 트랜잭션 롤백으로 재고 원복: {}", merged);
+                } else {
+                    log.error("[RedisStock] 트랜잭션 상태 불명, 재고 정합성 확인 필요: {}", merged);
+                }
+            }
+        });
+    }
+
+    private void recordPending(List<ProductQuantity> merged) {
+        Object[] args = new Object[merged.size() * 2];
+        for (int i = 0; i < merged.size(); i++) {
+            args[i * 2] = String.valueOf(merged.get(i).productId());
+            args[i * 2 + 1] = String.valueOf(merged.get(i).quantity());
+        }
+        try {
+            redisTemplate.execute(RECORD_PENDING_SCRIPT,
+                    List.of(StorageType.PRODUCT_STOCK_PENDING.getKey()), args);
+        } catch (Exception e) {
+            log.error("[RedisStock] DB 반영 대기 차감량 기록 실패, 재고 정합성 확인 필요: {}", merged, e);
+        }
+    }
+
+    private long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
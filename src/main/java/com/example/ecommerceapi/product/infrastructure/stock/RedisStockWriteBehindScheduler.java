@@ -0,0 +1,247 @@
+package com.example.ecommerceapi.product.infrastructure.stock;
+
+import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.product.application.stock.StockDeductionType;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 재고 차감 전략에서 기록한 차감량을 주기적으로 DB product.quantity에 반영하는 스케줄러입니다.
+ * - 반영은 processing lock(SET NX PX)을 획득한 노드 하나만 수행
+ * - pending Hash를 processing key로 옮길 때 batch ID를 발급하고, DB에는 batch ID 기록과 재고 차감을 한 트랜잭션으로 반영
+ * - 반영 후 processing key 삭제에 실패하거나 lease가 만료되어 같은 batch를 다시 읽어도 batch ID로 중복 반영을 막음
+ * stock.deduction.type이 REDIS가 아닌 노드도 남은 차감량을 반영하며, 기동 시 남은 차감량을 모두 반영한 뒤 Redis 재고 카운터를 삭제합니다.
+ * (다시 REDIS로 전환하면 DB 재고로 카운터를 새로 적재)
+ * 반영된 batch ID 기록은 stock.sync-batch.retention-hours가 지나면 삭제합니다. (같은 batch는 processing lease 안에서만 다시 읽힘)
+ */
+@Slf4j
+@Component
+public class RedisStockWriteBehindScheduler {
+
+    static final String PROCESSING_KEY = StorageType.PRODUCT_STOCK_PENDING.getKey() + ":processing";
+    static final String PROCESSING_BATCH_KEY = StorageType.PRODUCT_STOCK_PENDING.getKey() + ":processing-batch";
+    static final String PROCESSING_LOCK_KEY = StorageType.PRODUCT_STOCK_PENDING.getKey() + ":processing-lock";
+
+    private static final long PROCESSING_LEASE_MS = 30_000;
+    private static final int MAX_DRAIN_ROUNDS = 100;
+    private static final long DRAIN_RETRY_INTERVAL_MS = 200;
+    private static final int SCAN_COUNT = 500;
+    private static final int PRUNE_BATCH_SIZE = 1000;
+
+    /**
+     * KEYS: [pending, processing, processing-batch, processing-lock], ARGV: [소유자 ID, lease(ms), 새 batch ID]
+     * processing lock을 획득하지 못하면 빈 결과를 반환합니다.
+     * 이전 주기에 반영을 끝내지 못한 processing key가 있으면 같은 batch ID로 재처리하고,
+     * 없으면 pending Hash를 processing key로 RENAME 하고 새 batch ID를 기록합니다.
+     * 반환값: [batch ID, field1, value1, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[4], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return {}
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    redis.call('DEL', KEYS[4])
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('SET', KEYS[3], ARGV[3])
+            elseif redis.call('EXISTS', KEYS[3]) == 0 then
+                redis.call('SET', KEYS[3], ARGV[3])
+            end
+            local result = {redis.call('GET', KEYS[3])}
+            for _, value in ipairs(redis.call('HGETALL', KEYS[2])) do
+                table.insert(result, value)
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS: [processing, processing-batch, processing-lock], ARGV: [소유자 ID, batch ID]
+     * lock을 보유 중이고 batch ID가 같을 때만 processing key를 삭제합니다.
+     */
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] or redis.call('GET', KEYS[2]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: [processing-lock], ARGV: [소유자 ID] - 본인이 획득한 lock만 해제
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final StockDeductionType activeType;
+    private final long batchRetentionHours;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisStockWriteBehindScheduler(RedisTemplate<String, String> redisTemplate,
+                                          ProductRepository productRepository,
+                                          @Value("${stock.deduction.type:PESSIMISTIC_LOCK}") StockDeductionType activeType,
+                                          @Value("${stock.sync-batch.retention-hours:24}") long batchRetentionHours) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+        this.activeType = activeType;
+        this.batchRetentionHours = batchRetentionHours;
+    }
+
+    /**
+     * 재고 차감량 DB 동기화 (1초마다 실행)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void syncStockToDatabase() {
+        try {
+            syncBatch();
+        } catch (Exception e) {
+            log.error("[RedisStock] 재고 차감량 DB 반영 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 batch ID 기록 삭제 (기본 1시간마다 실행, PRUNE_BATCH_SIZE 건씩 나누어 삭제)
+     */
+    @Scheduled(fixedDelayString = "${stock.sync-batch.prune-interval-ms:3600000}")
+    public void pruneAppliedBatches() {
+        try {
+            LocalDateTime appliedBefore = LocalDateTime.now().minusHours(batchRetentionHours);
+            int deletedCount = 0;
+            int deleted;
+            do {
+                deleted = productRepository.deleteStockSyncBatchesAppliedBefore(appliedBefore, PRUNE_BATCH_SIZE);
+                deletedCount += deleted;
+            } while (deleted == PRUNE_BATCH_SIZE);
+            if (deletedCount > 0) {
+                log.info("[RedisStock] 보존 기간이 지난 batch 기록 삭제: {}건", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("[RedisStock] batch 기록 삭제 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * REDIS 전략을 사용하지 않는 노드는 기동 시 남은 차감량을 모두 반영하고 Redis 재고 카운터를 삭제합니다.
+     * 남은 차감량을 반영하지 못하면 카운터를 유지하고 주기 동기화에 맡깁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainOnInactiveStrategy() {
+        if (activeType == StockDeductionType.REDIS) {
+            return;
+        }
+        try {
+            for (int round = 0; round < MAX_DRAIN_ROUNDS; round++) {
+                if (syncBatch()) {
+                    continue;
+                }
+                if (!hasUnsyncedDeltas()) {
+                    int deleted = deleteStockCounters();
+                    if (deleted > 0) {
+                        log.info("[RedisStock] REDIS 전략 미사용, Redis 재고 카운터 삭제: {}건", deleted);
+                    }
+                    return;
+                }
+                // 다른 노드가 반영 중이면 잠시 후 다시 확인
+                Thread.sleep(DRAIN_RETRY_INTERVAL_MS);
+            }
+            log.warn("[RedisStock] 남은 차감량을 모두 반영하지 못해 Redis 재고 카운터를 유지합니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[RedisStock] 남은 재고 차감량 반영 실패, 주기 동기화에서 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * processing batch 하나를 DB에 반영합니다.
+     *
+     * @return batch 처리 여부 (lock 획득 실패 또는 반영할 차감량이 없으면 false)
+     */
+    private boolean syncBatch() {
+        List<?> entries = redisTemplate.execute(DRAIN_SCRIPT,
+                List.of(StorageType.PRODUCT_STOCK_PENDING.getKey(), PROCESSING_KEY, PROCESSING_BATCH_KEY, PROCESSING_LOCK_KEY),
+                nodeId, String.valueOf(PROCESSING_LEASE_MS), UUID.randomUUID().toString());
+        if (entries == null || entries.isEmpty()) {
+            return false;
+        }
+
+        String batchId = entries.get(0).toString();
+        try {
+            List<ProductQuantity> items = new ArrayList<>(entries.size() / 2);
+            for (int i = 1; i < entries.size(); i += 2) {
+                items.add(ProductQuantity.of(
+                        Integer.parseInt(entries.get(i).toString()),
+                        Integer.parseInt(entries.get(i + 1).toString())));
+            }
+
+            if (productRepository.decreaseStocks(batchId, items)) {
+                log.debug("[RedisStock] 재고 차감량 DB 반영 완료: batchId={}, {}건", batchId, items.size());
+            } else {
+                log.info("[RedisStock] 이미 반영된 batch, processing key만 삭제: batchId={}", batchId);
+            }
+            redisTemplate.execute(COMPLETE_SCRIPT,
+                    List.of(PROCESSING_KEY, PROCESSING_BATCH_KEY, PROCESSING_LOCK_KEY), nodeId, batchId);
+            return true;
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(PROCESSING_LOCK_KEY), nodeId);
+        }
+    }
+
+    private boolean hasUnsyncedDeltas() {
+        Long existing = redisTemplate.countExistingKeys(
+                List.of(StorageType.PRODUCT_STOCK_PENDING.getKey(), PROCESSING_KEY));
+        return existing != null && existing > 0;
+    }
+
+    /**
+     * KEYS 대신 SCAN 커서로 순회하며 batch 단위로 삭제 (Redis 블로킹 방지)
+     */
+    private int deleteStockCounters() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(StorageType.PRODUCT_STOCK.getKey() + ":*")
+                .count(SCAN_COUNT)
+                .build();
+
+        int deletedCount = 0;
+        List<String> keys = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    redisTemplate.delete(keys);
+                    deletedCount += keys.size();
+                    keys.clear();
+                }
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+            deletedCount += keys.size();
+        }
+        return deletedCount;
+    }
+}
@@ -12,6 +12,7 @@ import com.example.ecommerceapi.product.application.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -58,8 +59,8 @@ public class ProductController {
     @GetMapping("/popular")
     public ResponseEntity<List<PopularProductResponse>> getPopularProducts(
             @Parameter(description = "타입") @RequestParam(defaultValue = "SALES") String type,
-            @Parameter(description = "최근 일수") @RequestParam(defaultValue = "3") @Min(1) Integer days,
-            @Parameter(description = "개수") @RequestParam(defaultValue = "5") @Min(1) Integer limit
+            @Parameter(description = "최근 일수") @RequestParam(defaultValue = "3") @Min(1) @Max(30) Integer days,
+            @Parameter(description = "개수") @RequestParam(defaultValue = "5") @Min(1) @Max(100) Integer limit
     ) {
 
         List<PopularProductResult> popularProducts = productService.getPopularProducts(type, days, limit);
@@ -46,4 +46,14 @@ public class RankingController {
         List<SalesRankingResult> results = rankingService.getWeeklySalesRankings(targetDate, limit);
         return ResponseEntity.ok(ProductRankingResponse.fromList(results));
     }
+
+    @Operation(summary = "최근 N일 판매 랭킹 조회", description = "오늘을 포함한 최근 N일(1~30일) 판매량 기준 상위 K개 상품 조회")
+    @GetMapping("/sales/rolling")
+    public ResponseEntity<List<ProductRankingResponse>> getRollingSalesRankings(
+            @Parameter(description = "집계 일수 (1~30)", example = "7") @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "조회할 상품 개수", example = "10") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SalesRankingResult> results = rankingService.getRollingSalesRankings(days, limit);
+        return ResponseEntity.ok(ProductRankingResponse.fromList(results));
+    }
 }
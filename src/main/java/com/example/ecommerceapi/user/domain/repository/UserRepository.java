@@ -2,6 +2,7 @@ package com.example.ecommerceapi.user.domain.repository;
 
 import com.example.ecommerceapi.user.domain.entity.User;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +21,11 @@ public interface UserRepository {
      */
     User findById(Integer userId);
 
+    /**
+     * ID 목록으로 사용자 일괄 조회
+     */
+    List<User> findAllById(Collection<Integer> userIds);
+
     /**
      * ID로 사용자 조회 (비관적 락)
      */
@@ -30,6 +36,22 @@ public interface UserRepository {
      */
     Integer findBalanceById(Integer userId);
 
+    /**
+     * 잔액이 충분한 경우에만 포인트 차감 (조건부 UPDATE)
+     * UPDATE user SET point_balance = point_balance - ? WHERE user_id = ? AND point_balance >= ?
+     *
+     * @return 차감 성공 여부 (잔액 부족 또는 사용자 미존재 시 false)
+     */
+    boolean usePointsIfSufficient(Integer userId, Integer amount);
+
+    /**
+     * 포인트 충전 (원자적 UPDATE)
+     * UPDATE user SET point_balance = point_balance + ? WHERE user_id = ?
+     *
+     * @return 충전 성공 여부 (사용자 미존재 시 false)
+     */
+    boolean chargePoints(Integer userId, Integer amount);
+
     /**
      * 사용자 저장 (생성/수정)
      */
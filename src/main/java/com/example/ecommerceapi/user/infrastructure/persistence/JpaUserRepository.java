@@ -28,4 +28,20 @@ public interface JpaUserRepository extends JpaRepository<User, Integer> {
      */
     @Query("SELECT u.pointBalance FROM User u WHERE u.userId = :userId")
     Optional<Integer> findBalanceByUserId(@Param("userId") Integer userId);
+
+    /**
+     * 잔액이 충분한 경우에만 포인트 차감
+     * 영속성 컨텍스트의 User 엔티티는 갱신되지 않으므로 잔액은 findBalanceByUserId로 다시 조회
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance - :amount " +
+            "WHERE u.userId = :userId AND u.pointBalance >= :amount")
+    int decreasePointBalanceIfSufficient(@Param("userId") Integer userId, @Param("amount") Integer amount);
+
+    /**
+     * 포인트 충전
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance + :amount WHERE u.userId = :userId")
+    int increasePointBalance(@Param("userId") Integer userId, @Param("amount") Integer amount);
 }
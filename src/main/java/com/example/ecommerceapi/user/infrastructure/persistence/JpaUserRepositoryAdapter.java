@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +33,11 @@ public class JpaUserRepositoryAdapter implements UserRepository {
         return jpaUserRepository.findById(userId).orElse(null);
     }
 
+    @Override
+    public List<User> findAllById(Collection<Integer> userIds) {
+        return jpaUserRepository.findAllById(userIds);
+    }
+
     /**
      * 동시성 제어가 필요한 경우 사용하는 조회 메서드
      * 비관적 락(PESSIMISTIC_WRITE)을 적용하여 SELECT FOR UPDATE 실행
@@ -46,6 +52,16 @@ public class JpaUserRepositoryAdapter implements UserRepository {
         return jpaUserRepository.findBalanceByUserId(userId).orElse(null);
     }
 
+    @Override
+    public boolean usePointsIfSufficient(Integer userId, Integer amount) {
+        return jpaUserRepository.decreasePointBalanceIfSufficient(userId, amount) > 0;
+    }
+
+    @Override
+    public boolean chargePoints(Integer userId, Integer amount) {
+        return jpaUserRepository.increasePointBalance(userId, amount) > 0;
+    }
+
     @Override
     public User save(User user) {
         return jpaUserRepository.save(user);
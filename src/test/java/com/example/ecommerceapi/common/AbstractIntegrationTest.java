@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.common;
 
+import com.example.ecommerceapi.common.redis.TwoLevelCacheManager;
 import com.redis.testcontainers.RedisContainer;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,9 @@ public abstract class AbstractIntegrationTest {
     @Autowired(required = false)
     private RedissonClient redissonClient;
 
+    @Autowired(required = false)
+    private TwoLevelCacheManager cacheManager;
+
     // Singleton 패턴으로 모든 테스트가 하나의 컨테이너 공유
     private static final MySQLContainer<?> mysql;
     private static final RedisContainer redis;
@@ -70,13 +74,14 @@ public abstract class AbstractIntegrationTest {
             redissonClient.getKeys().deleteByPattern("spin-lock:*");
             redissonClient.getKeys().deleteByPattern("pubsub-lock:*");
             redissonClient.getKeys().deleteByPattern("multi-lock:*");
+            redissonClient.getKeys().deleteByPattern("tiered-lock:*");
         } catch (Exception e) {
             System.err.println("Failed to clear Redis locks: " + e.getMessage());
         }
     }
 
     /**
-     * Redis의 모든 키를 삭제합니다.
+     * Redis의 모든 키와 노드 내 L1 캐시를 삭제합니다.
      * 테스트 간 완전한 격리가 필요한 경우 사용합니다.
      */
     protected void clearAllRedisKeys() {
@@ -86,6 +91,9 @@ public abstract class AbstractIntegrationTest {
 
         try {
             redissonClient.getKeys().flushall();
+            if (cacheManager != null) {
+                cacheManager.clearLocalCaches();
+            }
         } catch (Exception e) {
             System.err.println("Failed to clear all Redis keys: " + e.getMessage());
         }
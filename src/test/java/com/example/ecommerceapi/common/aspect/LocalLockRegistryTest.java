@@ -0,0 +1,101 @@
+package com.example.ecommerceapi.common.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalLockRegistry 단위 테스트")
+class LocalLockRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LocalLockRegistry lockRegistry;
+
+    @BeforeEach
+    void setUp() {
+        lockRegistry = new LocalLockRegistry(true, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 해제되면 키를 제거한다")
+    void unlock_ShouldRemoveKey_WhenLastReferenceReleased() throws InterruptedException {
+        // given
+        LocalLockRegistry.Handle lock = lockRegistry.tryLock("user:1", 1, TimeUnit.SECONDS);
+        assertThat(lockRegistry.activeKeys()).isEqualTo(1);
+
+        // when
+        lock.unlock();
+
+        // then
+        assertThat(lockRegistry.activeKeys()).isZero();
+        assertThat(meterRegistry.get("lock.local.active.keys").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 스레드의 재진입은 참조를 모두 해제한 뒤에 키를 제거한다")
+    void unlock_ShouldKeepKey_WhileReentrantHoldRemains() {
+        // given
+        LocalLockRegistry.Handle outer = lockRegistry.tryLock("user:1");
+        LocalLockRegistry.Handle inner = lockRegistry.tryLock("user:1");
+
+        // when
+        inner.unlock();
+
+        // then
+        assertThat(lockRegistry.activeKeys()).isEqualTo(1);
+        outer.unlock();
+        assertThat(lockRegistry.activeKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유 중인 키는 획득에 실패하고 경합으로 기록하며, 실패한 참조는 남기지 않는다")
+    void tryLock_ShouldFail_WhenHeldByAnotherThread() throws Exception {
+        // given
+        LocalLockRegistry.Handle lock = lockRegistry.tryLock("coupon:1");
+
+        // when
+        LocalLockRegistry.Handle busy = CompletableFuture.supplyAsync(() -> lockRegistry.tryLock("coupon:1")).get();
+        LocalLockRegistry.Handle timedOut = CompletableFuture.supplyAsync(() -> {
+            try {
+                return lockRegistry.tryLock("coupon:1", 10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        // then
+        assertThat(busy).isNull();
+        assertThat(timedOut).isNull();
+        assertThat(meterRegistry.get("lock.local.contended").counter().count()).isEqualTo(2.0);
+        lock.unlock();
+        assertThat(lockRegistry.activeKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("서로 다른 키는 독립적으로 획득한다")
+    void tryLock_ShouldLockKeysIndependently() throws Exception {
+        // given
+        LocalLockRegistry.Handle lock = lockRegistry.tryLock("user:1");
+
+        // when
+        Boolean acquired = CompletableFuture.supplyAsync(() -> {
+            LocalLockRegistry.Handle other = lockRegistry.tryLock("user:2");
+            if (other == null) {
+                return false;
+            }
+            other.unlock();
+            return true;
+        }).get();
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(lockRegistry.activeKeys()).isEqualTo(1);
+        lock.unlock();
+    }
+}
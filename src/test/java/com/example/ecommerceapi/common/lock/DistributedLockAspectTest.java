@@ -0,0 +1,134 @@
+package com.example.ecommerceapi.common.lock;
+
+import com.example.ecommerceapi.common.exception.LockException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockAspect 단위 테스트")
+class DistributedLockAspectTest {
+
+    @Mock
+    private LockStrategyFactory lockStrategyFactory;
+
+    @Mock
+    private LockStrategy lockStrategy;
+
+    @Mock
+    private FencingTokenIssuer fencingTokenIssuer;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DistributedLockAspect distributedLockAspect;
+
+    @BeforeEach
+    void setUp() {
+        distributedLockAspect = new DistributedLockAspect(lockStrategyFactory, fencingTokenIssuer, meterRegistry);
+        given(joinPoint.getSignature()).willReturn(signature);
+    }
+
+    @Test
+    @DisplayName("WATCHDOG 모드는 leaseTime 대신 -1로 락을 획득하고 보유 시간을 기록한다")
+    void around_ShouldUseWatchdogLease() throws Throwable {
+        // given
+        Method method = LockedService.class.getMethod("issue", Integer.class);
+        given(signature.getMethod()).willReturn(method);
+        given(joinPoint.getArgs()).willReturn(new Object[]{1});
+        given(lockStrategyFactory.getStrategy(LockType.PUB_SUB)).willReturn(lockStrategy);
+        given(lockStrategy.tryLock("coupon:1", 5L, -1L, TimeUnit.SECONDS)).willReturn(true);
+        given(joinPoint.proceed()).willReturn("issued");
+
+        // when
+        Object result = distributedLockAspect.around(joinPoint, method.getAnnotation(DistributedLock.class));
+
+        // then
+        assertThat(result).isEqualTo("issued");
+        verify(lockStrategy).unlock("coupon:1");
+        verify(fencingTokenIssuer, never()).issue(any());
+        assertThat(meterRegistry.get("lock.distributed.hold")
+                .tag("key", "'coupon:' + #couponId")
+                .tag("type", "PUB_SUB")
+                .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("FencingToken 파라미터가 있으면 락 획득 후 발급한 토큰으로 호출한다")
+    void around_ShouldPassFencingToken() throws Throwable {
+        // given
+        Method method = LockedService.class.getMethod("pay", Integer.class, FencingToken.class);
+        FencingToken token = new FencingToken("order:7", 42L);
+        given(signature.getMethod()).willReturn(method);
+        given(joinPoint.getArgs()).willReturn(new Object[]{7, null});
+        given(lockStrategyFactory.getStrategy(LockType.SIMPLE)).willReturn(lockStrategy);
+        given(lockStrategy.tryLock("order:7", 5L, 3L, TimeUnit.SECONDS)).willReturn(true);
+        given(fencingTokenIssuer.issue("order:7")).willReturn(token);
+        given(joinPoint.proceed(new Object[]{7, token})).willReturn("paid");
+
+        // when
+        Object result = distributedLockAspect.around(joinPoint, method.getAnnotation(DistributedLock.class));
+
+        // then
+        assertThat(result).isEqualTo("paid");
+        verify(lockStrategy).unlock("order:7");
+    }
+
+    @Test
+    @DisplayName("락 획득에 실패하면 대기 시간을 timeout으로 기록하고 토큰을 발급하지 않는다")
+    void around_ShouldRecordTimeout_WhenLockNotAcquired() throws Throwable {
+        // given
+        Method method = LockedService.class.getMethod("pay", Integer.class, FencingToken.class);
+        given(signature.getMethod()).willReturn(method);
+        given(joinPoint.getArgs()).willReturn(new Object[]{7, null});
+        given(lockStrategyFactory.getStrategy(LockType.SIMPLE)).willReturn(lockStrategy);
+        given(lockStrategy.tryLock("order:7", 5L, 3L, TimeUnit.SECONDS)).willReturn(false);
+
+        // when
+        Throwable thrown = catchThrowable(
+                () -> distributedLockAspect.around(joinPoint, method.getAnnotation(DistributedLock.class)));
+
+        // then
+        assertThat(thrown).isInstanceOf(LockException.class);
+        verify(fencingTokenIssuer, never()).issue(any());
+        verify(lockStrategy, never()).unlock(any());
+        assertThat(meterRegistry.get("lock.distributed.wait")
+                .tags("key", "'order:' + #orderId", "result", "timeout")
+                .timer().count()).isEqualTo(1L);
+    }
+
+    static class LockedService {
+
+        @DistributedLock(key = "'coupon:' + #couponId", type = LockType.PUB_SUB, leaseMode = LeaseMode.WATCHDOG)
+        public String issue(Integer couponId) {
+            return "issued";
+        }
+
+        @DistributedLock(key = "'order:' + #orderId")
+        public String pay(Integer orderId, FencingToken fencingToken) {
+            return List.of(orderId, fencingToken).toString();
+        }
+    }
+}
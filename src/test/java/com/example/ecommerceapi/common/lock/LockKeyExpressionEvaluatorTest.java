@@ -0,0 +1,86 @@
+package com.example.ecommerceapi.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LockKeyExpressionEvaluator 단위 테스트")
+class LockKeyExpressionEvaluatorTest {
+
+    private LockKeyExpressionEvaluator keyEvaluator;
+    private Method issueCoupon;
+    private Method chargePoint;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        keyEvaluator = new LockKeyExpressionEvaluator();
+        issueCoupon = LockedService.class.getMethod("issueCoupon", IssueCommand.class);
+        chargePoint = LockedService.class.getMethod("chargePoint", Integer.class, Long.class);
+    }
+
+    @Test
+    @DisplayName("파라미터 이름으로 락 키를 평가한다")
+    void evaluate_ShouldResolveParameterNames() {
+        // when
+        String key = keyEvaluator.evaluate("'point:' + #userId", chargePoint, new Object[]{7, 1000L});
+
+        // then
+        assertThat(key).isEqualTo("point:7");
+    }
+
+    @Test
+    @DisplayName("컴파일된 표현식을 재사용해도 호출마다 인자 값으로 평가한다")
+    void evaluate_ShouldUseArgumentsOfEachCall() {
+        // when - IMMEDIATE 모드는 두 번째 평가 이후 컴파일된 표현식으로 평가
+        String first = keyEvaluator.evaluate("'coupon:' + #command.couponId", issueCoupon, new Object[]{new IssueCommand(1, 10)});
+        String second = keyEvaluator.evaluate("'coupon:' + #command.couponId", issueCoupon, new Object[]{new IssueCommand(1, 20)});
+        String third = keyEvaluator.evaluate("'coupon:' + #command.couponId", issueCoupon, new Object[]{new IssueCommand(2, 30)});
+
+        // then
+        assertThat(first).isEqualTo("coupon:10");
+        assertThat(second).isEqualTo("coupon:20");
+        assertThat(third).isEqualTo("coupon:30");
+    }
+
+    @Test
+    @DisplayName("여러 표현식을 같은 메서드에서 각각 평가한다")
+    void evaluate_ShouldCacheExpressionsSeparately() {
+        // given
+        Object[] args = {3, 500L};
+
+        // when
+        String userKey = keyEvaluator.evaluate("'user:' + #userId", chargePoint, args);
+        String amountKey = keyEvaluator.evaluate("'amount:' + #amount", chargePoint, args);
+
+        // then
+        assertThat(userKey).isEqualTo("user:3");
+        assertThat(amountKey).isEqualTo("amount:500");
+    }
+
+    @Test
+    @DisplayName("인덱스 별칭(#p0)으로도 평가하고, 결과가 null이면 \"null\"을 반환한다")
+    void evaluate_ShouldSupportIndexAliasAndNull() {
+        // when
+        String aliasKey = keyEvaluator.evaluate("#p0", chargePoint, new Object[]{5, 100L});
+        String nullKey = keyEvaluator.evaluate("#userId", chargePoint, new Object[]{null, 100L});
+
+        // then
+        assertThat(aliasKey).isEqualTo("5");
+        assertThat(nullKey).isEqualTo("null");
+    }
+
+    public record IssueCommand(Integer userId, Integer couponId) {
+    }
+
+    public static class LockedService {
+        public void issueCoupon(IssueCommand command) {
+        }
+
+        public void chargePoint(Integer userId, Long amount) {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ecommerceapi.common.lock;
+
+import com.example.ecommerceapi.common.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("MultiLockStrategy 통합 테스트")
+class MultiLockStrategyIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MultiLockStrategy multiLockStrategy;
+
+    @BeforeEach
+    void setUp() {
+        clearRedisLocks();
+    }
+
+    @Test
+    @DisplayName("같은 스레드의 중첩 멀티 락은 키가 겹쳐도 재진입하고, 바깥 핸들을 닫을 때까지 락을 유지한다")
+    void tryLockMultiple_ShouldReenter_WhenNestedKeysOverlap() throws Exception {
+        // given
+        MultiLockHandle outer = multiLockStrategy.tryLockMultiple(
+                List.of("product:1", "product:2"), 1, 10, TimeUnit.SECONDS);
+
+        // when
+        MultiLockHandle inner = multiLockStrategy.tryLockMultiple(
+                List.of("product:2", "product:3"), 1, 10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(outer).isNotNull();
+        assertThat(inner).isNotNull();
+
+        inner.close();
+        assertThat(tryLockOnOtherThread(List.of("product:2"))).isFalse();
+        assertThat(tryLockOnOtherThread(List.of("product:3"))).isTrue();
+
+        outer.close();
+        assertThat(tryLockOnOtherThread(List.of("product:1", "product:2"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유 중인 키가 하나라도 있으면 획득하지 못한다")
+    void tryLockMultiple_ShouldFail_WhenOtherThreadHoldsKey() throws Exception {
+        // given
+        try (MultiLockHandle ignored = multiLockStrategy.tryLockMultiple(
+                List.of("product:1"), 1, 10, TimeUnit.SECONDS)) {
+
+            // when & then
+            assertThat(tryLockOnOtherThread(List.of("product:1", "product:2"))).isFalse();
+        }
+    }
+
+    /**
+     * 다른 스레드에서 대기 없이 획득을 시도하고, 획득하면 바로 해제합니다.
+     */
+    private boolean tryLockOnOtherThread(List<String> keys) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try (MultiLockHandle handle = multiLockStrategy.tryLockMultiple(keys, 0, 10, TimeUnit.SECONDS)) {
+                return handle != null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.ecommerceapi.common.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultiLockStrategy 단위 테스트")
+class MultiLockStrategyTest {
+
+    private static final List<String> SORTED_KEYS = List.of("multi-lock:product:1", "multi-lock:product:2", "multi-lock:user:1");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private MultiLockStrategy multiLockStrategy;
+
+    @BeforeEach
+    void setUp() {
+        multiLockStrategy = new MultiLockStrategy(redisTemplate, 30000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        multiLockStrategy.shutdown();
+    }
+
+    @Test
+    @DisplayName("키를 중복 제거·정렬하여 한 번에 획득하고, 핸들을 닫으면 한 번만 해제한다")
+    void tryLockMultiple_ShouldAcquireSortedKeys_AndReleaseOnce() throws InterruptedException {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(SORTED_KEYS), anyString(), eq("3000"))).willReturn(0L);
+        given(redisTemplate.execute(any(RedisScript.class), eq(SORTED_KEYS), anyString())).willReturn(3L);
+
+        // when
+        MultiLockHandle handle = multiLockStrategy.tryLockMultiple(
+                List.of("user:1", "product:2", "product:1", "product:2"), 1, 3, TimeUnit.SECONDS);
+        handle.close();
+        handle.close();
+
+        // then
+        assertThat(handle.lockKeys()).isEqualTo(SORTED_KEYS);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(SORTED_KEYS), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 owner가 키를 보유 중이면 back-off 후 재시도하여 획득한다")
+    void tryLockMultiple_ShouldRetryWithBackoff() throws InterruptedException {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(SORTED_KEYS), anyString(), eq("3000")))
+                .willReturn(2L, 1L, 0L);
+
+        // when
+        MultiLockHandle handle = multiLockStrategy.tryLockMultiple(
+                List.of("product:1", "product:2", "user:1"), 1, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(handle).isNotNull();
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), eq(SORTED_KEYS), anyString(), eq("3000"));
+    }
+
+    @Test
+    @DisplayName("waitTime 안에 모든 키를 획득하지 못하면 null을 반환하고 해제하지 않는다")
+    void tryLockMultiple_ShouldReturnNull_WhenWaitTimeExceeded() throws InterruptedException {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(SORTED_KEYS), anyString(), eq("3000"))).willReturn(1L);
+
+        // when
+        MultiLockHandle handle = multiLockStrategy.tryLockMultiple(
+                List.of("product:1", "product:2", "user:1"), 50, 3000, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(handle).isNull();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(SORTED_KEYS), anyString());
+    }
+
+    @Test
+    @DisplayName("키가 없으면 Redis를 호출하지 않고 null을 반환한다")
+    void tryLockMultiple_ShouldReturnNull_WhenNoKeys() throws InterruptedException {
+        // when
+        MultiLockHandle handle = multiLockStrategy.tryLockMultiple(List.of(), 1, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(handle).isNull();
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.ecommerceapi.common.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TieredLockStrategy 단위 테스트")
+class TieredLockStrategyTest {
+
+    private static final String KEY = "coupon:1";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock rLock;
+
+    @Mock
+    private RScript rScript;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TieredLockStrategy tieredLockStrategy;
+
+    @BeforeEach
+    void setUp() {
+        tieredLockStrategy = new TieredLockStrategy(redissonClient, 32, meterRegistry);
+        given(redissonClient.getLock("tiered-lock:" + KEY)).willReturn(rLock);
+    }
+
+    @Test
+    @DisplayName("대기 스레드가 없으면 Redis 락을 획득하고 해제 시 바로 해제한다")
+    void tryLock_ShouldAcquireAndReleaseDistributedLock() throws InterruptedException {
+        // given
+        given(rLock.tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS), anyLong()))
+                .willReturn(new CompletableFutureWrapper<>(true));
+        given(rLock.unlockAsync(anyLong())).willReturn(new CompletableFutureWrapper<>((Void) null));
+
+        // when
+        boolean acquired = tieredLockStrategy.tryLock(KEY, 5, 10, TimeUnit.SECONDS);
+        tieredLockStrategy.unlock(KEY);
+
+        // then
+        assertThat(acquired).isTrue();
+        verify(rLock).unlockAsync(anyLong());
+        assertThat(acquisitions("redis")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("노드 내 대기 스레드가 있으면 Redis 락을 해제하지 않고 lease를 연장해 넘겨준다")
+    void unlock_ShouldHandOffToLocalWaiter() throws Exception {
+        // given
+        given(rLock.tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS), anyLong()))
+                .willReturn(new CompletableFutureWrapper<>(true));
+        given(rLock.unlockAsync(anyLong())).willReturn(new CompletableFutureWrapper<>((Void) null));
+        givenLeaseRenewal(1L);
+        tieredLockStrategy.tryLock(KEY, 5, 10, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Boolean> waiter = unlockWithLocalWaiter();
+
+        // then
+        assertThat(waiter.get(2, TimeUnit.SECONDS)).isTrue();
+        verify(rLock, times(1)).tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS), anyLong());
+        verify(rLock, times(1)).unlockAsync(anyLong());
+        verify(rScript).evalAsync(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.<Object>of("tiered-lock:" + KEY)), eq("node:1"), eq("10000"));
+        assertThat(acquisitions("redis")).isEqualTo(1.0);
+        assertThat(acquisitions("hand-off")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("hand-off 시 lease를 연장하지 못하면 (이미 만료) Redis 락을 다시 획득한다")
+    void unlock_ShouldReacquire_WhenLeaseRenewalFails() throws Exception {
+        // given
+        given(rLock.tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS), anyLong()))
+                .willReturn(new CompletableFutureWrapper<>(true));
+        given(rLock.unlockAsync(anyLong())).willReturn(new CompletableFutureWrapper<>((Void) null));
+        givenLeaseRenewal(0L);
+        tieredLockStrategy.tryLock(KEY, 5, 10, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Boolean> waiter = unlockWithLocalWaiter();
+
+        // then
+        assertThat(waiter.get(2, TimeUnit.SECONDS)).isTrue();
+        verify(rLock, times(2)).tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS), anyLong());
+        assertThat(acquisitions("redis")).isEqualTo(2.0);
+        assertThat(acquisitions("hand-off")).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 락 획득에 실패하면 false를 반환하고 해제하지 않는다")
+    void tryLock_ShouldReturnFalse_WhenDistributedLockBusy() throws InterruptedException {
+        // given
+        given(rLock.tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS), anyLong()))
+                .willReturn(new CompletableFutureWrapper<>(false));
+
+        // when
+        boolean acquired = tieredLockStrategy.tryLock(KEY, 0, 10, TimeUnit.SECONDS);
+        tieredLockStrategy.unlock(KEY);
+
+        // then
+        assertThat(acquired).isFalse();
+        verify(rLock, never()).unlockAsync(anyLong());
+    }
+
+    /**
+     * 락을 보유한 상태에서 다른 스레드가 대기하기 시작하면 해제합니다.
+     *
+     * @return 대기 스레드의 획득 결과
+     */
+    private CompletableFuture<Boolean> unlockWithLocalWaiter() {
+        CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+        Thread waiterThread = new Thread(() -> {
+            try {
+                boolean acquired = tieredLockStrategy.tryLock(KEY, 5, 10, TimeUnit.SECONDS);
+                if (acquired) {
+                    tieredLockStrategy.unlock(KEY);
+                }
+                waiter.complete(acquired);
+            } catch (Exception e) {
+                waiter.completeExceptionally(e);
+            }
+        });
+        waiterThread.start();
+        await().atMost(2, TimeUnit.SECONDS)
+                .until(() -> waiterThread.getState() == Thread.State.TIMED_WAITING);
+
+        tieredLockStrategy.unlock(KEY);
+        return waiter;
+    }
+
+    private void givenLeaseRenewal(Long result) {
+        given(redissonClient.getId()).willReturn("node");
+        given(redissonClient.getScript(any())).willReturn(rScript);
+        given(rScript.<Long>evalAsync(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), any(), any(), any()))
+                .willReturn(new CompletableFutureWrapper<>(result));
+    }
+
+    private double acquisitions(String source) {
+        return meterRegistry.get("lock.tiered.acquisitions").tag("source", source).counter().count();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.ecommerceapi.common.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshAheadCache 단위 테스트")
+class RefreshAheadCacheTest {
+
+    private static final String KEY = "3::5";
+    private static final String LOCK_KEY = "store:cache:refresh-lock:product::popular::SALES::3::5";
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ConcurrentMapCache cache = new ConcurrentMapCache(CacheType.Names.POPULAR_PRODUCTS_SALES);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private RefreshAheadCache refreshAheadCache;
+
+    @BeforeEach
+    void setUp() {
+        refreshAheadCache = new RefreshAheadCache(cacheManager, redisTemplate, 0, 10_000);
+        given(cacheManager.getCache(CacheType.Names.POPULAR_PRODUCTS_SALES)).willReturn(cache);
+    }
+
+    private Supplier<List<String>> loader(String value) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return List.of(value);
+        };
+    }
+
+    private void givenLockAcquired(boolean acquired) {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(acquired);
+    }
+
+    @Nested
+    @DisplayName("캐시 조회 테스트")
+    class GetTest {
+
+        @Test
+        @DisplayName("캐시 미스 시 락을 획득하여 원본을 조회하고 soft TTL과 함께 저장한다")
+        void get_ShouldLoadAndStoreEntry_WhenMiss() {
+            // given
+            givenLockAcquired(true);
+
+            // when
+            List<String> result = refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+
+            // then
+            assertThat(result).containsExactly("new");
+            assertThat(loadCount).hasValue(1);
+            RefreshAheadEntry entry = cache.get(KEY, RefreshAheadEntry.class);
+            assertThat(entry).isNotNull();
+            assertThat(entry.isStale(System.currentTimeMillis())).isFalse();
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any());
+        }
+
+        @Test
+        @DisplayName("캐시 미스 적재 시 락을 해제하기 전에 캐시에 저장한다")
+        void get_ShouldStoreEntryBeforeUnlock_WhenMiss() {
+            // given
+            givenLockAcquired(true);
+            AtomicBoolean storedBeforeUnlock = new AtomicBoolean();
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any())).willAnswer(invocation -> {
+                storedBeforeUnlock.set(cache.get(KEY, RefreshAheadEntry.class) != null);
+                return 1L;
+            });
+
+            // when
+            refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+
+            // then
+            assertThat(storedBeforeUnlock).isTrue();
+        }
+
+        @Test
+        @DisplayName("락을 기다리는 동안 다른 쪽이 적재를 끝냈으면 원본을 조회하지 않는다")
+        void get_ShouldNotLoad_WhenLoadedWhileWaitingForLock() {
+            // given: 첫 락 획득 시도 직후 다른 노드가 적재를 완료
+            RefreshAheadCache waitingCache = new RefreshAheadCache(cacheManager, redisTemplate, 1000, 10_000);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willAnswer(invocation -> {
+                cache.put(KEY, RefreshAheadEntry.of(List.of("loaded"), Duration.ofMinutes(1)));
+                return true;
+            });
+
+            // when
+            List<String> result = waitingCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+
+            // then
+            assertThat(result).containsExactly("loaded");
+            assertThat(loadCount).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 적재 중이어도 대기 시간이 지나면 직접 조회한다")
+        void get_ShouldLoad_WhenColdMissWaitExceeded() {
+            // given
+            givenLockAcquired(false);
+
+            // when
+            List<String> result = refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+
+            // then
+            assertThat(result).containsExactly("new");
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("soft TTL이 지난 항목도 원본 조회 없이 기존 값을 반환한다")
+        void get_ShouldReturnStaleValue_WithoutLoading() {
+            // given
+            cache.put(KEY, new RefreshAheadEntry(List.of("old"), 0L));
+
+            // when
+            List<String> result = refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+
+            // then
+            assertThat(result).containsExactly("old");
+            assertThat(loadCount).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("백그라운드 갱신 테스트")
+    class RefreshStaleEntriesTest {
+
+        @Test
+        @DisplayName("soft TTL이 지난 항목을 갱신한다")
+        void refreshStaleEntries_ShouldRefreshStaleEntry() {
+            // given
+            cache.put(KEY, new RefreshAheadEntry(List.of("old"), 0L));
+            refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+            givenLockAcquired(true);
+
+            // when
+            int refreshed = refreshAheadCache.refreshStaleEntries();
+
+            // then
+            assertThat(refreshed).isEqualTo(1);
+            assertThat(cache.get(KEY, RefreshAheadEntry.class).value()).isEqualTo(List.of("new"));
+        }
+
+        @Test
+        @DisplayName("soft TTL이 지나지 않은 항목은 갱신하지 않는다")
+        void refreshStaleEntries_ShouldSkipFreshEntry() {
+            // given
+            cache.put(KEY, RefreshAheadEntry.of(List.of("old"), Duration.ofMinutes(1)));
+            refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+
+            // when
+            int refreshed = refreshAheadCache.refreshStaleEntries();
+
+            // then
+            assertThat(refreshed).isZero();
+            assertThat(loadCount).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 갱신 중이면 원본을 조회하지 않는다")
+        void refreshStaleEntries_ShouldSkip_WhenLockedByOtherNode() {
+            // given
+            cache.put(KEY, new RefreshAheadEntry(List.of("old"), 0L));
+            refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, loader("new"));
+            givenLockAcquired(false);
+
+            // when
+            int refreshed = refreshAheadCache.refreshStaleEntries();
+
+            // then
+            assertThat(refreshed).isZero();
+            assertThat(loadCount).hasValue(0);
+            assertThat(cache.get(KEY, RefreshAheadEntry.class).value()).isEqualTo(List.of("old"));
+        }
+
+        @Test
+        @DisplayName("갱신에 실패하면 기존 값을 유지한다")
+        void refreshStaleEntries_ShouldKeepStaleValue_WhenLoadFails() {
+            // given
+            cache.put(KEY, new RefreshAheadEntry(List.of("old"), 0L));
+            refreshAheadCache.get(CacheType.POPULAR_PRODUCTS_SALES, KEY, () -> {
+                throw new RuntimeException("DB Error");
+            });
+            givenLockAcquired(true);
+
+            // when
+            int refreshed = refreshAheadCache.refreshStaleEntries();
+
+            // then
+            assertThat(refreshed).isZero();
+            assertThat(cache.get(KEY, RefreshAheadEntry.class).value()).isEqualTo(List.of("old"));
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.ecommerceapi.common.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 단위 테스트")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache redisCache;
+
+    private final List<String> publishedInvalidations = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoLevelCache(
+                "product",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                redisCache,
+                (cacheName, key) -> publishedInvalidations.add(cacheName + ":" + key),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2에서 조회한 값은 L1에 적재되어 다음 조회는 Redis를 거치지 않는다")
+    void get_ShouldServeFromLocalCache_AfterFirstHit() {
+        // given
+        given(redisCache.get(1)).willReturn(new SimpleValueWrapper("상품1"));
+
+        // when
+        Cache.ValueWrapper first = cache.get(1);
+        Cache.ValueWrapper second = cache.get(1);
+
+        // then
+        assertThat(first.get()).isEqualTo("상품1");
+        assertThat(second.get()).isEqualTo("상품1");
+        verify(redisCache, times(1)).get(1);
+    }
+
+    @Test
+    @DisplayName("L1, L2 모두 없으면 null을 반환하고 L1에 적재하지 않는다")
+    void get_ShouldReturnNull_WhenMissingInBothLevels() {
+        // given
+        given(redisCache.get(1)).willReturn(null);
+
+        // when & then
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1)).isNull();
+        verify(redisCache, times(2)).get(1);
+    }
+
+    @Test
+    @DisplayName("evict 시 L2와 L1을 함께 삭제하고 무효화 메시지를 발행한다")
+    void evict_ShouldEvictBothLevelsAndPublish() {
+        // given
+        given(redisCache.get(1)).willReturn(new SimpleValueWrapper("상품1"));
+        cache.get(1);
+
+        // when
+        cache.evict(1);
+        cache.get(1);
+
+        // then
+        verify(redisCache).evict(1);
+        verify(redisCache, times(2)).get(1);
+        assertThat(publishedInvalidations).containsExactly("product:1");
+    }
+
+    @Test
+    @DisplayName("clear 시 L2와 L1을 모두 비우고 전체 무효화 메시지를 발행한다")
+    void clear_ShouldClearBothLevelsAndPublish() {
+        // given
+        cache.put(1, "상품1");
+        publishedInvalidations.clear();
+
+        // when
+        cache.clear();
+
+        // then
+        verify(redisCache).clear();
+        assertThat(cache.getLocalCache().estimatedSize()).isZero();
+        assertThat(publishedInvalidations).containsExactly("product:null");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 삭제한다")
+    void evictLocal_ShouldOnlyEvictLocalCache() {
+        // given
+        cache.put(1, "상품1");
+
+        // when
+        cache.evictLocal("1");
+
+        // then
+        assertThat(cache.getLocalCache().getIfPresent("1")).isNull();
+        verify(redisCache, times(0)).evict(1);
+    }
+
+    @Test
+    @DisplayName("region별 L1/L2 적중과 미스를 집계하여 적중률을 제공한다")
+    void get_ShouldRecordHitRatioPerRegion() {
+        // given
+        given(redisCache.get(1)).willReturn(new SimpleValueWrapper("상품1"));
+        given(redisCache.get(2)).willReturn(null);
+
+        // when
+        cache.get(1); // L2 적중
+        cache.get(1); // L1 적중
+        cache.get(2); // 미스
+
+        // then
+        assertThat(meterRegistry.get("cache.region.gets")
+                .tags("region", "product", "level", "local", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.region.gets")
+                .tags("region", "product", "level", "remote", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.region.gets")
+                .tags("region", "product", "result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.region.hit.ratio")
+                .tag("region", "product").gauge().value()).isCloseTo(2.0 / 3, within(0.001));
+    }
+}
@@ -9,6 +9,7 @@ import com.example.ecommerceapi.coupon.application.dto.IssueCouponResult;
 import com.example.ecommerceapi.coupon.application.validator.CouponValidator;
 import com.example.ecommerceapi.coupon.domain.entity.Coupon;
 import com.example.ecommerceapi.coupon.domain.entity.CouponUser;
+import com.example.ecommerceapi.coupon.domain.event.CouponIssuePublisher;
 import com.example.ecommerceapi.coupon.domain.repository.CouponRepository;
 import com.example.ecommerceapi.coupon.domain.repository.CouponUserRepository;
 import com.example.ecommerceapi.user.application.validator.UserValidator;
@@ -30,7 +31,13 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +59,9 @@ class CouponServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CouponIssuePublisher couponIssuePublisher;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -202,6 +212,7 @@ class CouponServiceTest {
             assertThat(availableCoupon.getIssuedQuantity()).isEqualTo(11);
             verify(couponRepository).save(availableCoupon);
             verify(couponUserRepository).saveAndFlush(any(CouponUser.class));
+            verify(couponIssuePublisher).recordIssued(1, 1);
         }
 
         @Test
@@ -394,4 +405,153 @@ class CouponServiceTest {
                     .hasMessage("존재하지 않는 쿠폰입니다.");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("쿠폰 비동기 발급 접수 테스트")
+    class IssueCouponAsyncTest {
+
+        @Test
+        @DisplayName("Redis 입장 제어를 통과하면 쿠폰 DB 조회 없이 발급 요청을 접수한다")
+        void issueCouponAsync_ShouldPublishWithoutCouponLookup_WhenIssueStateLoaded() {
+            // given
+            given(userValidator.validateAndGetUser(1)).willReturn(user);
+            given(couponIssuePublisher.publish(1, 1)).willReturn(Optional.of("1-0"));
+
+            // when
+            IssueCouponResult result = couponService.issueCouponAsync(new IssueCouponCommand(1, 1));
+
+            // then
+            assertThat(result.status()).isEqualTo("PENDING");
+            assertThat(result.eventId()).isEqualTo("1-0");
+            verify(couponRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("쿠폰 발급 상태가 적재되지 않았으면 DB에서 적재 후 다시 발행한다")
+        void issueCouponAsync_ShouldLoadIssueStateAndRetry_WhenNotLoaded() {
+            // given
+            given(userValidator.validateAndGetUser(1)).willReturn(user);
+            given(couponIssuePublisher.publish(1, 1))
+                    .willReturn(Optional.empty())
+                    .willReturn(Optional.of("1-0"));
+            given(couponRepository.findById(1)).willReturn(Optional.of(availableCoupon));
+            given(couponUserRepository.findIssuedUserIdsByCouponId(1)).willReturn(List.of(2));
+
+            // when
+            IssueCouponResult result = couponService.issueCouponAsync(new IssueCouponCommand(1, 1));
+
+            // then
+            assertThat(result.eventId()).isEqualTo("1-0");
+            verify(couponIssuePublisher).loadIssueState(1, 40, List.of(2), availableCoupon.getExpiredAt());
+        }
+
+        @Test
+        @DisplayName("만료된 쿠폰은 발급 상태를 적재하지 않고 예외가 발생한다")
+        void issueCouponAsync_ShouldThrowException_WhenCouponExpired() {
+            // given
+            given(userValidator.validateAndGetUser(1)).willReturn(user);
+            given(couponIssuePublisher.publish(2, 1)).willReturn(Optional.empty());
+            given(couponRepository.findById(2)).willReturn(Optional.of(expiredCoupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueCouponAsync(new IssueCouponCommand(1, 2)))
+                    .isInstanceOf(CouponException.class)
+                    .hasMessage("만료된 쿠폰입니다.");
+            verify(couponIssuePublisher, never()).loadIssueState(any(), anyInt(), anyList(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 발급 이벤트 일괄 처리 테스트")
+    class ProcessCouponIssueBatchTest {
+
+        @Test
+        @DisplayName("배치 내 요청을 쿠폰별로 한 번에 발급하고 중복 요청은 제외한다")
+        void processCouponIssueBatch_ShouldIssueAllAtOnce_ExcludingDuplicates() {
+            // given: user1 중복 요청 2건, user2는 이미 발급받은 사용자
+            User user3 = User.builder().userId(3).username("테스트 사용자3").pointBalance(0).version(0).build();
+            List<IssueCouponCommand> commands = List.of(
+                    new IssueCouponCommand(1, 1),
+                    new IssueCouponCommand(2, 1),
+                    new IssueCouponCommand(1, 1),
+                    new IssueCouponCommand(3, 1)
+            );
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(user, user2, user3));
+            given(couponRepository.findByIdWithPessimisticLock(1)).willReturn(Optional.of(availableCoupon));
+            given(couponUserRepository.findIssuedUserIds(eq(1), anyCollection())).willReturn(List.of(2));
+
+            // when
+            int issuedCount = couponService.processCouponIssueBatch(commands);
+
+            // then
+            assertThat(issuedCount).isEqualTo(2);
+            assertThat(availableCoupon.getIssuedQuantity()).isEqualTo(12);
+            verify(couponRepository).save(availableCoupon);
+            verify(couponUserRepository).saveAll(argThat(couponUsers -> couponUsers.size() == 2
+                    && couponUsers.get(0).getUser().getUserId().equals(1)
+                    && couponUsers.get(1).getUser().getUserId().equals(3)));
+            verify(couponUserRepository, never()).save(any(CouponUser.class));
+            verify(couponIssuePublisher, never()).releaseAdmissions(any(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("잔여 수량을 초과한 요청은 선착순으로 잘라서 발급한다")
+        void processCouponIssueBatch_ShouldIssueOnlyRemainingQuantity() {
+            // given: 잔여 수량 1개
+            availableCoupon.setIssuedQuantity(49);
+            List<IssueCouponCommand> commands = List.of(
+                    new IssueCouponCommand(1, 1),
+                    new IssueCouponCommand(2, 1)
+            );
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(user, user2));
+            given(couponRepository.findByIdWithPessimisticLock(1)).willReturn(Optional.of(availableCoupon));
+            given(couponUserRepository.findIssuedUserIds(eq(1), anyCollection())).willReturn(List.of());
+
+            // when
+            int issuedCount = couponService.processCouponIssueBatch(commands);
+
+            // then
+            assertThat(issuedCount).isEqualTo(1);
+            assertThat(availableCoupon.getRemainingQuantity()).isZero();
+            verify(couponUserRepository).saveAll(argThat(couponUsers -> couponUsers.size() == 1
+                    && couponUsers.get(0).getUser().getUserId().equals(1)));
+            verify(couponIssuePublisher).releaseAdmissions(1, List.of(2));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 회원의 요청은 발급하지 않고 Redis 입장을 취소한다")
+        void processCouponIssueBatch_ShouldReleaseAdmission_WhenUserNotExists() {
+            // given: user 99 없음
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(user));
+            given(couponRepository.findByIdWithPessimisticLock(1)).willReturn(Optional.of(availableCoupon));
+            given(couponUserRepository.findIssuedUserIds(eq(1), anyCollection())).willReturn(List.of());
+
+            // when
+            int issuedCount = couponService.processCouponIssueBatch(List.of(
+                    new IssueCouponCommand(1, 1),
+                    new IssueCouponCommand(99, 1)
+            ));
+
+            // then
+            assertThat(issuedCount).isEqualTo(1);
+            verify(couponIssuePublisher).releaseAdmissions(1, List.of(99));
+        }
+
+        @Test
+        @DisplayName("만료된 쿠폰 요청은 발급하지 않는다")
+        void processCouponIssueBatch_ShouldSkip_WhenCouponExpired() {
+            // given
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(user));
+            given(couponRepository.findByIdWithPessimisticLock(2)).willReturn(Optional.of(expiredCoupon));
+
+            // when
+            int issuedCount = couponService.processCouponIssueBatch(List.of(new IssueCouponCommand(1, 2)));
+
+            // then
+            assertThat(issuedCount).isZero();
+            verify(couponRepository, never()).save(any(Coupon.class));
+            verify(couponUserRepository, never()).saveAll(anyList());
+            verify(couponIssuePublisher).releaseAdmissions(2, List.of(1));
+        }
+    }
+}
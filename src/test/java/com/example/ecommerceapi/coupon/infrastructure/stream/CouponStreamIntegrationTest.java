@@ -1,6 +1,7 @@
 package com.example.ecommerceapi.coupon.infrastructure.stream;
 
 import com.example.ecommerceapi.common.AbstractIntegrationTest;
+import com.example.ecommerceapi.common.exception.CouponException;
 import com.example.ecommerceapi.coupon.application.dto.IssueCouponCommand;
 import com.example.ecommerceapi.coupon.application.dto.IssueCouponResult;
 import com.example.ecommerceapi.coupon.application.service.CouponService;
@@ -31,6 +32,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 @SpringBootTest
@@ -52,9 +54,8 @@ class CouponStreamIntegrationTest extends AbstractIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        // 테스트 데이터 초기화
-        couponUserRepository.init();
-        couponRepository.init();
+        // 테스트 데이터 초기화 (Redis 쿠폰 발급 상태도 함께 초기화)
+        couponService.init();
     }
 
     @Test
@@ -163,10 +164,14 @@ class CouponStreamIntegrationTest extends AbstractIntegrationTest {
         Coupon coupon = couponRepository.findById(3).orElseThrow();
         IssueCouponCommand command = new IssueCouponCommand(3, 3);
 
-        // when - 같은 사용자가 3번 요청
-        couponService.issueCouponAsync(command);
-        couponService.issueCouponAsync(command);
+        // when - 같은 사용자가 3번 요청 (2, 3번째 요청은 Redis 입장 제어에서 즉시 거절)
         couponService.issueCouponAsync(command);
+        assertThatThrownBy(() -> couponService.issueCouponAsync(command))
+                .isInstanceOf(CouponException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
+        assertThatThrownBy(() -> couponService.issueCouponAsync(command))
+                .isInstanceOf(CouponException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다.");
 
         // then - 비동기 처리 대기 후 1개만 발급 확인
         await().atMost(5, TimeUnit.SECONDS)
@@ -0,0 +1,43 @@
+package com.example.ecommerceapi.coupon.infrastructure.stream.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CouponStreamShards 단위 테스트")
+class CouponStreamShardsTest {
+
+    @Test
+    @DisplayName("같은 쿠폰은 항상 같은 샤드 Stream으로 라우팅된다")
+    void streamKeyOf_ShouldBeStableForSameCoupon() {
+        // given
+        CouponStreamShards shards = new CouponStreamShards(4);
+
+        // when & then
+        assertThat(shards.streamKeyOf(7)).isEqualTo(shards.streamKeyOf(7));
+        assertThat(shards.streamKeyOf(7)).isEqualTo("stream:coupon:issue:3");
+        assertThat(shards.streamKeyOf(8)).isEqualTo("stream:coupon:issue:0");
+    }
+
+    @Test
+    @DisplayName("모든 샤드 Stream key를 샤드 번호 순서로 반환한다")
+    void streamKeys_ShouldReturnAllShards() {
+        // given
+        CouponStreamShards shards = new CouponStreamShards(3);
+
+        // when & then
+        assertThat(shards.streamKeys()).containsExactly(
+                "stream:coupon:issue:0",
+                "stream:coupon:issue:1",
+                "stream:coupon:issue:2");
+    }
+
+    @Test
+    @DisplayName("샤드 수가 1보다 작으면 예외가 발생한다")
+    void constructor_ShouldThrow_WhenShardCountIsNotPositive() {
+        assertThatThrownBy(() -> new CouponStreamShards(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ecommerceapi.coupon.infrastructure.stream.consumer;
+
+import com.example.ecommerceapi.coupon.application.dto.IssueCouponCommand;
+import com.example.ecommerceapi.coupon.application.service.CouponService;
+import com.example.ecommerceapi.coupon.domain.event.EventAcknowledger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponEventBatchConsumer 단위 테스트")
+class CouponEventBatchConsumerTest {
+
+    private static final String STREAM_KEY = "stream:coupon:issue:0";
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private EventAcknowledger eventAcknowledger;
+
+    @InjectMocks
+    private CouponEventBatchConsumer consumer;
+
+    @Test
+    @DisplayName("일괄 처리에 성공하면 형식이 잘못된 메시지를 포함해 모두 ACK 한다")
+    void handle_BatchSucceeded_AcksAll() {
+        // given
+        MapRecord<String, Object, Object> first = record("1-0", "1", "10");
+        MapRecord<String, Object, Object> invalid = record("2-0", "x", "11");
+        given(couponService.processCouponIssueBatch(anyList())).willReturn(1);
+
+        // when
+        consumer.handle(List.of(first, invalid));
+
+        // then
+        verify(couponService).processCouponIssueBatch(List.of(new IssueCouponCommand(10, 1)));
+        verify(eventAcknowledger).acknowledge(STREAM_KEY, List.of(invalid.getId(), first.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 처리가 실패하면 메시지별로 다시 처리하고 실패한 메시지만 Pending 으로 남긴다")
+    void handle_BatchFailed_FallsBackToPerRecord() {
+        // given
+        MapRecord<String, Object, Object> first = record("1-0", "1", "10");
+        MapRecord<String, Object, Object> poison = record("2-0", "1", "11");
+        MapRecord<String, Object, Object> third = record("3-0", "1", "12");
+        IssueCouponCommand firstCommand = new IssueCouponCommand(10, 1);
+        IssueCouponCommand poisonCommand = new IssueCouponCommand(11, 1);
+        IssueCouponCommand thirdCommand = new IssueCouponCommand(12, 1);
+        given(couponService.processCouponIssueBatch(List.of(firstCommand, poisonCommand, thirdCommand)))
+                .willThrow(new IllegalStateException("batch failed"));
+        given(couponService.processCouponIssueBatch(List.of(firstCommand))).willReturn(1);
+        given(couponService.processCouponIssueBatch(List.of(poisonCommand)))
+                .willThrow(new IllegalStateException("poison record"));
+        given(couponService.processCouponIssueBatch(List.of(thirdCommand))).willReturn(1);
+
+        // when
+        consumer.handle(List.of(first, poison, third));
+
+        // then
+        verify(eventAcknowledger).acknowledge(STREAM_KEY, List.of(first.getId(), third.getId()));
+    }
+
+    @Test
+    @DisplayName("메시지별 처리도 모두 실패하면 ACK 하지 않는다")
+    void handle_AllFailed_AcksNothing() {
+        // given
+        MapRecord<String, Object, Object> first = record("1-0", "1", "10");
+        given(couponService.processCouponIssueBatch(anyList()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        consumer.handle(List.of(first));
+
+        // then
+        verify(eventAcknowledger, never()).acknowledge(STREAM_KEY, List.of(first.getId()));
+    }
+
+    private MapRecord<String, Object, Object> record(String id, String couponId, String userId) {
+        return StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(Map.<Object, Object>of("couponId", couponId, "userId", userId));
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.ecommerceapi.coupon.infrastructure.stream.consumer;
+
+import com.example.ecommerceapi.common.AbstractIntegrationTest;
+import com.example.ecommerceapi.common.redis.RedisStreamManager;
+import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.coupon.domain.repository.CouponRepository;
+import com.example.ecommerceapi.coupon.domain.repository.CouponUserRepository;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamConstants;
+import com.example.ecommerceapi.coupon.infrastructure.stream.config.CouponStreamShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "coupon.stream.reclaim.min-idle-ms=0",
+        "coupon.stream.reclaim.max-deliveries=2",
+        "coupon.stream.reclaim.interval-ms=600000",
+        "coupon.stream.reclaim.consumer-idle-ms=0"
+})
+@DisplayName("쿠폰 발급 Stream Pending 메시지 회수 통합 테스트")
+class CouponStreamPendingReclaimerIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CRASHED_CONSUMER = "crashed-consumer";
+    private static final String STOPPED_CONSUMER = "stopped-consumer";
+    private static final Integer COUPON_ID = 3;
+
+    @Autowired
+    private CouponStreamPendingReclaimer reclaimer;
+
+    @Autowired
+    private CouponEventBatchConsumer couponEventBatchConsumer;
+
+    @Autowired
+    private CouponStreamShards couponStreamShards;
+
+    @Autowired
+    private RedisStreamManager redisStreamManager;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        couponUserRepository.init();
+        couponRepository.init();
+
+        // 테스트에서 직접 발행한 메시지를 실행 중인 Consumer가 가져가지 않도록 중지
+        couponEventBatchConsumer.stop();
+        redisTemplate.delete(List.of(
+                CouponStreamConstants.COUPON_DEAD_LETTER_STREAM_KEY,
+                CouponStreamConstants.LEGACY_COUPON_STREAM_KEY,
+                StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(COUPON_ID),
+                StorageType.COUPON_ISSUED_USERS.getKeyWithId(COUPON_ID)));
+        couponStreamShards.streamKeys().forEach(streamKey -> {
+            redisTemplate.delete(streamKey);
+            redisStreamManager.createConsumerGroup(streamKey, CouponStreamConstants.COUPON_CONSUMER_GROUP);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponEventBatchConsumer.start();
+    }
+
+    @Test
+    @DisplayName("ACK 되지 않고 방치된 메시지는 다른 Consumer가 회수하여 발급 처리한다")
+    void reclaim_ShouldProcessStrandedMessage() {
+        // given: Consumer가 메시지를 읽은 뒤 ACK 하지 못하고 종료됨
+        addIssueEvent(COUPON_ID, 3);
+        readAsCrashedConsumer(ReadOffset.lastConsumed());
+        couponEventBatchConsumer.start();
+
+        // when
+        int reclaimed = reclaimer.reclaim();
+
+        // then
+        assertThat(reclaimed).isEqualTo(1);
+        assertThat(couponUserRepository.findByCouponIdAndUserId(3, 3)).isPresent();
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전달 횟수가 max-deliveries 이상인 메시지는 Dead Letter Stream으로 이동하고 ACK 된다")
+    void reclaim_ShouldMoveToDeadLetter_WhenMaxDeliveriesExceeded() {
+        // given: 같은 메시지가 2번 전달되었으나 모두 ACK 되지 않음
+        RecordId recordId = addIssueEvent(COUPON_ID, 3);
+        readAsCrashedConsumer(ReadOffset.lastConsumed());
+        readAsCrashedConsumer(ReadOffset.from("0"));
+        couponEventBatchConsumer.start();
+
+        // when
+        int reclaimed = reclaimer.reclaim();
+
+        // then
+        assertThat(reclaimed).isEqualTo(1);
+        assertThat(couponUserRepository.findByCouponIdAndUserId(3, 3)).isEmpty();
+        assertThat(pendingCount()).isZero();
+
+        List<MapRecord<String, Object, Object>> deadLetters = redisTemplate.opsForStream()
+                .range(CouponStreamConstants.COUPON_DEAD_LETTER_STREAM_KEY, Range.unbounded());
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0).getValue())
+                .containsEntry("couponId", "3")
+                .containsEntry("userId", "3")
+                .containsEntry("originalStream", couponStreamShards.streamKeyOf(COUPON_ID))
+                .containsEntry("originalId", recordId.getValue())
+                .containsEntry("deliveryCount", "2");
+    }
+
+    @Test
+    @DisplayName("Dead Letter로 이동한 발급 요청은 Redis 입장을 취소하고 잔여 수량을 복원한다")
+    void reclaim_ShouldReleaseAdmission_WhenMovedToDeadLetter() {
+        // given: 입장 제어를 통과한 요청(잔여 수량 차감, 발급 사용자 기록)이 2번 전달되었으나 모두 ACK 되지 않음
+        redisTemplate.opsForValue().set(StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(COUPON_ID), "9");
+        redisTemplate.opsForSet().add(StorageType.COUPON_ISSUED_USERS.getKeyWithId(COUPON_ID), "3");
+        addIssueEvent(COUPON_ID, 3);
+        readAsCrashedConsumer(ReadOffset.lastConsumed());
+        readAsCrashedConsumer(ReadOffset.from("0"));
+        couponEventBatchConsumer.start();
+
+        // when
+        reclaimer.reclaim();
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(StorageType.COUPON_ISSUE_REMAINING.getKeyWithId(COUPON_ID)))
+                .isEqualTo("10");
+        assertThat(redisTemplate.opsForSet().isMember(StorageType.COUPON_ISSUED_USERS.getKeyWithId(COUPON_ID), "3"))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Pending 메시지가 없는 유휴 Consumer는 삭제하고 Pending 메시지가 남은 Consumer는 유지한다")
+    void pruneIdleConsumers_ShouldDeleteOnlyConsumersWithoutPending() {
+        // given: stopped-consumer는 읽은 메시지를 모두 ACK, crashed-consumer는 ACK 하지 못함
+        String streamKey = couponStreamShards.streamKeyOf(COUPON_ID);
+        addIssueEvent(COUPON_ID, 3);
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(CouponStreamConstants.COUPON_CONSUMER_GROUP, STOPPED_CONSUMER),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+        redisTemplate.opsForStream().acknowledge(streamKey, CouponStreamConstants.COUPON_CONSUMER_GROUP,
+                records.get(0).getId());
+        addIssueEvent(COUPON_ID, 4);
+        readAsCrashedConsumer(ReadOffset.lastConsumed());
+        couponEventBatchConsumer.start();
+
+        // when
+        int pruned = reclaimer.pruneIdleConsumers();
+
+        // then
+        assertThat(pruned).isEqualTo(1);
+        assertThat(redisTemplate.opsForStream().consumers(streamKey, CouponStreamConstants.COUPON_CONSUMER_GROUP).stream()
+                .map(XInfoConsumer::consumerName))
+                .contains(CRASHED_CONSUMER)
+                .doesNotContain(STOPPED_CONSUMER);
+    }
+
+    @Test
+    @DisplayName("샤드 도입 이전 Stream에 남은 메시지를 읽어 발급 처리한다")
+    void drainLegacyStream_ShouldProcessRemainingMessages() {
+        // given: 구 버전 노드가 단일 Stream에 발행한 메시지
+        redisStreamManager.createConsumerGroup(
+                CouponStreamConstants.LEGACY_COUPON_STREAM_KEY, CouponStreamConstants.COUPON_CONSUMER_GROUP);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY)
+                .ofMap(Map.of("couponId", String.valueOf(COUPON_ID), "userId", "3")));
+        couponEventBatchConsumer.start();
+
+        // when
+        int drained = reclaimer.drainLegacyStream();
+
+        // then
+        assertThat(drained).isEqualTo(1);
+        assertThat(couponUserRepository.findByCouponIdAndUserId(3, 3)).isPresent();
+        assertThat(redisTemplate.opsForStream()
+                .pending(CouponStreamConstants.LEGACY_COUPON_STREAM_KEY, CouponStreamConstants.COUPON_CONSUMER_GROUP)
+                .getTotalPendingMessages()).isZero();
+    }
+
+    private RecordId addIssueEvent(Integer couponId, Integer userId) {
+        return redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(couponStreamShards.streamKeyOf(couponId))
+                .ofMap(Map.of("couponId", String.valueOf(couponId), "userId", String.valueOf(userId))));
+    }
+
+    private void readAsCrashedConsumer(ReadOffset readOffset) {
+        redisTemplate.opsForStream().read(
+                Consumer.from(CouponStreamConstants.COUPON_CONSUMER_GROUP, CRASHED_CONSUMER),
+                StreamOffset.create(couponStreamShards.streamKeyOf(COUPON_ID), readOffset));
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream()
+                .pending(couponStreamShards.streamKeyOf(COUPON_ID), CouponStreamConstants.COUPON_CONSUMER_GROUP)
+                .getTotalPendingMessages();
+    }
+}
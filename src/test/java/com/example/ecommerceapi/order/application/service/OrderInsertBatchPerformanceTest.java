@@ -0,0 +1,119 @@
+package com.example.ecommerceapi.order.application.service;
+
+import com.example.ecommerceapi.cart.domain.entity.CartItem;
+import com.example.ecommerceapi.cart.domain.repository.CartItemRepository;
+import com.example.ecommerceapi.common.AbstractIntegrationTest;
+import com.example.ecommerceapi.order.application.dto.CreateOrderCommand;
+import com.example.ecommerceapi.order.application.dto.CreateOrderResult;
+import com.example.ecommerceapi.order.domain.repository.OrderItemRepository;
+import com.example.ecommerceapi.order.domain.repository.OrderRepository;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import com.example.ecommerceapi.user.application.service.UserService;
+import com.example.ecommerceapi.user.domain.entity.User;
+import com.example.ecommerceapi.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("주문 생성 batch insert 성능 테스트")
+class OrderInsertBatchPerformanceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final int CART_SIZE = 20;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.clear();
+        orderItemRepository.clear();
+        cartItemRepository.clear();
+        productRepository.clear();
+        userService.init();
+        clearRedisLocks();
+    }
+
+    @Test
+    @DisplayName("장바구니 상품 수가 늘어나도 주문 생성 시 실행되는 SQL 문 수는 상품 수만큼 늘어나지 않는다")
+    void createOrder_ShouldBatchOrderItemInserts() {
+        // given: 20개 상품이 담긴 장바구니
+        User user = userRepository.findById(1);
+        for (int i = 1; i <= CART_SIZE; i++) {
+            Product product = Product.builder()
+                    .productName("상품" + i)
+                    .description("상품 설명" + i)
+                    .productPrice(1000)
+                    .quantity(100)
+                    .viewCount(0)
+                    .build();
+            productRepository.save(product);
+
+            cartItemRepository.save(CartItem.builder()
+                    .user(user)
+                    .product(product)
+                    .productName(product.getProductName())
+                    .productPrice(product.getProductPrice())
+                    .quantity(1)
+                    .totalPrice(product.getProductPrice())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        CreateOrderResult result = orderService.createOrder(
+                new CreateOrderCommand(user.getUserId(), "홍길동", "서울시 강남구", null)
+        );
+
+        // then
+        long insertedEntities = statistics.getEntityInsertCount();
+        long preparedStatements = statistics.getPrepareStatementCount();
+
+        System.out.println("\n========== 주문 생성 batch insert 결과 ==========");
+        System.out.println("장바구니 상품 수:       " + CART_SIZE);
+        System.out.println("insert 엔티티 수:       " + insertedEntities);
+        System.out.println("실행된 SQL statement 수: " + preparedStatements);
+        System.out.println("================================================\n");
+
+        assertThat(result.orderId()).isNotNull();
+        assertThat(orderItemRepository.findByOrderId(result.orderId())).hasSize(CART_SIZE);
+        // Order 1건 + OrderItem 20건
+        assertThat(insertedEntities).isEqualTo(CART_SIZE + 1);
+        // 상품 조회(IN 1회) + OrderItem batch insert로 statement 수가 상품 수보다 적어야 함
+        assertThat(preparedStatements).isLessThan(CART_SIZE);
+    }
+}
@@ -19,8 +19,11 @@ import com.example.ecommerceapi.order.domain.repository.OrderItemRepository;
 import com.example.ecommerceapi.order.domain.repository.OrderRepository;
 import com.example.ecommerceapi.point.domain.entity.Point;
 import com.example.ecommerceapi.point.domain.repository.PointRepository;
+import com.example.ecommerceapi.product.application.stock.StockDeductionStrategy;
+import com.example.ecommerceapi.product.application.stock.StockDeductionStrategyFactory;
 import com.example.ecommerceapi.product.application.validator.ProductValidator;
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import com.example.ecommerceapi.user.application.validator.UserValidator;
 import com.example.ecommerceapi.user.domain.entity.User;
@@ -37,10 +40,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -81,6 +86,12 @@ class OrderServiceTest {
     @Mock
     private OrderEventPublisher orderEventPublisher;
 
+    @Mock
+    private StockDeductionStrategyFactory stockDeductionStrategyFactory;
+
+    @Mock
+    private StockDeductionStrategy stockDeductionStrategy;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -175,20 +186,14 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(cartItems);
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
-            given(productValidator.validateAndGetProduct(2)).willReturn(product2);
+            given(productValidator.validateAndGetProducts(List.of(1, 2)))
+                    .willReturn(Map.of(1, product1, 2, product2));
             given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
                 Order order = invocation.getArgument(0);
                 order.setOrderId(1);
                 return order;
             });
-            given(productRepository.findById(1)).willReturn(product1);
-            given(productRepository.findById(2)).willReturn(product2);
-            given(orderItemRepository.save(any(OrderItem.class))).willAnswer(invocation -> {
-                OrderItem item = invocation.getArgument(0);
-                item.setOrderItemId(1);
-                return item;
-            });
+            given(orderItemRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
             // when
             CreateOrderResult result = orderService.createOrder(command);
@@ -199,7 +204,10 @@ class OrderServiceTest {
             assertThat(result.orderStatus()).isEqualTo("PENDING");
             assertThat(result.createdAt()).isNotNull();
             verify(orderRepository).save(any(Order.class));
-            verify(orderItemRepository, times(2)).save(any(OrderItem.class));
+            verify(productValidator).validateAndGetProducts(List.of(1, 2));
+            verify(productRepository, never()).findById(any());
+            verify(orderItemRepository).saveAll(argThat(items -> items.size() == 2));
+            verify(orderItemRepository, never()).save(any(OrderItem.class));
         }
 
         @Test
@@ -217,7 +225,7 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(cartItems);
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
+            given(productValidator.validateAndGetProducts(List.of(1))).willReturn(Map.of(1, product1));
             given(couponRepository.findById(1)).willReturn(Optional.of(coupon));
             given(couponUserRepository.findByCouponIdAndUserId(1, 1)).willReturn(Optional.of(couponUser));
             given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
@@ -225,12 +233,7 @@ class OrderServiceTest {
                 order.setOrderId(1);
                 return order;
             });
-            given(productRepository.findById(1)).willReturn(product1);
-            given(orderItemRepository.save(any(OrderItem.class))).willAnswer(invocation -> {
-                OrderItem item = invocation.getArgument(0);
-                item.setOrderItemId(1);
-                return item;
-            });
+            given(orderItemRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
             // when
             CreateOrderResult result = orderService.createOrder(command);
@@ -289,7 +292,7 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(Arrays.asList(insufficientCartItem));
-            given(productValidator.validateAndGetProduct(1)).willReturn(insufficientProduct);
+            given(productValidator.validateAndGetProducts(List.of(1))).willReturn(Map.of(1, insufficientProduct));
 
             // when & then
             assertThatThrownBy(() -> orderService.createOrder(command))
@@ -310,7 +313,7 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(Arrays.asList(cartItem1));
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
+            given(productValidator.validateAndGetProducts(List.of(1))).willReturn(Map.of(1, product1));
             given(couponRepository.findById(999)).willReturn(Optional.empty());
 
             // when & then
@@ -340,7 +343,7 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(Arrays.asList(cartItem1));
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
+            given(productValidator.validateAndGetProducts(List.of(1))).willReturn(Map.of(1, product1));
             given(couponRepository.findById(1)).willReturn(Optional.of(expiredCoupon));
 
             // when & then
@@ -362,7 +365,7 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(Arrays.asList(cartItem1));
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
+            given(productValidator.validateAndGetProducts(List.of(1))).willReturn(Map.of(1, product1));
             given(couponRepository.findById(1)).willReturn(Optional.of(coupon));
             given(couponUserRepository.findByCouponIdAndUserId(1, 1)).willReturn(Optional.empty());
 
@@ -393,7 +396,7 @@ class OrderServiceTest {
 
             given(userValidator.validateAndGetUser(1)).willReturn(user);
             given(cartItemRepository.findByUserId(1)).willReturn(Arrays.asList(cartItem1));
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
+            given(productValidator.validateAndGetProducts(List.of(1))).willReturn(Map.of(1, product1));
             given(couponRepository.findById(1)).willReturn(Optional.of(coupon));
             given(couponUserRepository.findByCouponIdAndUserId(1, 1)).willReturn(Optional.of(usedCouponUser));
 
@@ -515,11 +518,11 @@ class OrderServiceTest {
                     .orderQuantity(2)
                     .build();
 
-            given(orderRepository.findById(1)).willReturn(Optional.of(order));
+            given(orderRepository.findByIdWithLock(1)).willReturn(Optional.of(order));
             given(userRepository.findById(1)).willReturn(user);
-            given(userRepository.save(any(User.class))).willReturn(user);
+            given(userRepository.usePointsIfSufficient(1, 40000)).willReturn(true);
             given(orderItemRepository.findByOrderId(1)).willReturn(Arrays.asList(orderItem));
-            given(productRepository.findByIdWithLock(1)).willReturn(product1);
+            given(stockDeductionStrategyFactory.getStrategy()).willReturn(stockDeductionStrategy);
             given(orderRepository.save(any(Order.class))).willReturn(order);
 
             // when
@@ -528,9 +531,10 @@ class OrderServiceTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.orderId()).isEqualTo(1);
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).usePointsIfSufficient(1, 40000);
+            verify(userRepository, never()).save(any(User.class));
             verify(pointRepository).save(any());
-            verify(productRepository).save(any(Product.class));
+            verify(stockDeductionStrategy).decreaseStock(List.of(ProductQuantity.of(1, 2)));
             verify(cartItemRepository).deleteByUserId(1);
             verify(orderRepository).save(any(Order.class));
             verify(orderEventPublisher).publishOrderPaidEvent(any(Order.class), anyList());
@@ -564,12 +568,11 @@ class OrderServiceTest {
 
             List<OrderItem> orderItems = Arrays.asList(orderItem1, orderItem2);
 
-            given(orderRepository.findById(1)).willReturn(Optional.of(order));
+            given(orderRepository.findByIdWithLock(1)).willReturn(Optional.of(order));
             given(userRepository.findById(1)).willReturn(user);
-            given(userRepository.save(any(User.class))).willReturn(user);
+            given(userRepository.usePointsIfSufficient(1, 40000)).willReturn(true);
             given(orderItemRepository.findByOrderId(1)).willReturn(orderItems);
-            given(productRepository.findByIdWithLock(1)).willReturn(product1);
-            given(productRepository.findByIdWithLock(2)).willReturn(product2);
+            given(stockDeductionStrategyFactory.getStrategy()).willReturn(stockDeductionStrategy);
             given(orderRepository.save(any(Order.class))).willReturn(order);
 
             // when
@@ -583,7 +586,7 @@ class OrderServiceTest {
         @DisplayName("존재하지 않는 주문으로 결제하면 예외가 발생한다")
         void processPayment_ShouldThrowException_WhenOrderNotFound() {
             // given
-            given(orderRepository.findById(999)).willReturn(Optional.empty());
+            given(orderRepository.findByIdWithLock(999)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> orderService.processPayment(999, 1))
@@ -602,7 +605,7 @@ class OrderServiceTest {
                     .finalPaymentAmount(40000)
                     .build();
 
-            given(orderRepository.findById(1)).willReturn(Optional.of(paidOrder));
+            given(orderRepository.findByIdWithLock(1)).willReturn(Optional.of(paidOrder));
 
             // when & then
             assertThatThrownBy(() -> orderService.processPayment(1, 1))
@@ -629,8 +632,9 @@ class OrderServiceTest {
                     .coupon(null)
                     .build();
 
-            given(orderRepository.findById(1)).willReturn(Optional.of(order));
+            given(orderRepository.findByIdWithLock(1)).willReturn(Optional.of(order));
             given(userRepository.findById(1)).willReturn(poorUser);
+            given(userRepository.usePointsIfSufficient(1, 40000)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> orderService.processPayment(1, 1))
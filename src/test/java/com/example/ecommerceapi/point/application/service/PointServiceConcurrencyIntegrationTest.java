@@ -92,7 +92,7 @@ class PointServiceConcurrencyIntegrationTest extends AbstractIntegrationTest {
         assertThat(recoverCalls.get()).isGreaterThanOrEqualTo(0);
     }
 
-    /* [deprecated] 비관적 락일 때 성공하는 테스트
+    // 원자적 UPDATE(point_balance = point_balance + ?)로 충전하므로 락 없이도 모든 요청이 반영됨
     @Test
     @DisplayName("동시에 여러 번 포인트 충전 요청 시 모든 요청이 처리된다")
     void chargePoint_ShouldProcessAllRequestsSequentially_WhenConcurrent() throws InterruptedException {
@@ -133,6 +133,5 @@ class PointServiceConcurrencyIntegrationTest extends AbstractIntegrationTest {
 
         assertThat(updatedUser.getPointBalance()).isEqualTo(expectedBalance);
     }
-     */
 
 }
\ No newline at end of file
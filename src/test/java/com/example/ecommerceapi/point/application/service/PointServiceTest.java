@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -140,7 +141,8 @@ class PointServiceTest {
                 .build();
 
         given(userRepository.findById(1)).willReturn(testUser);
-        given(userRepository.save(any(User.class))).willReturn(testUser);
+        given(userRepository.chargePoints(1, amount)).willReturn(true);
+        given(userRepository.findBalanceById(1)).willReturn(beforeBalance + amount);
         given(pointRepository.save(any(Point.class))).willReturn(savedPoint);
 
         // when
@@ -151,8 +153,10 @@ class PointServiceTest {
         assertThat(result.userId()).isEqualTo(1);
         assertThat(result.pointType()).isEqualTo(PointType.CHARGE.name());
         assertThat(result.pointAmount()).isEqualTo(amount);
+        assertThat(result.pointBalance()).isEqualTo(beforeBalance + amount);
 
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).chargePoints(1, amount);
+        verify(userRepository, never()).save(any(User.class));
         verify(pointRepository).save(any(Point.class));
     }
 
@@ -0,0 +1,72 @@
+package com.example.ecommerceapi.product.application.listener;
+
+import com.example.ecommerceapi.order.domain.event.OrderPaidEvent;
+import com.example.ecommerceapi.product.application.service.ProductSalesRollupService;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSalesRollupEventListener 단위 테스트")
+class ProductSalesRollupEventListenerTest {
+
+    @Mock
+    private ProductSalesRollupService productSalesRollupService;
+
+    @InjectMocks
+    private ProductSalesRollupEventListener listener;
+
+    @Test
+    @DisplayName("주문 결제 완료 이벤트의 판매 수량을 결제 날짜의 일별 판매량에 반영한다")
+    void handleOrderPaidEvent_ShouldRecordOrderSales() {
+        // given
+        LocalDateTime paidAt = LocalDateTime.of(2025, 12, 3, 10, 30);
+        OrderPaidEvent event = new OrderPaidEvent(
+                1,
+                1,
+                List.of(new OrderPaidEvent.OrderItemDto(1, 2), new OrderPaidEvent.OrderItemDto(2, 1)),
+                paidAt
+        );
+
+        // when
+        listener.handleOrderPaidEvent(event);
+
+        // then
+        verify(productSalesRollupService).recordOrderSales(
+                1,
+                LocalDate.of(2025, 12, 3),
+                List.of(ProductQuantity.of(1, 2), ProductQuantity.of(2, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("집계 반영 실패 시 예외를 삼킨다")
+    void handleOrderPaidEvent_ShouldNotThrowException_WhenRollupFails() {
+        // given
+        OrderPaidEvent event = new OrderPaidEvent(
+                1,
+                1,
+                List.of(new OrderPaidEvent.OrderItemDto(1, 2)),
+                LocalDateTime.now()
+        );
+        given(productSalesRollupService.recordOrderSales(anyInt(), any(LocalDate.class), anyList()))
+                .willThrow(new RuntimeException("DB Error"));
+
+        // when & then - 예외가 밖으로 전파되지 않아야 함
+        listener.handleOrderPaidEvent(event);
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.ecommerceapi.product.application.listener;
 
 import com.example.ecommerceapi.order.domain.event.OrderPaidEvent;
-import com.example.ecommerceapi.product.application.service.RankingService;
+import com.example.ecommerceapi.product.application.service.SalesRankingBuffer;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,13 +23,13 @@ import static org.mockito.Mockito.*;
 class SalesRankingEventListenerTest {
 
     @Mock
-    private RankingService rankingService;
+    private SalesRankingBuffer salesRankingBuffer;
 
     @InjectMocks
     private SalesRankingEventListener salesRankingEventListener;
 
     @Test
-    @DisplayName("주문 결제 완료 이벤트 처리 - 일간/주간 판매량 증가")
+    @DisplayName("주문 결제 완료 이벤트 처리 - 주문 상품의 판매량을 랭킹 버퍼에 추가")
     void handleOrderPaidEvent_ShouldIncrementSalesRankings() {
         // given
         LocalDateTime paidAt = LocalDateTime.of(2025, 12, 3, 10, 30);
@@ -44,14 +46,12 @@ class SalesRankingEventListenerTest {
                 paidAt
         );
 
+        List<ProductQuantity> quantities = List.of(ProductQuantity.of(1, 2), ProductQuantity.of(2, 1));
         // when
         salesRankingEventListener.handleOrderPaidEvent(event);
 
         // then
-        verify(rankingService).incrementDailySalesCount(1, 2, paidDate);
-        verify(rankingService).incrementDailySalesCount(2, 1, paidDate);
-        verify(rankingService).incrementWeeklySalesCount(1, 2, paidDate);
-        verify(rankingService).incrementWeeklySalesCount(2, 1, paidDate);
+        verify(salesRankingBuffer).add(quantities, paidDate);
     }
 
     @Test
@@ -75,8 +75,7 @@ class SalesRankingEventListenerTest {
         salesRankingEventListener.handleOrderPaidEvent(event);
 
         // then
-        verify(rankingService).incrementDailySalesCount(5, 3, paidDate);
-        verify(rankingService).incrementWeeklySalesCount(5, 3, paidDate);
+        verify(salesRankingBuffer).add(List.of(ProductQuantity.of(5, 3)), paidDate);
     }
 
     @Test
@@ -97,7 +96,8 @@ class SalesRankingEventListenerTest {
         salesRankingEventListener.handleOrderPaidEvent(event);
 
         // then
-        verifyNoInteractions(rankingService);
+        verify(salesRankingBuffer).add(List.of(), paidAt.toLocalDate());
+        verifyNoMoreInteractions(salesRankingBuffer);
     }
 
     @Test
@@ -117,13 +117,12 @@ class SalesRankingEventListenerTest {
                 paidAt
         );
 
-        doThrow(new RuntimeException("Redis connection failed"))
-                .when(rankingService).incrementDailySalesCount(anyInt(), anyInt(), any(LocalDate.class));
+        willThrow(new RuntimeException("Buffer failed"))
+                .given(salesRankingBuffer).add(anyList(), any(LocalDate.class));
 
         // when & then - 예외가 밖으로 전파되지 않아야 함
         salesRankingEventListener.handleOrderPaidEvent(event);
 
-        verify(rankingService).incrementDailySalesCount(1, 1, paidDate);
-        // incrementWeeklySalesCount는 호출되지 않음 (daily에서 예외 발생)
+        verify(salesRankingBuffer).add(List.of(ProductQuantity.of(1, 1)), paidDate);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.product.application.scheduler;
 
+import com.example.ecommerceapi.common.redis.RefreshAheadCache;
 import com.example.ecommerceapi.product.application.dto.PopularProductResult;
 import com.example.ecommerceapi.product.application.service.ProductService;
 import org.junit.jupiter.api.DisplayName;
@@ -24,40 +25,41 @@ class PopularProductCacheSchedulerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private RefreshAheadCache refreshAheadCache;
+
     @InjectMocks
     private PopularProductCacheScheduler scheduler;
 
     @Nested
-    @DisplayName("판매량 기반 인기 상품 캐시 갱신 테스트")
-    class EvictSalesBasedPopularProductsCacheTest {
+    @DisplayName("인기 상품 캐시 Refresh-Ahead 갱신 테스트")
+    class RefreshStalePopularProductsCacheTest {
 
         @Test
-        @DisplayName("캐시 무효화 메서드가 정상 실행된다")
-        void evictSalesBasedPopularProductsCache_ShouldExecute() {
+        @DisplayName("soft TTL이 지난 항목 갱신을 요청한다")
+        void refreshStalePopularProductsCache_ShouldRefreshStaleEntries() {
+            // given
+            given(refreshAheadCache.refreshStaleEntries()).willReturn(2);
+
             // when
-            scheduler.evictSalesBasedPopularProductsCache();
+            scheduler.refreshStalePopularProductsCache();
 
             // then
-            // @CacheEvict가 실제로 동작하는지 확인
-            // 단위 테스트에서는 메서드 실행만 확인
+            verify(refreshAheadCache).refreshStaleEntries();
             verifyNoInteractions(productService);
         }
-    }
-
-    @Nested
-    @DisplayName("조회수 기반 인기 상품 캐시 갱신 테스트")
-    class EvictViewBasedPopularProductsCacheTest {
 
         @Test
-        @DisplayName("캐시 무효화 메서드가 정상 실행된다")
-        void evictViewBasedPopularProductsCache_ShouldExecute() {
+        @DisplayName("갱신 중 예외가 발생해도 예외를 던지지 않는다")
+        void refreshStalePopularProductsCache_ShouldNotThrowException_WhenRefreshFails() {
+            // given
+            willThrow(new RuntimeException("Redis Error")).given(refreshAheadCache).refreshStaleEntries();
+
             // when
-            scheduler.evictViewBasedPopularProductsCache();
+            scheduler.refreshStalePopularProductsCache();
 
             // then
-            // @CacheEvict가 실제로 동작하는지 확인
-            // 단위 테스트에서는 메서드 실행만 확인
-            verifyNoInteractions(productService);
+            verify(refreshAheadCache).refreshStaleEntries();
         }
     }
 
@@ -0,0 +1,172 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.common.redis.CacheType;
+import com.example.ecommerceapi.common.redis.RefreshAheadCache;
+import com.example.ecommerceapi.product.application.dto.PopularProductResult;
+import com.example.ecommerceapi.product.application.enums.ProductStatisticType;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopularProductCacheService 단위 테스트")
+class PopularProductCacheServiceTest {
+
+    @Mock
+    private RefreshAheadCache refreshAheadCache;
+
+    @Mock
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
+    @InjectMocks
+    private PopularProductCacheService popularProductCacheService;
+
+    // 재반영 주문처럼 결제일이 오늘이 아니어도 집계 시작일은 캐시 적재와 같은 오늘 기준
+    private static final LocalDate PAID_DATE = LocalDate.now().minusDays(1);
+
+    private static final List<PopularProductResult> CACHED_TOP2 = List.of(
+            new PopularProductResult(1, "상품1", 10000, 50, 100),
+            new PopularProductResult(2, "상품2", 20000, 30, 200)
+    );
+
+    @Nested
+    @DisplayName("캐시 조회 테스트")
+    class GetTest {
+
+        @Test
+        @DisplayName("판매량 통계는 판매량 region에 기간과 개수로 key를 만든다")
+        void get_ShouldUseSalesRegion_WithDaysAndLimitKey() {
+            // given
+            Supplier<List<PopularProductResult>> loader = List::of;
+
+            // when
+            popularProductCacheService.get(ProductStatisticType.SALES, 3, 5, loader);
+
+            // then
+            verify(refreshAheadCache).get(CacheType.POPULAR_PRODUCTS_SALES, "3::5", loader);
+        }
+
+        @Test
+        @DisplayName("조회수 통계는 기간과 무관하므로 개수로만 key를 만든다")
+        void get_ShouldUseViewsRegion_WithLimitKey() {
+            // given
+            Supplier<List<PopularProductResult>> loader = List::of;
+
+            // when
+            popularProductCacheService.get(ProductStatisticType.VIEWS, 3, 5, loader);
+
+            // then
+            verify(refreshAheadCache).get(CacheType.POPULAR_PRODUCTS_VIEWS, "5", loader);
+        }
+    }
+
+    @Nested
+    @DisplayName("판매량 top-N 진입 시 캐시 무효화 테스트")
+    class EvictSalesEntriesEnteredByTest {
+
+        @SuppressWarnings("unchecked")
+        private BiPredicate<String, Object> captureCondition(List<Integer> productIds) {
+            return captureCondition(productIds, PAID_DATE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private BiPredicate<String, Object> captureCondition(List<Integer> productIds, LocalDate paidDate) {
+            ArgumentCaptor<BiPredicate<String, Object>> captor = ArgumentCaptor.forClass(BiPredicate.class);
+
+            popularProductCacheService.evictSalesEntriesEnteredBy(productIds, paidDate);
+
+            verify(refreshAheadCache).evictIf(eq(CacheType.POPULAR_PRODUCTS_SALES), captor.capture());
+            return captor.getValue();
+        }
+
+        @Test
+        @DisplayName("이미 top-N에 있는 상품만 결제되면 무효화하지 않는다")
+        void shouldNotEvict_WhenProductAlreadyInTopN() {
+            // when
+            BiPredicate<String, Object> condition = captureCondition(List.of(1, 2));
+
+            // then
+            assertThat(condition.test("3::2", CACHED_TOP2)).isFalse();
+            verifyNoInteractions(productSalesDailyRepository);
+        }
+
+        @Test
+        @DisplayName("캐시된 결과가 N개보다 적으면 새 상품 결제 시 무효화한다")
+        void shouldEvict_WhenCachedResultIsNotFull() {
+            // when
+            BiPredicate<String, Object> condition = captureCondition(List.of(3));
+
+            // then
+            assertThat(condition.test("3::5", CACHED_TOP2)).isTrue();
+            verifyNoInteractions(productSalesDailyRepository);
+        }
+
+        @Test
+        @DisplayName("새 상품의 기간 판매량(캐시 적재와 같은 집계 시작일)이 N위 판매량을 넘으면 무효화한다")
+        void shouldEvict_WhenProductSalesExceedsLastRank() {
+            // given
+            given(productSalesDailyRepository.sumSales(List.of(3), LocalDate.now().minusDays(3)))
+                    .willReturn(Map.of(3, 31L));
+
+            // when
+            BiPredicate<String, Object> condition = captureCondition(List.of(3));
+
+            // then
+            assertThat(condition.test("3::2", CACHED_TOP2)).isTrue();
+        }
+
+        @Test
+        @DisplayName("새 상품의 기간 판매량이 N위 판매량 이하이면 무효화하지 않는다")
+        void shouldNotEvict_WhenProductSalesDoesNotExceedLastRank() {
+            // given
+            given(productSalesDailyRepository.sumSales(List.of(3), LocalDate.now().minusDays(3)))
+                    .willReturn(Map.of(3, 30L));
+
+            // when
+            BiPredicate<String, Object> condition = captureCondition(List.of(3));
+
+            // then
+            assertThat(condition.test("3::2", CACHED_TOP2)).isFalse();
+        }
+
+        @Test
+        @DisplayName("판매일이 캐시 집계 기간 이전이면 무효화하지 않는다")
+        void shouldNotEvict_WhenPaidDateBeforeCachedPeriod() {
+            // when
+            BiPredicate<String, Object> condition = captureCondition(List.of(3), LocalDate.now().minusDays(4));
+
+            // then
+            assertThat(condition.test("3::2", CACHED_TOP2)).isFalse();
+            verifyNoInteractions(productSalesDailyRepository);
+        }
+
+        @Test
+        @DisplayName("결제 상품이 없으면 캐시를 확인하지 않는다")
+        void shouldSkip_WhenNoProducts() {
+            // when
+            int evicted = popularProductCacheService.evictSalesEntriesEnteredBy(List.of(), PAID_DATE);
+
+            // then
+            assertThat(evicted).isZero();
+            verifyNoInteractions(refreshAheadCache);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ecommerceapi.product.application.service;
 
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,17 +9,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,54 +42,102 @@ class ProductCacheServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
     @InjectMocks
     private ProductCacheService cacheService;
 
     @Nested
     @DisplayName("조회수 증가 테스트")
-    class IncrementViewCountTest {
+    class IncrementViewCountsTest {
 
-        @BeforeEach
-        void setUp() {
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        @Test
+        @DisplayName("상품별 증가량을 pipeline으로 반영하고 증가 후 조회수를 반환한다")
+        void incrementViewCounts_ShouldReturnIncrementedValues() {
+            // given
+            Map<Integer, Long> deltas = new LinkedHashMap<>();
+            deltas.put(1, 5L);
+            deltas.put(2, 3L);
+            // pipeline 결과 순서: INCRBY x2, 랭킹 ZINCRBY x2, SADD
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .willReturn(List.of(105L, 33L, 305.0, 233.0, 2L));
+
+            // when
+            Map<Integer, Long> result = cacheService.incrementViewCounts(deltas);
+
+            // then
+            assertThat(result).containsExactly(Map.entry(1, 105L), Map.entry(2, 33L));
+            verify(redisTemplate).executePipelined(any(RedisCallback.class));
         }
 
         @Test
-        @DisplayName("Redis INCR로 조회수를 증가시킨다")
-        void incrementViewCount_ShouldIncrementInRedis() {
+        @DisplayName("증가량이 없으면 Redis를 호출하지 않는다")
+        void incrementViewCounts_ShouldDoNothing_WhenEmpty() {
+            // when
+            Map<Integer, Long> result = cacheService.incrementViewCounts(Map.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("조회수 랭킹 테스트")
+    class ViewRankingTest {
+
+        @Test
+        @DisplayName("조회수 상위 N개를 랭킹 순서대로 반환한다")
+        void findTopViewCounts_ShouldReturnInRankingOrder() {
             // given
-            Integer productId = 1;
-            String expectedKey = "product:viewcount:1";
-            given(valueOperations.increment(expectedKey)).willReturn(1L);
+            Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+            tuples.add(ZSetOperations.TypedTuple.of("2", 250.0));
+            tuples.add(ZSetOperations.TypedTuple.of("1", 120.0));
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(zSetOperations.reverseRangeWithScores("store:ranking:views", 0, 4)).willReturn(tuples);
 
             // when
-            Long result = cacheService.incrementViewCount(productId);
+            Map<Integer, Long> result = cacheService.findTopViewCounts(5);
 
             // then
-            assertThat(result).isEqualTo(1L);
-            verify(valueOperations).increment(expectedKey);
+            assertThat(result).containsExactly(Map.entry(2, 250L), Map.entry(1, 120L));
         }
 
         @Test
-        @DisplayName("여러 번 증가 시 증가된 조회수를 반환한다")
-        void incrementViewCount_ShouldReturnIncrementedValue() {
+        @DisplayName("랭킹이 비어 있으면 빈 Map을 반환한다")
+        void findTopViewCounts_ShouldReturnEmpty_WhenNoRanking() {
             // given
-            Integer productId = 1;
-            String expectedKey = "product:viewcount:1";
-            given(valueOperations.increment(expectedKey))
-                    .willReturn(1L)
-                    .willReturn(2L)
-                    .willReturn(3L);
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(zSetOperations.reverseRangeWithScores("store:ranking:views", 0, 4)).willReturn(Set.of());
 
             // when
-            Long result1 = cacheService.incrementViewCount(productId);
-            Long result2 = cacheService.incrementViewCount(productId);
-            Long result3 = cacheService.incrementViewCount(productId);
+            Map<Integer, Long> result = cacheService.findTopViewCounts(5);
 
             // then
-            assertThat(result1).isEqualTo(1L);
-            assertThat(result2).isEqualTo(2L);
-            assertThat(result3).isEqualTo(3L);
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("marker를 새로 기록한 경우에만 DB 조회수로 랭킹을 적재한다")
+        void initializeViewRanking_ShouldLoadOnce() {
+            // given
+            List<ProductViewSummary> summaries = List.of(new ProductViewSummary(1, "상품1", 10000, 100));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq("store:ranking:views-initialized"), anyString()))
+                    .willReturn(true, false);
+
+            // when
+            boolean first = cacheService.initializeViewRanking(summaries);
+            boolean second = cacheService.initializeViewRanking(summaries);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            verify(redisTemplate).executePipelined(any(RedisCallback.class));
         }
     }
 
@@ -139,80 +198,97 @@ class ProductCacheServiceTest {
     }
 
     @Nested
-    @DisplayName("조회수 삭제 테스트")
-    class DeleteViewCountTest {
+    @DisplayName("조회수 읽기 및 초기화 테스트")
+    class DrainViewCountsTest {
 
         @Test
-        @DisplayName("Redis에서 조회수를 삭제한다")
-        void deleteViewCount_ShouldDeleteFromRedis() {
+        @DisplayName("상품들의 조회수를 한 번에 읽고 0보다 큰 값만 반환한다")
+        void drainViewCounts_ShouldReturnPositiveViewCounts() {
             // given
-            Integer productId = 1;
-            String expectedKey = "product:viewcount:1";
-            given(redisTemplate.delete(expectedKey)).willReturn(true);
+            List<String> expectedKeys = List.of("product:viewcount:1", "product:viewcount:2", "product:viewcount:3");
+            given(redisTemplate.execute(any(RedisScript.class), eq(expectedKeys)))
+                    .willReturn(Arrays.asList("10", null, "0"));
 
             // when
-            cacheService.deleteViewCount(productId);
+            Map<Integer, Long> result = cacheService.drainViewCounts(List.of(1, 2, 3));
 
             // then
-            verify(redisTemplate).delete(expectedKey);
+            assertThat(result).containsExactly(Map.entry(1, 10L));
         }
-    }
 
-    @Nested
-    @DisplayName("모든 조회수 키 조회 테스트")
-    class GetAllViewCountKeysTest {
+        @Test
+        @DisplayName("상품 ID가 없으면 Redis를 호출하지 않는다")
+        void drainViewCounts_ShouldReturnEmpty_WhenNoProductIds() {
+            // when
+            Map<Integer, Long> result = cacheService.drainViewCounts(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList());
+        }
 
         @Test
-        @DisplayName("패턴에 맞는 모든 키를 조회한다")
-        void getAllViewCountKeys_ShouldReturnAllKeys() {
+        @DisplayName("DB 반영 실패 시 조회수를 되돌리고 dirty Set에 다시 기록한다")
+        void restoreViewCounts_ShouldIncrementAndMarkDirty() {
             // given
-            String pattern = "product:viewcount:*";
-            Set<String> keys = new HashSet<>(Arrays.asList(
-                    "product:viewcount:1",
-                    "product:viewcount:2",
-                    "product:viewcount:3"
-            ));
-            given(redisTemplate.keys(pattern)).willReturn(keys);
+            Map<Integer, Long> viewCounts = new LinkedHashMap<>();
+            viewCounts.put(1, 10L);
+            viewCounts.put(2, 5L);
 
             // when
-            List<String> result = cacheService.getAllViewCountKeys();
+            cacheService.restoreViewCounts(viewCounts);
 
             // then
-            assertThat(result).hasSize(3);
-            assertThat(result).containsExactlyInAnyOrder(
-                    "product:viewcount:1",
-                    "product:viewcount:2",
-                    "product:viewcount:3"
-            );
-            verify(redisTemplate).keys(pattern);
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("product:viewcount:1", "product:viewcount:2", "product:viewcount-dirty")),
+                    eq("10"), eq("5"), eq("1"), eq("2"));
+        }
+    }
+
+    @Nested
+    @DisplayName("dirty 상품 ID 조회 테스트")
+    class PopDirtyProductIdsTest {
+
+        @BeforeEach
+        void setUp() {
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
         }
 
         @Test
-        @DisplayName("키가 없으면 빈 리스트를 반환한다")
-        void getAllViewCountKeys_ShouldReturnEmptyList_WhenNoKeys() {
+        @DisplayName("dirty Set에서 상품 ID를 최대 count개 꺼낸다")
+        void popDirtyProductIds_ShouldPopFromDirtySet() {
             // given
-            String pattern = "product:viewcount:*";
-            given(redisTemplate.keys(pattern)).willReturn(new HashSet<>());
+            given(setOperations.pop("product:viewcount-dirty", 100)).willReturn(List.<Object>of("1", "2", "3"));
 
             // when
-            List<String> result = cacheService.getAllViewCountKeys();
+            List<Integer> result = cacheService.popDirtyProductIds(100);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result).containsExactly(1, 2, 3);
+            verify(setOperations).pop("product:viewcount-dirty", 100);
         }
 
         @Test
-        @DisplayName("null이 반환되면 빈 리스트를 반환한다")
-        void getAllViewCountKeys_ShouldReturnEmptyList_WhenNull() {
+        @DisplayName("dirty Set이 비어 있으면 빈 리스트를 반환한다")
+        void popDirtyProductIds_ShouldReturnEmptyList_WhenEmpty() {
             // given
-            String pattern = "product:viewcount:*";
-            given(redisTemplate.keys(pattern)).willReturn(null);
+            given(setOperations.pop("product:viewcount-dirty", 100)).willReturn(null);
 
             // when
-            List<String> result = cacheService.getAllViewCountKeys();
+            List<Integer> result = cacheService.popDirtyProductIds(100);
 
             // then
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("동기화 실패한 상품 ID를 dirty Set에 다시 기록한다")
+        void markDirty_ShouldAddToDirtySet() {
+            // when
+            cacheService.markDirty(List.of(1, 2));
+
+            // then
+            verify(setOperations).add("product:viewcount-dirty", "1", "2");
+        }
     }
-}
\ No newline at end of file
+}
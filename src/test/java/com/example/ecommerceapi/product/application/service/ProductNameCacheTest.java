@@ -0,0 +1,109 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductNameCache 단위 테스트")
+class ProductNameCacheTest {
+
+    private static final String KEY = "store:product:name";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductNameCache productNameCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("모든 상품명이 캐시에 있으면 DB를 조회하지 않는다")
+    void getNames_ShouldNotQueryDb_WhenAllCached() {
+        // given
+        given(hashOperations.multiGet(KEY, List.of("2", "1"))).willReturn(Arrays.asList("상품2", "상품1"));
+
+        // when
+        Map<Integer, String> names = productNameCache.getNames(List.of(2, 1));
+
+        // then
+        assertThat(names).containsOnly(Map.entry(1, "상품1"), Map.entry(2, "상품2"));
+        verify(productRepository, never()).findViewSummariesByIds(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품명만 DB에서 조회하여 캐시에 채운다")
+    void getNames_ShouldLoadMissingFromDb() {
+        // given
+        given(hashOperations.multiGet(KEY, List.of("1", "2"))).willReturn(Arrays.asList("상품1", null));
+        given(productRepository.findViewSummariesByIds(List.of(2)))
+                .willReturn(List.of(new ProductViewSummary(2, "상품2", 20000, 0)));
+
+        // when
+        Map<Integer, String> names = productNameCache.getNames(List.of(1, 2));
+
+        // then
+        assertThat(names).containsOnly(Map.entry(1, "상품1"), Map.entry(2, "상품2"));
+        verify(hashOperations).putAll(KEY, Map.of("2", "상품2"));
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 DB에서 조회한다")
+    void getNames_ShouldFallbackToDb_WhenRedisFails() {
+        // given
+        given(hashOperations.multiGet(KEY, List.of("1")))
+                .willThrow(new RuntimeException("Redis Connection Error"));
+        given(productRepository.findViewSummariesByIds(List.of(1)))
+                .willReturn(List.of(new ProductViewSummary(1, "상품1", 10000, 0)));
+
+        // when
+        Map<Integer, String> names = productNameCache.getNames(List.of(1));
+
+        // then
+        assertThat(names).containsOnly(Map.entry(1, "상품1"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 결과에서 제외되고 캐시에 기록하지 않는다")
+    void getNames_ShouldSkipUnknownProducts() {
+        // given
+        given(hashOperations.multiGet(KEY, List.of("999"))).willReturn(Arrays.asList((Object) null));
+        given(productRepository.findViewSummariesByIds(List.of(999))).willReturn(List.of());
+
+        // when
+        Map<Integer, String> names = productNameCache.getNames(List.of(999));
+
+        // then
+        assertThat(names).isEmpty();
+        verify(hashOperations, never()).putAll(any(), anyMap());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.product.domain.entity.OrderSales;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSalesRollupService 단위 테스트")
+class ProductSalesRollupServiceTest {
+
+    private static final LocalDate SALES_DATE = LocalDate.of(2025, 12, 3);
+
+    @Mock
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
+    @Mock
+    private PopularProductCacheService popularProductCacheService;
+
+    @InjectMocks
+    private ProductSalesRollupService productSalesRollupService;
+
+    @Nested
+    @DisplayName("주문 판매 수량 반영 테스트")
+    class RecordOrderSalesTest {
+
+        @Test
+        @DisplayName("일별 판매량에 반영한 뒤 인기 상품 캐시 무효화를 판단한다")
+        void recordOrderSales_ShouldEvictAfterApplied() {
+            // given
+            List<ProductQuantity> items = List.of(ProductQuantity.of(1, 2), ProductQuantity.of(2, 1));
+            given(productSalesDailyRepository.applyOrder(1, SALES_DATE, items)).willReturn(true);
+
+            // when
+            boolean applied = productSalesRollupService.recordOrderSales(1, SALES_DATE, items);
+
+            // then
+            assertThat(applied).isTrue();
+            InOrder inOrder = inOrder(productSalesDailyRepository, popularProductCacheService);
+            inOrder.verify(productSalesDailyRepository).applyOrder(1, SALES_DATE, items);
+            inOrder.verify(popularProductCacheService).evictSalesEntriesEnteredBy(List.of(1, 2), SALES_DATE);
+        }
+
+        @Test
+        @DisplayName("이미 반영된 주문이면 캐시를 무효화하지 않는다")
+        void recordOrderSales_ShouldNotEvict_WhenAlreadyApplied() {
+            // given
+            List<ProductQuantity> items = List.of(ProductQuantity.of(1, 2));
+            given(productSalesDailyRepository.applyOrder(1, SALES_DATE, items)).willReturn(false);
+
+            // when
+            boolean applied = productSalesRollupService.recordOrderSales(1, SALES_DATE, items);
+
+            // then
+            assertThat(applied).isFalse();
+            verify(popularProductCacheService, never()).evictSalesEntriesEnteredBy(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("캐시 무효화에 실패해도 반영 결과를 반환한다")
+        void recordOrderSales_ShouldReturnApplied_WhenEvictFails() {
+            // given
+            List<ProductQuantity> items = List.of(ProductQuantity.of(1, 2));
+            given(productSalesDailyRepository.applyOrder(1, SALES_DATE, items)).willReturn(true);
+            given(popularProductCacheService.evictSalesEntriesEnteredBy(List.of(1), SALES_DATE))
+                    .willThrow(new RuntimeException("Redis Error"));
+
+            // when
+            boolean applied = productSalesRollupService.recordOrderSales(1, SALES_DATE, items);
+
+            // then
+            assertThat(applied).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("누락 주문 재반영 테스트")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("반영되지 않은 결제 완료 주문을 다시 반영한다")
+        void reconcile_ShouldApplyUnappliedOrders() {
+            // given
+            LocalDateTime from = SALES_DATE.atStartOfDay();
+            LocalDateTime to = from.plusDays(1);
+            List<ProductQuantity> items1 = List.of(ProductQuantity.of(1, 2));
+            List<ProductQuantity> items2 = List.of(ProductQuantity.of(2, 1));
+            given(productSalesDailyRepository.findUnappliedPaidOrders(from, to, 500)).willReturn(List.of(
+                    new OrderSales(1, SALES_DATE, items1),
+                    new OrderSales(2, SALES_DATE, items2)
+            ));
+            given(productSalesDailyRepository.applyOrder(1, SALES_DATE, items1)).willReturn(true);
+            // 조회 이후 이벤트 처리로 먼저 반영된 주문
+            given(productSalesDailyRepository.applyOrder(2, SALES_DATE, items2)).willReturn(false);
+
+            // when
+            int reconciled = productSalesRollupService.reconcile(from, to, 500);
+
+            // then
+            assertThat(reconciled).isEqualTo(1);
+            verify(popularProductCacheService).evictSalesEntriesEnteredBy(List.of(1), SALES_DATE);
+        }
+    }
+}
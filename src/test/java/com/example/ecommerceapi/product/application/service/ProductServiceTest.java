@@ -2,12 +2,14 @@ package com.example.ecommerceapi.product.application.service;
 
 import com.example.ecommerceapi.common.exception.ErrorCode;
 import com.example.ecommerceapi.common.exception.ProductException;
-import com.example.ecommerceapi.order.domain.entity.OrderStatus;
-import com.example.ecommerceapi.order.domain.repository.OrderItemRepository;
 import com.example.ecommerceapi.product.application.dto.*;
+import com.example.ecommerceapi.product.application.enums.ProductStatisticType;
 import com.example.ecommerceapi.product.application.validator.ProductValidator;
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductSalesCount;
+import com.example.ecommerceapi.product.domain.entity.ProductViewSummary;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import com.example.ecommerceapi.product.domain.repository.ProductSalesDailyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,16 +18,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService 단위 테스트")
@@ -38,10 +45,19 @@ class ProductServiceTest {
     private ProductValidator productValidator;
 
     @Mock
-    private OrderItemRepository orderItemRepository;
+    private ProductSalesDailyRepository productSalesDailyRepository;
 
     @Mock
-    private ProductCacheService cacheService;
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private PopularProductCacheService popularProductCacheService;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private ProductNameCache productNameCache;
 
     @InjectMocks
     private ProductService productService;
@@ -172,12 +188,50 @@ class ProductServiceTest {
     @DisplayName("인기 상품 조회 테스트")
     class getPopularProductsTest {
 
+        /**
+         * 캐시 미스 상황: 캐시 서비스가 loader를 실행
+         */
+        private void givenCacheMiss(ProductStatisticType type, int days, int limit) {
+            given(popularProductCacheService.get(eq(type), eq(days), eq(limit), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        }
+
+        @Test
+        @DisplayName("조회수 기반 인기 상품을 Redis 조회수 랭킹 순서로 조회한다")
+        void getPopularProducts_ShouldReturnPopularProducts_ByViewRanking() {
+            // given
+            givenCacheMiss(ProductStatisticType.VIEWS, 3, 5);
+            // 랭킹 score는 DB 미반영 조회수를 포함
+            Map<Integer, Long> topViewCounts = new LinkedHashMap<>();
+            topViewCounts.put(2, 250L);
+            topViewCounts.put(1, 120L);
+            topViewCounts.put(3, 90L);
+            given(productCacheService.findTopViewCounts(5)).willReturn(topViewCounts);
+            given(productRepository.findViewSummariesByIds(topViewCounts.keySet())).willReturn(List.of(
+                    new ProductViewSummary(1, "상품1", 10000, 100),
+                    new ProductViewSummary(2, "상품2", 20000, 200)));
+
+            // when
+            List<PopularProductResult> result = productService.getPopularProducts("VIEWS", 3, 5);
+
+            // then - 삭제된 상품(3)은 제외
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).productId()).isEqualTo(2);
+            assertThat(result.get(0).viewCount()).isEqualTo(250);
+            assertThat(result.get(1).productId()).isEqualTo(1);
+            assertThat(result.get(1).viewCount()).isEqualTo(120);
+            verify(productRepository, never()).findPopularProductsByView(anyInt());
+        }
+
         @Test
-        @DisplayName("조회수 기반 인기 상품을 조회한다")
-        void getPopularProducts_ShouldReturnPopularProducts_ByViews() {
+        @DisplayName("조회수 랭킹이 비어 있으면 DB 조회수 인덱스로 조회한다")
+        void getPopularProducts_ShouldFallbackToDb_WhenViewRankingEmpty() {
             // given
-            List<Product> popularProducts = Arrays.asList(product2, product1);
-            given(productRepository.findPopularProductsByView(5)).willReturn(popularProducts);
+            givenCacheMiss(ProductStatisticType.VIEWS, 3, 5);
+            given(productCacheService.findTopViewCounts(5)).willReturn(Map.of());
+            given(productRepository.findPopularProductsByView(5)).willReturn(List.of(
+                    new ProductViewSummary(2, "상품2", 20000, 200),
+                    new ProductViewSummary(1, "상품1", 10000, 100)));
 
             // when
             List<PopularProductResult> result = productService.getPopularProducts("VIEWS", 3, 5);
@@ -194,37 +248,11 @@ class ProductServiceTest {
         @DisplayName("판매량 기반 인기 상품을 조회한다")
         void getPopularProducts_ShouldReturnPopularProducts_BySales() {
             // given
-            // PopularProductBySailsResult mock 객체 생성 (product2: 50개, product1: 30개 판매)
-            PopularProductBySailsResult result1 = new PopularProductBySailsResult() {
-                @Override
-                public Product getProduct() {
-                    return product2;
-                }
-
-                @Override
-                public Integer getSalesCount() {
-                    return 50;
-                }
-            };
-
-            PopularProductBySailsResult result2 = new PopularProductBySailsResult() {
-                @Override
-                public Product getProduct() {
-                    return product1;
-                }
-
-                @Override
-                public Integer getSalesCount() {
-                    return 30;
-                }
-            };
-
-            List<PopularProductBySailsResult> popularProducts = Arrays.asList(result1, result2);
-            given(orderItemRepository.findAllOrderByOrderQuantityDesc(
-                    eq(OrderStatus.PAID),
-                    any(LocalDateTime.class),
-                    any(PageRequest.class)
-            )).willReturn(popularProducts);
+            givenCacheMiss(ProductStatisticType.SALES, 3, 5);
+            // 일별 판매량 집계 기준 product2: 50개, product1: 30개 판매
+            given(productSalesDailyRepository.findTopSales(LocalDate.now().minusDays(3), 5))
+                    .willReturn(List.of(new ProductSalesCount(2, 50L), new ProductSalesCount(1, 30L)));
+            given(productRepository.findAllById(List.of(2, 1))).willReturn(Arrays.asList(product1, product2));
 
             // when
             List<PopularProductResult> result = productService.getPopularProducts("SALES", 3, 5);
@@ -246,6 +274,22 @@ class ProductServiceTest {
                     .hasMessage("지원하지 않는 상품 통계 타입입니다");
         }
 
+        @Test
+        @DisplayName("캐시된 결과가 있으면 집계 쿼리를 실행하지 않는다")
+        void getPopularProducts_ShouldNotQuery_WhenCached() {
+            // given
+            List<PopularProductResult> cached = List.of(new PopularProductResult(1, "상품1", 10000, 30, 100));
+            given(popularProductCacheService.get(eq(ProductStatisticType.SALES), eq(3), eq(5), any()))
+                    .willReturn(cached);
+
+            // when
+            List<PopularProductResult> result = productService.getPopularProducts("SALES", 3, 5);
+
+            // then
+            assertThat(result).isEqualTo(cached);
+            verifyNoInteractions(productSalesDailyRepository, productRepository);
+        }
+
     }
 
 
@@ -254,26 +298,26 @@ class ProductServiceTest {
     class incrementProductViewCountTest {
 
         @Test
-        @DisplayName("Redis를 통해 상품 조회수를 증가시킨다")
-        void incrementProductViewCount_ShouldIncreaseViewCount_InRedis() {
+        @DisplayName("노드 내 조회수 버퍼를 통해 상품 조회수를 증가시킨다")
+        void incrementProductViewCount_ShouldIncreaseViewCount_InBuffer() {
             // given
-            given(productValidator.validateAndGetProduct(1)).willReturn(product1);
-            given(cacheService.incrementViewCount(1)).willReturn(101L);
+            given(viewCountBuffer.increment(1)).willReturn(101L);
 
             // when
             IncrementProductViewResult result = productService.incrementProductViewCount(1);
 
             // then
             assertThat(result.viewCount()).isEqualTo(101);
-            verify(productValidator).validateAndGetProduct(1);
-            verify(cacheService).incrementViewCount(1);
+            verify(productValidator).validateProductExists(1);
+            verify(viewCountBuffer).increment(1);
         }
 
         @Test
         @DisplayName("존재하지 않는 상품의 조회수 증가 시 예외가 발생한다")
         void incrementProductViewCount_ShouldThrowException_WhenProductNotFound() {
             // given
-            given(productValidator.validateAndGetProduct(999)).willThrow(new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
+            willThrow(new ProductException(ErrorCode.PRODUCT_NOT_FOUND))
+                    .given(productValidator).validateProductExists(999);
 
             // when & then
             assertThatThrownBy(() -> productService.incrementProductViewCount(999))
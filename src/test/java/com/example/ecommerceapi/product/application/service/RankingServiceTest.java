@@ -1,7 +1,9 @@
 package com.example.ecommerceapi.product.application.service;
 
+import com.example.ecommerceapi.common.exception.ProductException;
 import com.example.ecommerceapi.product.application.dto.SalesRankingResult;
 import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
 import com.example.ecommerceapi.product.domain.repository.ProductRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 class RankingServiceTest {
@@ -50,14 +54,38 @@ class RankingServiceTest {
         assertThat(rankings.get(2).getTotalSalesCount()).isEqualTo(5);
     }
 
+    @Test
+    @DisplayName("일간 판매 랭킹 - 여러 상품 판매량을 한 번에 증가 (같은 상품은 합산), 주간 랭킹에 반영")
+    void incrementSalesCounts_ShouldUpdateDailyAndWeeklyRankings() {
+        // given
+        LocalDate today = LocalDate.now();
+        rankingService.incrementSalesCounts(List.of(
+                ProductQuantity.of(1, 10),
+                ProductQuantity.of(2, 20),
+                ProductQuantity.of(1, 15)
+        ), today);
+
+        // when
+        List<SalesRankingResult> dailyRankings = rankingService.getDailySalesRankings(today, 10);
+        List<SalesRankingResult> weeklyRankings = rankingService.getWeeklySalesRankings(today, 10);
+
+        // then
+        assertThat(dailyRankings).hasSize(2);
+        assertThat(dailyRankings.get(0).getProductId()).isEqualTo(1); // 25개
+        assertThat(dailyRankings.get(0).getTotalSalesCount()).isEqualTo(25);
+        assertThat(dailyRankings.get(1).getProductId()).isEqualTo(2); // 20개
+        assertThat(weeklyRankings).hasSize(2);
+        assertThat(weeklyRankings.get(0).getTotalSalesCount()).isEqualTo(25);
+    }
+
     @Test
     @DisplayName("주간 판매 랭킹 - 판매량 증가 및 조회")
     void incrementAndGetWeeklySalesRankings() {
         // given
         LocalDate today = LocalDate.now();
-        rankingService.incrementWeeklySalesCount(1, 15, today);
-        rankingService.incrementWeeklySalesCount(2, 25, today);
-        rankingService.incrementWeeklySalesCount(3, 8, today);
+        rankingService.incrementDailySalesCount(1, 15, today);
+        rankingService.incrementDailySalesCount(2, 25, today);
+        rankingService.incrementDailySalesCount(3, 8, today);
 
         // when
         List<SalesRankingResult> rankings = rankingService.getWeeklySalesRankings(today, 10);
@@ -92,12 +120,12 @@ class RankingServiceTest {
 
     @Test
     @DisplayName("주간 판매 랭킹 - 여러 번 증가 시 합산")
-    void incrementWeeklySalesCountMultipleTimes() {
+    void weeklySalesRankingsSumMultipleIncrements() {
         // given
         LocalDate today = LocalDate.now();
-        rankingService.incrementWeeklySalesCount(1, 7, today);
-        rankingService.incrementWeeklySalesCount(1, 4, today);
-        rankingService.incrementWeeklySalesCount(1, 3, today);
+        rankingService.incrementDailySalesCount(1, 7, today);
+        rankingService.incrementDailySalesCount(1, 4, today);
+        rankingService.incrementDailySalesCount(1, 3, today);
 
         // when
         List<SalesRankingResult> rankings = rankingService.getWeeklySalesRankings(today, 10);
@@ -134,11 +162,11 @@ class RankingServiceTest {
     void getWeeklySalesRankingsWithLimit() {
         // given
         LocalDate today = LocalDate.now();
-        rankingService.incrementWeeklySalesCount(1, 10, today);
-        rankingService.incrementWeeklySalesCount(2, 20, today);
-        rankingService.incrementWeeklySalesCount(3, 30, today);
-        rankingService.incrementWeeklySalesCount(4, 40, today);
-        rankingService.incrementWeeklySalesCount(5, 50, today);
+        rankingService.incrementDailySalesCount(1, 10, today);
+        rankingService.incrementDailySalesCount(2, 20, today);
+        rankingService.incrementDailySalesCount(3, 30, today);
+        rankingService.incrementDailySalesCount(4, 40, today);
+        rankingService.incrementDailySalesCount(5, 50, today);
 
         // when
         List<SalesRankingResult> rankings = rankingService.getWeeklySalesRankings(today, 3);
@@ -150,6 +178,55 @@ class RankingServiceTest {
         assertThat(rankings.get(2).getProductId()).isEqualTo(3); // 30개
     }
 
+    @Test
+    @DisplayName("주간 판매 랭킹 - 같은 주의 일간 판매량을 합산")
+    void weeklySalesRankingsSumDailyRankingsInWeek() {
+        // given
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        rankingService.incrementDailySalesCount(1, 10, monday);
+        rankingService.incrementDailySalesCount(1, 5, monday.plusDays(6));
+        rankingService.incrementDailySalesCount(2, 30, monday.minusDays(1)); // 지난 주
+
+        // when
+        List<SalesRankingResult> rankings = rankingService.getWeeklySalesRankings(monday.plusDays(3), 10);
+
+        // then
+        assertThat(rankings).hasSize(1);
+        assertThat(rankings.get(0).getProductId()).isEqualTo(1);
+        assertThat(rankings.get(0).getTotalSalesCount()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("최근 N일 판매 랭킹 - 오늘 포함 N일의 일간 판매량을 합산")
+    void getRollingSalesRankings() {
+        // given
+        LocalDate today = LocalDate.now();
+        rankingService.incrementDailySalesCount(1, 10, today);
+        rankingService.incrementDailySalesCount(2, 8, today.minusDays(2));
+        rankingService.incrementDailySalesCount(1, 5, today.minusDays(2));
+        rankingService.incrementDailySalesCount(3, 100, today.minusDays(3)); // 3일 범위 밖
+
+        // when
+        List<SalesRankingResult> rankings = rankingService.getRollingSalesRankings(3, 10);
+
+        // then
+        assertThat(rankings).hasSize(2);
+        assertThat(rankings.get(0).getProductId()).isEqualTo(1); // 15개
+        assertThat(rankings.get(0).getTotalSalesCount()).isEqualTo(15);
+        assertThat(rankings.get(0).getRank()).isEqualTo(1);
+        assertThat(rankings.get(1).getProductId()).isEqualTo(2); // 8개
+        assertThat(rankings.get(1).getTotalSalesCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("최근 N일 판매 랭킹 - 지원 범위(1~30일)를 벗어나면 예외")
+    void getRollingSalesRankings_ShouldThrow_WhenDaysOutOfRange() {
+        assertThatThrownBy(() -> rankingService.getRollingSalesRankings(0, 10))
+                .isInstanceOf(ProductException.class);
+        assertThatThrownBy(() -> rankingService.getRollingSalesRankings(31, 10))
+                .isInstanceOf(ProductException.class);
+    }
+
     @Test
     @DisplayName("일간 판매 랭킹 - 서로 다른 날짜는 독립적")
     void dailySalesRankingsAreSeparatedByDate() {
@@ -188,29 +265,13 @@ class RankingServiceTest {
         assertThat(rankings).isEmpty();
     }
 
-    @Test
-    @DisplayName("주간 판매 랭킹 삭제")
-    void deleteWeeklyRanking() {
-        // given
-        LocalDate today = LocalDate.now();
-        rankingService.incrementWeeklySalesCount(1, 10, today);
-        rankingService.incrementWeeklySalesCount(2, 20, today);
-
-        // when
-        rankingService.deleteWeeklyRanking(today);
-        List<SalesRankingResult> rankings = rankingService.getWeeklySalesRankings(today, 10);
-
-        // then
-        assertThat(rankings).isEmpty();
-    }
-
     @Test
     @DisplayName("모든 랭킹 데이터 초기화")
     void clearAllRankings() {
         // given
         LocalDate today = LocalDate.now();
         rankingService.incrementDailySalesCount(1, 10, today);
-        rankingService.incrementWeeklySalesCount(1, 10, today);
+        rankingService.getWeeklySalesRankings(today, 10);
 
         // when
         rankingService.clearAllRankings();
@@ -251,8 +312,8 @@ class RankingServiceTest {
         Product product1 = productRepository.findById(1);
         Product product2 = productRepository.findById(2);
 
-        rankingService.incrementWeeklySalesCount(1, 10, today);
-        rankingService.incrementWeeklySalesCount(2, 20, today);
+        rankingService.incrementDailySalesCount(1, 10, today);
+        rankingService.incrementDailySalesCount(2, 20, today);
 
         // when
         List<SalesRankingResult> rankings = rankingService.getWeeklySalesRankings(today, 10);
@@ -0,0 +1,89 @@
+package com.example.ecommerceapi.product.application.service;
+
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesRankingBuffer 단위 테스트")
+class SalesRankingBufferTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 3);
+
+    @Mock
+    private RankingService rankingService;
+
+    @InjectMocks
+    private SalesRankingBuffer salesRankingBuffer;
+
+    @Test
+    @DisplayName("판매 수량 추가는 Redis를 호출하지 않고 버퍼에 누적된다")
+    void add_ShouldAccumulateWithoutRedis() {
+        // when
+        salesRankingBuffer.add(List.of(ProductQuantity.of(1, 2)), TODAY);
+
+        // then
+        verify(rankingService, never()).incrementSalesCounts(any(), any());
+    }
+
+    @Test
+    @DisplayName("flush 시 여러 주문의 판매 수량을 날짜별로 합산해 한 번에 반영한다")
+    void flush_ShouldCoalesceOrders() {
+        // given
+        salesRankingBuffer.add(List.of(ProductQuantity.of(2, 1), ProductQuantity.of(1, 2)), TODAY);
+        salesRankingBuffer.add(List.of(ProductQuantity.of(1, 3)), TODAY);
+        salesRankingBuffer.add(List.of(ProductQuantity.of(3, 1)), TODAY.minusDays(1));
+
+        // when
+        int flushed = salesRankingBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        verify(rankingService).incrementSalesCounts(List.of(ProductQuantity.of(1, 5), ProductQuantity.of(2, 1)), TODAY);
+        verify(rankingService).incrementSalesCounts(List.of(ProductQuantity.of(3, 1)), TODAY.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("누적된 판매 수량이 없으면 Redis를 호출하지 않는다")
+    void flush_ShouldDoNothing_WhenEmpty() {
+        // when
+        int flushed = salesRankingBuffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(rankingService, never()).incrementSalesCounts(any(), any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 판매 수량은 버퍼에 되돌려 다음 flush에서 재시도한다")
+    void flush_ShouldRestoreQuantities_WhenRedisFails() {
+        // given
+        salesRankingBuffer.add(List.of(ProductQuantity.of(1, 2)), TODAY);
+        willThrow(new RuntimeException("Redis Connection Error"))
+                .willDoNothing()
+                .given(rankingService).incrementSalesCounts(List.of(ProductQuantity.of(1, 2)), TODAY);
+
+        // when
+        assertThatThrownBy(() -> salesRankingBuffer.flush()).isInstanceOf(RuntimeException.class);
+        int flushed = salesRankingBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        verify(rankingService, times(2)).incrementSalesCounts(List.of(ProductQuantity.of(1, 2)), TODAY);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ecommerceapi.product.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewCountBuffer 단위 테스트")
+class ViewCountBufferTest {
+
+    @Mock
+    private ProductCacheService cacheService;
+
+    @InjectMocks
+    private ViewCountBuffer viewCountBuffer;
+
+    @Test
+    @DisplayName("증가 요청은 Redis를 호출하지 않고 버퍼에 누적된다")
+    void increment_ShouldAccumulateWithoutRedis() {
+        // when
+        long first = viewCountBuffer.increment(1);
+        long second = viewCountBuffer.increment(1);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+        verify(cacheService, never()).incrementViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("flush 시 상품별 누적 증가량을 한 번에 반영하고, 이후 조회수는 Redis 값 기준으로 이어진다")
+    void flush_ShouldSendAggregatedDeltas() {
+        // given
+        viewCountBuffer.increment(1);
+        viewCountBuffer.increment(1);
+        viewCountBuffer.increment(2);
+        given(cacheService.incrementViewCounts(Map.of(1, 2L, 2, 1L))).willReturn(Map.of(1, 52L, 2, 11L));
+
+        // when
+        int flushed = viewCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(cacheService).incrementViewCounts(Map.of(1, 2L, 2, 1L));
+        assertThat(viewCountBuffer.increment(1)).isEqualTo(53L);
+    }
+
+    @Test
+    @DisplayName("누적된 증가량이 없으면 Redis를 호출하지 않는다")
+    void flush_ShouldDoNothing_WhenEmpty() {
+        // when
+        int flushed = viewCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(cacheService, never()).incrementViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가량은 버퍼에 되돌려 다음 flush에서 재시도한다")
+    void flush_ShouldRestoreDeltas_WhenRedisFails() {
+        // given
+        viewCountBuffer.increment(1);
+        viewCountBuffer.increment(1);
+        given(cacheService.incrementViewCounts(Map.of(1, 2L)))
+                .willThrow(new RuntimeException("Redis Connection Error"))
+                .willReturn(Map.of(1, 2L));
+
+        // when
+        assertThatThrownBy(() -> viewCountBuffer.flush()).isInstanceOf(RuntimeException.class);
+        int flushed = viewCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(viewCountBuffer.increment(1)).isEqualTo(3L);
+    }
+}
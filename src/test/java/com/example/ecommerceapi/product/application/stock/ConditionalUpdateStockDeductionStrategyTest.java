@@ -0,0 +1,73 @@
+package com.example.ecommerceapi.product.application.stock;
+
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConditionalUpdateStockDeductionStrategy 단위 테스트")
+class ConditionalUpdateStockDeductionStrategyTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ConditionalUpdateStockDeductionStrategy strategy;
+
+    @Test
+    @DisplayName("같은 상품은 합산하고 상품 ID 순서로 한 번에 조건부 차감한다")
+    void decreaseStock_ShouldMergeAndSortItems() {
+        // given
+        List<ProductQuantity> expected = List.of(ProductQuantity.of(1, 4), ProductQuantity.of(2, 3));
+        given(productRepository.decreaseStockIfAvailable(expected)).willReturn(List.of());
+
+        // when
+        strategy.decreaseStock(List.of(ProductQuantity.of(2, 3), ProductQuantity.of(1, 1), ProductQuantity.of(1, 3)));
+
+        // then
+        verify(productRepository).decreaseStockIfAvailable(expected);
+        verify(productRepository, never()).findByIdWithLock(anyInt());
+    }
+
+    @Test
+    @DisplayName("차감되지 않은 상품이 있으면 재고 부족 예외가 발생한다")
+    void decreaseStock_ShouldThrowException_WhenStockInsufficient() {
+        // given
+        List<ProductQuantity> items = List.of(ProductQuantity.of(1, 100));
+        given(productRepository.decreaseStockIfAvailable(items)).willReturn(List.of(1));
+        given(productRepository.findById(1)).willReturn(Product.builder().productId(1).quantity(10).build());
+
+        // when & then
+        assertThatThrownBy(() -> strategy.decreaseStock(items))
+                .isInstanceOf(ProductException.class)
+                .hasMessage("상품 재고가 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 상품 미존재 예외가 발생한다")
+    void decreaseStock_ShouldThrowException_WhenProductNotFound() {
+        // given
+        List<ProductQuantity> items = List.of(ProductQuantity.of(999, 1));
+        given(productRepository.decreaseStockIfAvailable(items)).willReturn(List.of(999));
+        given(productRepository.findById(999)).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> strategy.decreaseStock(items))
+                .isInstanceOf(ProductException.class)
+                .hasMessage("존재하는 상품이 아닙니다.");
+    }
+}
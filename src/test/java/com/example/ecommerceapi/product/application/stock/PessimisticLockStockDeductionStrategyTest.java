@@ -0,0 +1,63 @@
+package com.example.ecommerceapi.product.application.stock;
+
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PessimisticLockStockDeductionStrategy 단위 테스트")
+class PessimisticLockStockDeductionStrategyTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private PessimisticLockStockDeductionStrategy strategy;
+
+    @Test
+    @DisplayName("상품 ID 순서대로 락을 획득하여 재고를 차감한다")
+    void decreaseStock_ShouldLockInProductIdOrder() {
+        // given
+        Product product1 = Product.builder().productId(1).quantity(10).build();
+        Product product2 = Product.builder().productId(2).quantity(5).build();
+        given(productRepository.findByIdWithLock(1)).willReturn(product1);
+        given(productRepository.findByIdWithLock(2)).willReturn(product2);
+
+        // when
+        strategy.decreaseStock(List.of(ProductQuantity.of(2, 3), ProductQuantity.of(1, 4)));
+
+        // then
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).findByIdWithLock(1);
+        inOrder.verify(productRepository).findByIdWithLock(2);
+        assertThat(product1.getQuantity()).isEqualTo(6);
+        assertThat(product2.getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 예외가 발생한다")
+    void decreaseStock_ShouldThrowException_WhenProductNotFound() {
+        // given
+        given(productRepository.findByIdWithLock(999)).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> strategy.decreaseStock(List.of(ProductQuantity.of(999, 1))))
+                .isInstanceOf(ProductException.class)
+                .hasMessage("존재하는 상품이 아닙니다.");
+        verify(productRepository, never()).save(any());
+    }
+}
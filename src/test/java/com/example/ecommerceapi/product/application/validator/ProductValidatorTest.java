@@ -0,0 +1,107 @@
+package com.example.ecommerceapi.product.application.validator;
+
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductValidator 단위 테스트")
+class ProductValidatorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductValidator productValidator;
+
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        product1 = Product.builder()
+                .productId(1)
+                .productName("상품1")
+                .productPrice(10000)
+                .quantity(10)
+                .build();
+
+        product2 = Product.builder()
+                .productId(2)
+                .productName("상품2")
+                .productPrice(20000)
+                .quantity(5)
+                .build();
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 조회하여 productId 기준 Map으로 반환한다")
+    void validateAndGetProducts_ShouldReturnProductMap_WhenAllProductsExist() {
+        // given
+        given(productRepository.findAllById(List.of(1, 2))).willReturn(List.of(product1, product2));
+
+        // when
+        Map<Integer, Product> result = productValidator.validateAndGetProducts(List.of(1, 2, 1));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1)).isSameAs(product1);
+        assertThat(result.get(2)).isSameAs(product2);
+        verify(productRepository).findAllById(List.of(1, 2));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이 포함되어 있으면 예외가 발생한다")
+    void validateAndGetProducts_ShouldThrowException_WhenAnyProductNotFound() {
+        // given
+        given(productRepository.findAllById(List.of(1, 999))).willReturn(List.of(product1));
+
+        // when & then
+        assertThatThrownBy(() -> productValidator.validateAndGetProducts(List.of(1, 999)))
+                .isInstanceOf(ProductException.class)
+                .hasMessage("존재하는 상품이 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("존재가 확인된 상품은 다시 검증할 때 DB를 조회하지 않는다")
+    void validateProductExists_ShouldCacheExistingProduct() {
+        // given
+        given(productRepository.findById(1)).willReturn(product1);
+
+        // when
+        productValidator.validateProductExists(1);
+        productValidator.validateProductExists(1);
+
+        // then
+        verify(productRepository, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 캐싱하지 않고 매번 예외가 발생한다")
+    void validateProductExists_ShouldNotCacheMissingProduct() {
+        // given
+        given(productRepository.findById(999)).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> productValidator.validateProductExists(999))
+                .isInstanceOf(ProductException.class);
+        assertThatThrownBy(() -> productValidator.validateProductExists(999))
+                .isInstanceOf(ProductException.class);
+        verify(productRepository, times(2)).findById(999);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.ecommerceapi.product.infrastructure.persistence;
+
+import com.example.ecommerceapi.common.AbstractIntegrationTest;
+import com.example.ecommerceapi.product.domain.entity.OrderSales;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.entity.ProductSalesCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 초기 데이터(주문 결제 이벤트)의 집계와 겹치지 않도록 존재하지 않는 상품 ID와 큰 수량을 사용합니다.
+ */
+@SpringBootTest
+@DisplayName("JdbcProductSalesDailyRepository 통합 테스트")
+class JdbcProductSalesDailyRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private JdbcProductSalesDailyRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 주문은 한 번만 일별 판매량에 반영된다")
+    void applyOrder_ShouldBeIdempotentPerOrder() {
+        // given
+        List<ProductQuantity> items = List.of(ProductQuantity.of(9001, 1000));
+
+        // when
+        boolean first = repository.applyOrder(900001, TODAY, items);
+        boolean second = repository.applyOrder(900001, TODAY, items);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        Long quantity = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM product_sales_daily WHERE product_id = ? AND sales_date = ?",
+                Long.class, 9001, TODAY);
+        assertThat(quantity).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("기간 내 일별 판매량을 상품별로 합산하여 판매량 순으로 조회한다")
+    void findTopSales_ShouldSumDailySalesWithinPeriod() {
+        // given
+        repository.applyOrder(900011, TODAY.minusDays(10), List.of(ProductQuantity.of(9012, 100000)));
+        repository.applyOrder(900012, TODAY.minusDays(2), List.of(
+                ProductQuantity.of(9011, 3000),
+                ProductQuantity.of(9012, 2000),
+                ProductQuantity.of(9011, 500)));
+        repository.applyOrder(900013, TODAY, List.of(ProductQuantity.of(9012, 1000)));
+
+        // when
+        List<ProductSalesCount> result = repository.findTopSales(TODAY.minusDays(3), 2);
+
+        // then: 기간 밖(10일 전) 판매량은 제외
+        assertThat(result).containsExactly(
+                new ProductSalesCount(9011, 3500L),
+                new ProductSalesCount(9012, 3000L)
+        );
+    }
+
+    @Test
+    @DisplayName("기간 내 상품별 판매량 합계를 조회한다")
+    void sumSales_ShouldSumSalesSinceStartDate() {
+        // given
+        repository.applyOrder(900021, TODAY.minusDays(10), List.of(ProductQuantity.of(9021, 100000)));
+        repository.applyOrder(900022, TODAY.minusDays(1), List.of(
+                ProductQuantity.of(9021, 300),
+                ProductQuantity.of(9022, 200)));
+        repository.applyOrder(900023, TODAY, List.of(ProductQuantity.of(9021, 100)));
+
+        // when
+        Map<Integer, Long> result = repository.sumSales(List.of(9021, 9022, 9023), TODAY.minusDays(3));
+
+        // then: 판매 기록이 없는 상품은 제외
+        assertThat(result).containsOnly(
+                Map.entry(9021, 400L),
+                Map.entry(9022, 200L)
+        );
+    }
+
+    @Test
+    @DisplayName("결제 완료되었으나 일별 판매량에 반영되지 않은 주문만 조회한다")
+    void findUnappliedPaidOrders_ShouldReturnOnlyUnappliedPaidOrders() {
+        // given: 다른 데이터와 겹치지 않도록 과거 결제 시각 사용
+        LocalDateTime paidAt = LocalDateTime.of(2000, 1, 1, 10, 0);
+        insertOrder(990001, "PAID", paidAt);
+        insertOrderItem(990001, 990001, 9031, 2);
+        insertOrderItem(990002, 990001, 9032, 1);
+        insertOrder(990002, "PAID", paidAt.plusMinutes(1));
+        insertOrderItem(990003, 990002, 9031, 5);
+        insertOrder(990003, "PENDING", paidAt.plusMinutes(2));
+        insertOrderItem(990004, 990003, 9031, 7);
+        repository.applyOrder(990002, paidAt.toLocalDate(), List.of(ProductQuantity.of(9031, 5)));
+
+        // when
+        List<OrderSales> result = repository.findUnappliedPaidOrders(paidAt.minusHours(1), paidAt.plusHours(1), 10);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).orderId()).isEqualTo(990001);
+        assertThat(result.get(0).salesDate()).isEqualTo(paidAt.toLocalDate());
+        assertThat(result.get(0).items()).containsExactlyInAnyOrder(
+                ProductQuantity.of(9031, 2),
+                ProductQuantity.of(9032, 1)
+        );
+    }
+
+    private void insertOrder(int orderId, String status, LocalDateTime updatedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_id, user_id, order_status, total_order_amount, total_discount_amount,
+                                    used_point, final_payment_amount, delivery_username, delivery_address,
+                                    created_at, updated_at)
+                VALUES (?, 1, ?, 10000, 0, 0, 10000, '테스트', '서울', ?, ?)
+                """, orderId, status, updatedAt, updatedAt);
+    }
+
+    private void insertOrderItem(int orderItemId, int orderId, int productId, int quantity) {
+        jdbcTemplate.update("""
+                INSERT INTO order_item (order_item_id, order_id, product_id, product_name, description,
+                                        product_price, order_quantity, total_price)
+                VALUES (?, ?, ?, '테스트 상품', '설명', 1000, ?, ?)
+                """, orderItemId, orderId, productId, quantity, quantity * 1000);
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.ecommerceapi.product.infrastructure.stock;
+
+import com.example.ecommerceapi.common.AbstractIntegrationTest;
+import com.example.ecommerceapi.common.exception.ProductException;
+import com.example.ecommerceapi.common.redis.StorageType;
+import com.example.ecommerceapi.product.domain.entity.Product;
+import com.example.ecommerceapi.product.domain.entity.ProductQuantity;
+import com.example.ecommerceapi.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "stock.deduction.type=REDIS")
+@DisplayName("Redis 재고 차감 전략 통합 테스트")
+class RedisStockDeductionStrategyIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RedisStockDeductionStrategy strategy;
+
+    @Autowired
+    private RedisStockWriteBehindScheduler writeBehindScheduler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final int THREAD_COUNT = 20;
+
+    private Integer productId;
+
+    @BeforeEach
+    void setUp() {
+        clearAllRedisKeys();
+        productRepository.clear();
+        Product product = Product.builder()
+                .productName("한정 상품")
+                .description("재고 10개")
+                .productPrice(1000)
+                .quantity(10)
+                .viewCount(0)
+                .build();
+        productRepository.save(product);
+        productId = product.getProductId();
+    }
+
+    @Test
+    @DisplayName("동시에 재고 차감을 요청해도 재고 수량만큼만 성공하고 DB에 차감량이 반영된다")
+    void decreaseStock_ShouldNotOversell_WhenConcurrentRequests() throws InterruptedException {
+        // given
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            strategy.decreaseStock(List.of(ProductQuantity.of(productId, 1))));
+                    successCount.incrementAndGet();
+                } catch (ProductException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        writeBehindScheduler.syncStockToDatabase();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(THREAD_COUNT - 10);
+        assertThat(redisTemplate.opsForValue().get(StorageType.PRODUCT_STOCK.getKeyWithId(productId))).isEqualTo("0");
+        assertThat(productRepository.findById(productId).getQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 Redis 재고가 원복되고 DB에는 반영되지 않는다")
+    void decreaseStock_ShouldRestoreStock_WhenTransactionRolledBack() {
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            strategy.decreaseStock(List.of(ProductQuantity.of(productId, 3)));
+            throw new IllegalStateException("결제 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        writeBehindScheduler.syncStockToDatabase();
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(StorageType.PRODUCT_STOCK.getKeyWithId(productId))).isEqualTo("10");
+        assertThat(productRepository.findById(productId).getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 상품 중 하나라도 재고가 부족하면 어떤 상품도 차감되지 않는다")
+    void decreaseStock_ShouldNotDecreaseAny_WhenOneProductInsufficient() {
+        // given
+        Product other = Product.builder()
+                .productName("일반 상품")
+                .description("재고 100개")
+                .productPrice(1000)
+                .quantity(100)
+                .viewCount(0)
+                .build();
+        productRepository.save(other);
+
+        // when & then
+        assertThatThrownBy(() -> strategy.decreaseStock(List.of(
+                ProductQuantity.of(other.getProductId(), 5),
+                ProductQuantity.of(productId, 11))))
+                .isInstanceOf(ProductException.class)
+                .hasMessage("상품 재고가 부족합니다.");
+
+        assertThat(redisTemplate.opsForValue().get(StorageType.PRODUCT_STOCK.getKeyWithId(other.getProductId()))).isEqualTo("100");
+        assertThat(redisTemplate.opsForValue().get(StorageType.PRODUCT_STOCK.getKeyWithId(productId))).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 processing key 삭제에 실패해 같은 batch를 다시 읽어도 재고는 한 번만 차감된다")
+    void syncStockToDatabase_ShouldNotApplyTwice_WhenSameBatchReplayed() {
+        // given - batch-1 반영은 커밋됐지만 processing key가 남은 상태
+        productRepository.decreaseStocks("batch-1", List.of(ProductQuantity.of(productId, 3)));
+        redisTemplate.opsForHash().put(RedisStockWriteBehindScheduler.PROCESSING_KEY, String.valueOf(productId), "3");
+        redisTemplate.opsForValue().set(RedisStockWriteBehindScheduler.PROCESSING_BATCH_KEY, "batch-1");
+
+        // when
+        writeBehindScheduler.syncStockToDatabase();
+
+        // then
+        assertThat(productRepository.findById(productId).getQuantity()).isEqualTo(7);
+        assertThat(redisTemplate.hasKey(RedisStockWriteBehindScheduler.PROCESSING_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(RedisStockWriteBehindScheduler.PROCESSING_BATCH_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 processing lock을 보유 중이면 차감량을 반영하지 않는다")
+    void syncStockToDatabase_ShouldSkip_WhenAnotherNodeProcessing() {
+        // given
+        strategy.decreaseStock(List.of(ProductQuantity.of(productId, 2)));
+        redisTemplate.opsForValue().set(RedisStockWriteBehindScheduler.PROCESSING_LOCK_KEY, "other-node");
+
+        // when
+        writeBehindScheduler.syncStockToDatabase();
+
+        // then
+        assertThat(productRepository.findById(productId).getQuantity()).isEqualTo(10);
+        assertThat(redisTemplate.opsForHash().get(StorageType.PRODUCT_STOCK_PENDING.getKey(), String.valueOf(productId)))
+                .isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 batch 기록만 삭제한다")
+    void pruneAppliedBatches_ShouldDeleteOnlyExpiredBatches() {
+        // given
+        productRepository.decreaseStocks("batch-expired", List.of(ProductQuantity.of(productId, 1)));
+        productRepository.decreaseStocks("batch-recent", List.of(ProductQuantity.of(productId, 1)));
+        jdbcTemplate.update("UPDATE product_stock_sync_batch SET applied_at = ? WHERE batch_id = ?",
+                LocalDateTime.now().minusDays(2), "batch-expired");
+
+        // when
+        writeBehindScheduler.pruneAppliedBatches();
+
+        // then
+        List<String> batchIds = jdbcTemplate.queryForList(
+                "SELECT batch_id FROM product_stock_sync_batch WHERE batch_id IN ('batch-expired', 'batch-recent')",
+                String.class);
+        assertThat(batchIds).containsExactly("batch-recent");
+    }
+}
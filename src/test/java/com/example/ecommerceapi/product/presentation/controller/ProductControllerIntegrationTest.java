@@ -131,6 +131,20 @@ class ProductControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(lessThanOrEqualTo(3))));
     }
 
+    @Test
+    @DisplayName("GET /api/products/popular - 조회 기간이나 개수가 최대값을 넘으면 400을 반환한다")
+    void getPopularProducts_ShouldReturnBadRequest_WhenParamsExceedMax() throws Exception {
+        mockMvc.perform(get("/api/products/popular")
+                        .param("days", "31"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/products/popular")
+                        .param("limit", "101"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("PATCH /api/products/{productId}/view - 상품 조회수를 증가시킨다")
     void incrementProductViewCount_ShouldIncreaseViewCount_WhenProductExists() throws Exception {
@@ -201,4 +201,38 @@ class RankingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)));
     }
+
+    @Test
+    @DisplayName("최근 N일 판매 랭킹 조회 - 기간 지정")
+    void getRollingSalesRankings_WithDays() throws Exception {
+        // given
+        List<SalesRankingResult> rankings = Arrays.asList(
+                new SalesRankingResult(2, "상품2", 300L, 1L),
+                new SalesRankingResult(1, "상품1", 120L, 2L)
+        );
+
+        given(rankingService.getRollingSalesRankings(30, 5)).willReturn(rankings);
+
+        // when & then
+        mockMvc.perform(get("/api/rankings/sales/rolling")
+                        .param("days", "30")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].productId").value(2))
+                .andExpect(jsonPath("$[0].totalSalesCount").value(300))
+                .andExpect(jsonPath("$[1].rank").value(2));
+    }
+
+    @Test
+    @DisplayName("최근 N일 판매 랭킹 조회 - 기본값(7일, 10개) 적용")
+    void getRollingSalesRankings_Defaults() throws Exception {
+        // given
+        given(rankingService.getRollingSalesRankings(7, 10)).willReturn(Collections.emptyList());
+
+        // when & then
+        mockMvc.perform(get("/api/rankings/sales/rolling"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
 }